@@ -0,0 +1,35 @@
+package com.example.demo;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks, accepting the usual JMH command-line options. Unless a result format is given, results
+ * are also written as JSON to {@code target/jmh-results.json}, so runs can be compared to track the engine's scaling
+ * curve and catch regressions.
+ */
+public class BenchmarkMain {
+
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-results.json";
+
+    /**
+     * Runs the benchmarks selected by the arguments, or all of them.
+     *
+     * @param args JMH command-line options, e.g. a benchmark name pattern or {@code -p actors=1000}
+     * @throws CommandLineOptionException if the arguments are not valid JMH options
+     * @throws RunnerException if a benchmark fails to run
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON).result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
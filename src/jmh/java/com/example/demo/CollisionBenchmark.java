@@ -0,0 +1,76 @@
+package com.example.demo;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+import com.example.demo.activeactor.EnemyMissiles;
+import com.example.demo.activeactor.PlayerMissiles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CollisionHandler#handleCollisions} as the number of actors grows, and compares its pairwise and
+ * broadphase paths directly. Actors are spread over an area that grows with their count, so density stays constant
+ * and the broadphase cost should grow roughly linearly while the pairwise cost grows quadratically.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CollisionBenchmark {
+
+    private static final double AREA_PER_ACTOR = 20_000;
+
+    @Param({"10", "100", "1000", "10000", "50000"})
+    public int actors;
+
+    private List<ActiveActorDestructible> friendly;
+    private List<ActiveActorDestructible> enemy;
+
+    /**
+     * Scatters half the actors as player missiles and half as enemy missiles. Pairs that overlap keep colliding on
+     * every call, so each call does the same work.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(actors);
+        double side = Math.sqrt(actors * AREA_PER_ACTOR);
+        friendly = new ArrayList<>();
+        enemy = new ArrayList<>();
+        for (int i = 0; i < actors / 2; i++) {
+            friendly.add(PlayerMissiles.create(random.nextDouble() * side, random.nextDouble() * side));
+            enemy.add(EnemyMissiles.create(random.nextDouble() * side, random.nextDouble() * side));
+        }
+    }
+
+    /**
+     * The entry point the game loop uses, which picks a path by list size.
+     */
+    @Benchmark
+    public void handleCollisions() {
+        CollisionHandler.handleCollisions(friendly, enemy);
+    }
+
+    /**
+     * The broadphase path on its own, whatever the list size.
+     */
+    @Benchmark
+    public void broadphase() {
+        CollisionHandler.handleCollisionsWithBroadphase(friendly, enemy);
+    }
+}
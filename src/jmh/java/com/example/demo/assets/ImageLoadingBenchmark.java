@@ -0,0 +1,76 @@
+package com.example.demo.assets;
+
+import com.example.demo.activeactor.ActiveActor;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading sprites through the {@link ImageCache}: decoding an image at its drawn size on a cache miss, and
+ * looking up an already decoded image on a hit. Decoding needs the JavaFX toolkit, so this benchmark has to run on a
+ * machine with a display.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ImageLoadingBenchmark {
+
+    @Param({"userplane.png:45", "enemyplane.png:57", "bossplane.png:57", "meteor.png:70"})
+    public String sprite;
+
+    private String path;
+    private int height;
+
+    /**
+     * Starts the JavaFX toolkit and resolves the sprite under test.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        try {
+            Platform.startup(() -> {
+            });
+        } catch (IllegalStateException e) {
+            // Already started by an earlier trial in this JVM
+        }
+        int colon = sprite.lastIndexOf(':');
+        path = ActiveActor.IMAGE_LOCATION + sprite.substring(0, colon);
+        height = Integer.parseInt(sprite.substring(colon + 1));
+    }
+
+    /**
+     * Decodes the sprite from its resource on every call, the cost paid the first time a sprite is used.
+     *
+     * @return the decoded image
+     */
+    @Benchmark
+    public Image decode() {
+        ImageCache.getInstance().clear();
+        return ImageCache.getInstance().get(path, 0, height);
+    }
+
+    /**
+     * Looks up the already decoded sprite, the cost paid every other time.
+     *
+     * @return the cached image
+     */
+    @Benchmark
+    public Image cachedLookup() {
+        return ImageCache.getInstance().get(path, 0, height);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.level;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+import com.example.demo.activeactor.EnemyMissiles;
+import com.example.demo.simulation.HeadlessRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link LevelParent#removeDestroyedActors(List)} compacting a list in which a tenth of the actors were
+ * destroyed during the tick, at growing entity counts. Runs against a headless {@code LevelOne}.
+ * <p>
+ * A compaction pass empties the list it works on, so each invocation first refills the list from a fixed template
+ * and then compacts it, rather than paying JMH's per-invocation setup overhead around a few microseconds of work.
+ * {@link #refill()} measures the refill alone so it can be subtracted. The actors are not pooled, so removing them
+ * leaves them untouched and the template can be reused; pooled removal is covered by {@link SpawnBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ActorRemovalBenchmark {
+
+    private static final int DESTROYED_EVERY = 10;
+
+    @Param({"10", "100", "1000", "10000", "50000"})
+    public int actors;
+
+    private LevelParent level;
+    private List<ActiveActorDestructible> template;
+    private List<ActiveActorDestructible> actorList;
+
+    /**
+     * Creates the headless level and the template list, destroying every tenth actor.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        level = HeadlessRunner.createLevel("LevelOne");
+        template = new ArrayList<>(actors);
+        for (int i = 0; i < actors; i++) {
+            EnemyMissiles missile = new EnemyMissiles(i, i);
+            if (i % DESTROYED_EVERY == 0) {
+                missile.destroy();
+            }
+            template.add(missile);
+        }
+        actorList = new ArrayList<>(actors);
+    }
+
+    /**
+     * Refills the list from the template without compacting it, the baseline for {@link #removeDestroyedActors()}.
+     *
+     * @return the size of the refilled list
+     */
+    @Benchmark
+    public int refill() {
+        actorList.clear();
+        actorList.addAll(template);
+        return actorList.size();
+    }
+
+    /**
+     * Refills the list from the template, then removes the destroyed actors in one compaction pass.
+     *
+     * @return the number of survivors
+     */
+    @Benchmark
+    public int removeDestroyedActors() {
+        actorList.clear();
+        actorList.addAll(template);
+        level.removeDestroyedActors(actorList);
+        return actorList.size();
+    }
+}
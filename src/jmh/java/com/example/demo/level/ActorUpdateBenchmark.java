@@ -0,0 +1,74 @@
+package com.example.demo.level;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+import com.example.demo.activeactor.EnemyMissiles;
+import com.example.demo.activeactor.Meteor;
+import com.example.demo.activeactor.PlayerMissiles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the loop {@link LevelParent#updateActors()} runs every tick, calling {@code updateActor} on every actor,
+ * for a mix of player missiles, enemy missiles and meteors at growing entity counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ActorUpdateBenchmark {
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double TICK_SECONDS = 0.04;
+    private static final double METEOR_SPEED = 250;
+
+    @Param({"10", "100", "1000", "10000", "50000"})
+    public int actors;
+
+    private List<ActiveActorDestructible> moving;
+
+    /**
+     * Scatters the actors over the screen, a third of each kind.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(actors);
+        moving = new ArrayList<>();
+        for (int i = 0; i < actors; i++) {
+            double x = random.nextDouble() * SCREEN_WIDTH;
+            double y = random.nextDouble() * SCREEN_HEIGHT;
+            switch (i % 3) {
+                case 0 -> moving.add(PlayerMissiles.create(x, y));
+                case 1 -> moving.add(EnemyMissiles.create(x, y));
+                default -> moving.add(Meteor.create(x, y, METEOR_SPEED));
+            }
+        }
+    }
+
+    /**
+     * Updates every actor once.
+     */
+    @Benchmark
+    public void updateActors() {
+        for (int i = 0; i < moving.size(); i++) {
+            moving.get(i).updateActor(TICK_SECONDS);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.demo.level;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GenericLevel}'s spawn step filling a headless level to growing entity counts, then destroying and
+ * removing everything it spawned. The level plays {@code LevelOne}'s definition with room for as many jets and
+ * meteors as the benchmark asks for and a spawn rate high enough to fill every free slot: the first step fills every
+ * enemy slot, through the lanes and then at random heights, and each step adds one pooled meteor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SpawnBenchmark {
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double HAZARD_SPEED = 250;
+    private static final double SPAWN_RATE = 1_000; // Spawns per second, enough to fill every free slot each tick
+
+    @Param({"10", "100", "1000", "10000", "50000"})
+    public int actors;
+
+    private SpawnLevel level;
+
+    /**
+     * Creates the headless level from a copy of {@code LevelOne}'s definition sized to the entity count.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        LevelDefinition levelOne = LevelCatalog.getInstance().get("LevelOne");
+        LevelDefinition definition = new LevelDefinition(levelOne.name(), levelOne.title(),
+                levelOne.backgroundImageName(), levelOne.playerInitialHealth(), levelOne.enemyType(), actors, SPAWN_RATE,
+                levelOne.lanes(), actors, HAZARD_SPEED, SCREEN_WIDTH, levelOne.winCondition(), levelOne.killsToWin(),
+                levelOne.nextLevel());
+        level = new SpawnLevel(definition);
+    }
+
+    /**
+     * Runs spawn steps until the level holds the requested number of jets and meteors, then destroys and removes
+     * them all.
+     *
+     * @return the number of actors spawned
+     */
+    @Benchmark
+    public int spawnAndDespawn() {
+        while (level.getHazardUnitCount() < actors) {
+            level.spawnEnemyUnits();
+        }
+        List<ActiveActorDestructible> spawned = level.spawned;
+        int count = spawned.size();
+        for (int i = 0; i < count; i++) {
+            spawned.get(i).destroy();
+        }
+        spawned.clear();
+        level.removeAllDestroyedActors();
+        return count;
+    }
+
+    /**
+     * A {@link GenericLevel} that also remembers every jet and meteor it spawns so the benchmark can destroy them.
+     */
+    private static class SpawnLevel extends GenericLevel {
+
+        private final List<ActiveActorDestructible> spawned = new ArrayList<>();
+
+        /**
+         * Creates the level at the benchmark's screen size.
+         *
+         * @param definition the level to play
+         */
+        SpawnLevel(LevelDefinition definition) {
+            super(definition, SCREEN_HEIGHT, SCREEN_WIDTH);
+        }
+
+        /**
+         * Adds the enemy to the level and remembers it.
+         */
+        @Override
+        protected void addEnemyUnit(ActiveActorDestructible enemy) {
+            super.addEnemyUnit(enemy);
+            spawned.add(enemy);
+        }
+
+        /**
+         * Adds the hazard to the level and remembers it.
+         */
+        @Override
+        protected void addHazard(ActiveActorDestructible hazard) {
+            super.addHazard(hazard);
+            spawned.add(hazard);
+        }
+    }
+}
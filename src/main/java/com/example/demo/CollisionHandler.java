@@ -1,11 +1,39 @@
 package com.example.demo;
 
 import com.example.demo.activeactor.ActiveActorDestructible;
+import com.example.demo.engine.SpatialHash;
+import com.example.demo.engine.jfr.CollisionPassEvent;
+import jdk.jfr.EventType;
 
 import java.util.List;
 
 public class CollisionHandler {
 
+    /**
+     * Pair counts up to this are cheaper to test directly than to file in the broadphase grid.
+     */
+    private static final int BROADPHASE_THRESHOLD = 256;
+
+    /**
+     * Grid cells are sized to fit a typical jet, so most actors sit in one to four cells.
+     */
+    private static final double BROADPHASE_CELL_SIZE = 128;
+
+    /**
+     * Shared broadphase grid, rebuilt for every call. Collision handling only runs on the game loop thread.
+     */
+    private static final SpatialHash BROADPHASE = new SpatialHash(BROADPHASE_CELL_SIZE);
+
+    /**
+     * The number of candidate pairs the last broadphase pass tested, reported in {@link CollisionPassEvent}s.
+     */
+    private static long broadphasePairsTested;
+
+    /**
+     * Checked before creating a {@link CollisionPassEvent}, so passes allocate nothing while it is not being recorded.
+     */
+    private static final EventType COLLISION_PASS_EVENT = EventType.getEventType(CollisionPassEvent.class);
+
     /**
      * Handles enemy breaches by damaging the player and destroying the enemy.
      *
@@ -13,7 +41,8 @@ public class CollisionHandler {
      * @param enemyUnits the list of enemy units to check for defensive breaches
      */
     public static void handleEnemyPenetration(ActiveActorDestructible user, List<ActiveActorDestructible> enemyUnits) {
-        for (ActiveActorDestructible enemy : enemyUnits) {
+        for (int i = 0; i < enemyUnits.size(); i++) {
+            ActiveActorDestructible enemy = enemyUnits.get(i);
             if (enemyHasPenetratedDefenses(enemy)) {
                 user.takeDamage();
                 enemy.destroy();
@@ -28,24 +57,95 @@ public class CollisionHandler {
      * @return true if the enemy's position is beyond the defensive boundary, false otherwise
      */
     private static boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-        return enemy.getTranslateX() + enemy.getLayoutX() < 0;
+        return enemy.getMinX() < 0;
     }
 
     /**
      * Handles collisions between two actor lists, damaging both actors on collision.
+     * Small lists are compared pair by pair; larger ones go through a {@link SpatialHash} broadphase first, so only
+     * actors sharing a grid cell are tested. Both paths visit colliding pairs in the same order.
+     * Each call is reported to Java Flight Recorder as a {@link CollisionPassEvent} when that event is enabled.
      *
      * @param actors1 the first list of destructible actors
      * @param actors2 the second list of destructible actors
      */
     public static void handleCollisions(List<ActiveActorDestructible> actors1,
                                         List<ActiveActorDestructible> actors2) {
-        for (ActiveActorDestructible actor : actors2) {
-            for (ActiveActorDestructible otherActor : actors1) {
-                if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
+        CollisionPassEvent event = null;
+        if (COLLISION_PASS_EVENT.isEnabled()) {
+            event = new CollisionPassEvent();
+            event.begin();
+        }
+        long pairs = (long) actors1.size() * actors2.size();
+        boolean broadphase = pairs > BROADPHASE_THRESHOLD;
+        int hits = broadphase
+                ? handleCollisionsWithBroadphase(actors1, actors2)
+                : handleCollisionsPairwise(actors1, actors2);
+        if (event != null && event.shouldCommit()) {
+            event.firstCount = actors1.size();
+            event.secondCount = actors2.size();
+            event.broadphase = broadphase;
+            event.pairsTested = broadphase ? broadphasePairsTested : pairs;
+            event.hits = hits;
+            event.commit();
+        }
+    }
+
+    /**
+     * Tests every actor in the second list against every actor in the first.
+     *
+     * @param actors1 the first list of destructible actors
+     * @param actors2 the second list of destructible actors
+     * @return the number of colliding pairs
+     */
+    static int handleCollisionsPairwise(List<ActiveActorDestructible> actors1,
+                                        List<ActiveActorDestructible> actors2) {
+        int hits = 0;
+        for (int j = 0; j < actors2.size(); j++) {
+            ActiveActorDestructible actor = actors2.get(j);
+            for (int i = 0; i < actors1.size(); i++) {
+                ActiveActorDestructible otherActor = actors1.get(i);
+                if (actor.collidesWith(otherActor)) {
+                    actor.takeDamage();
+                    otherActor.takeDamage();
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Files the first list in the {@link SpatialHash}, then tests each actor in the second list only against the
+     * actors sharing one of its cells.
+     *
+     * @param actors1 the first list of destructible actors
+     * @param actors2 the second list of destructible actors
+     * @return the number of colliding pairs
+     */
+    static int handleCollisionsWithBroadphase(List<ActiveActorDestructible> actors1,
+                                              List<ActiveActorDestructible> actors2) {
+        int hits = 0;
+        long tested = 0;
+        BROADPHASE.clear(actors1.size());
+        for (int i = 0; i < actors1.size(); i++) {
+            ActiveActorDestructible actor = actors1.get(i);
+            BROADPHASE.insert(i, actor.getMinX(), actor.getMinY(), actor.getMaxX(), actor.getMaxY());
+        }
+        for (int j = 0; j < actors2.size(); j++) {
+            ActiveActorDestructible actor = actors2.get(j);
+            int candidates = BROADPHASE.query(actor.getMinX(), actor.getMinY(), actor.getMaxX(), actor.getMaxY());
+            tested += candidates;
+            for (int c = 0; c < candidates; c++) {
+                ActiveActorDestructible otherActor = actors1.get(BROADPHASE.getResult(c));
+                if (actor.collidesWith(otherActor)) {
                     actor.takeDamage();
                     otherActor.takeDamage();
+                    hits++;
                 }
             }
         }
+        broadphasePairsTested = tested;
+        return hits;
     }
 }
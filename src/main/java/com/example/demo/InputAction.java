@@ -0,0 +1,67 @@
+package com.example.demo;
+
+import com.example.demo.activeactor.PlayerJet;
+import javafx.scene.input.KeyCode;
+
+/**
+ * A player command produced by a key press or release. Keyboard input is translated into these actions before it
+ * reaches the level, so the same stream of actions can be recorded and replayed later.
+ */
+public enum InputAction {
+    MOVE_UP,
+    MOVE_DOWN,
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    STOP_VERTICAL,
+    STOP_HORIZONTAL,
+    FIRE;
+
+    /**
+     * Translates a key press into an action.
+     *
+     * @param key the key that was pressed
+     * @return the action bound to the key, or null if the key is not bound
+     */
+    public static InputAction forKeyPressed(KeyCode key) {
+        return switch (key) {
+            case UP -> MOVE_UP;
+            case DOWN -> MOVE_DOWN;
+            case LEFT -> MOVE_LEFT;
+            case RIGHT -> MOVE_RIGHT;
+            case SPACE -> FIRE;
+            default -> null;
+        };
+    }
+
+    /**
+     * Translates a key release into an action.
+     *
+     * @param key the key that was released
+     * @return the action bound to releasing the key, or null if the key is not bound
+     */
+    public static InputAction forKeyReleased(KeyCode key) {
+        return switch (key) {
+            case UP, DOWN -> STOP_VERTICAL;
+            case LEFT, RIGHT -> STOP_HORIZONTAL;
+            default -> null;
+        };
+    }
+
+    /**
+     * Carries out the action on the player.
+     *
+     * @param user the player character to control
+     * @param fireProjectile the action that fires the player's projectile
+     */
+    public void apply(PlayerJet user, Runnable fireProjectile) {
+        switch (this) {
+            case MOVE_UP -> user.moveUp();
+            case MOVE_DOWN -> user.moveDown();
+            case MOVE_LEFT -> user.moveLeft();
+            case MOVE_RIGHT -> user.moveRight();
+            case STOP_VERTICAL -> user.stopVertical();
+            case STOP_HORIZONTAL -> user.stopHorizontal();
+            case FIRE -> fireProjectile.run();
+        }
+    }
+}
@@ -1,22 +1,27 @@
 package com.example.demo;
 
-import com.example.demo.activeactor.PlayerJet;
+import javafx.event.EventHandler;
 import javafx.scene.Node;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.function.Consumer;
 
 public class InputManager {
 
     private static InputManager instance;
-    private final Set<KeyCode> pressedKeys;
+    private static final KeyCode[] KEY_CODES = KeyCode.values();
+    private final long[] pressedKeys;
+    private Node boundNode;
+    private EventHandler<KeyEvent> boundPressedHandler;
+    private EventHandler<KeyEvent> boundReleasedHandler;
 
     /**
-     * Private constructor for the {@link InputManager} singleton. Initializes the set of pressed keys.
+     * Private constructor for the {@link InputManager} singleton. Initializes the pressed-key bitset, one bit per
+     * {@link KeyCode}.
      */
     private InputManager() {
-        pressedKeys = new HashSet<>();
+        pressedKeys = new long[(KEY_CODES.length + Long.SIZE - 1) / Long.SIZE];
     }
 
     /**
@@ -32,48 +37,73 @@ public class InputManager {
     }
 
     /**
-     * Sets up key event handlers for the specified node and binds them to player actions.
+     * Sets up key event handlers for the specified node that translate bound keys into {@link InputAction}s and hand
+     * them to a dispatcher, which can queue them for the next tick. Auto-repeated presses of a held key are filtered
+     * out using the pressed-key bitset, except for firing, so holding SPACE keeps firing at the key repeat rate.
+     * These handlers are the only place the bitset is written.
      *
      * @param node the UI node that listens for key events.
-     * @param user the player character to control.
-     * @param fireProjectile the action to trigger when the fire button (SPACE) is pressed.
+     * @param dispatcher receives every action triggered by a key press or release.
      */
-    public void initializeInputs(Node node, PlayerJet user, Runnable fireProjectile) {
-        node.setOnKeyPressed(this::handleKeyPressed);
-        node.setOnKeyReleased(this::handleKeyReleased);
+    public void initializeInputs(Node node, Consumer<InputAction> dispatcher) {
+        EventHandler<KeyEvent> pressedHandler = e -> {
+            boolean repeated = !press(e.getCode());
+            InputAction action = InputAction.forKeyPressed(e.getCode());
+            if (action != null && (!repeated || action == InputAction.FIRE)) dispatcher.accept(action);
+        };
 
-        node.addEventHandler(KeyEvent.KEY_PRESSED, e -> {
-            KeyCode kc = e.getCode();
-            if (kc == KeyCode.UP) user.moveUp();
-            if (kc == KeyCode.DOWN) user.moveDown();
-            if (kc == KeyCode.LEFT) user.moveLeft();
-            if (kc == KeyCode.RIGHT) user.moveRight();
-            if (kc == KeyCode.SPACE) fireProjectile.run();
-        });
+        EventHandler<KeyEvent> releasedHandler = e -> {
+            release(e.getCode());
+            InputAction action = InputAction.forKeyReleased(e.getCode());
+            if (action != null) dispatcher.accept(action);
+        };
 
-        node.addEventHandler(KeyEvent.KEY_RELEASED, e -> {
-            KeyCode kc = e.getCode();
-            if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stopVertical();
-            if (kc == KeyCode.LEFT || kc == KeyCode.RIGHT) user.stopHorizontal();
-        });
+        node.addEventHandler(KeyEvent.KEY_PRESSED, pressedHandler);
+        node.addEventHandler(KeyEvent.KEY_RELEASED, releasedHandler);
+        boundNode = node;
+        boundPressedHandler = pressedHandler;
+        boundReleasedHandler = releasedHandler;
     }
 
     /**
-     * Adds the pressed key to the set of currently pressed keys.
+     * Removes the key handlers installed by {@link #initializeInputs} from a node and clears the pressed keys, so
+     * the singleton no longer references the node, its player or its level.
      *
-     * @param event the key event triggered when a key is pressed.
+     * @param node the UI node whose handlers should be removed.
      */
-    private void handleKeyPressed(KeyEvent event) {
-        pressedKeys.add(event.getCode());
+    public void releaseInputs(Node node) {
+        if (node == boundNode) {
+            node.removeEventHandler(KeyEvent.KEY_PRESSED, boundPressedHandler);
+            node.removeEventHandler(KeyEvent.KEY_RELEASED, boundReleasedHandler);
+            boundNode = null;
+            boundPressedHandler = null;
+            boundReleasedHandler = null;
+        }
+        clearAllKeys();
+    }
+
+    /**
+     * Sets a key's bit in the pressed-key bitset.
+     *
+     * @param key the key that was pressed.
+     * @return true if the key was not already pressed, false for an auto-repeated press.
+     */
+    private boolean press(KeyCode key) {
+        int ordinal = key.ordinal();
+        long bit = 1L << ordinal;
+        boolean newlyPressed = (pressedKeys[ordinal >>> 6] & bit) == 0;
+        pressedKeys[ordinal >>> 6] |= bit;
+        return newlyPressed;
     }
 
     /**
-     * Removes the released key from the set of currently pressed keys.
+     * Clears a key's bit in the pressed-key bitset.
      *
-     * @param event the key event triggered when a key is released.
+     * @param key the key that was released.
      */
-    private void handleKeyReleased(KeyEvent event) {
-        pressedKeys.remove(event.getCode());
+    private void release(KeyCode key) {
+        int ordinal = key.ordinal();
+        pressedKeys[ordinal >>> 6] &= ~(1L << ordinal);
     }
 
     /**
@@ -83,13 +113,14 @@ public class InputManager {
      * @return true if the key is pressed, false otherwise.
      */
     public boolean isKeyPressed(KeyCode key) {
-        return pressedKeys.contains(key);
+        int ordinal = key.ordinal();
+        return (pressedKeys[ordinal >>> 6] & (1L << ordinal)) != 0;
     }
 
     /**
      * Clears all keys from the set of pressed keys.
      */
     public void clearAllKeys() {
-        pressedKeys.clear();
+        Arrays.fill(pressedKeys, 0);
     }
 }
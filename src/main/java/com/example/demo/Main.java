@@ -2,7 +2,6 @@ package com.example.demo;
 
 import java.lang.reflect.InvocationTargetException;
 
-import com.example.demo.controller.Controller;
 import com.example.demo.userinterface.MainMenu;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -12,7 +11,7 @@ public class Main extends Application {
 	private static final int SCREEN_WIDTH = 1300;
 	private static final int SCREEN_HEIGHT = 750;
 	private static final String TITLE = "Sky Battle";
-	private Controller myController;
+	private MainMenu mainMenu;
 
 	/**
 	 * Initializes and displays the primary stage with title, size, and non-resizable window, then shows the main menu.
@@ -34,10 +33,21 @@ public class Main extends Application {
 		stage.setHeight(SCREEN_HEIGHT);
 		stage.setWidth(SCREEN_WIDTH);
 
-		MainMenu mainMenu = new MainMenu();
+		mainMenu = new MainMenu();
 		mainMenu.show(stage);
 	}
 
+	/**
+	 * Stops the level preloader and releases the sound effect players when the application exits.
+	 */
+	@Override
+	public void stop() {
+		if (mainMenu != null) {
+			mainMenu.shutdown();
+		}
+		SoundManager.shutdown();
+	}
+
 	/**
 	 *  Main entry point for the JavaFX application, launching the JavaFX runtime.
 	 *
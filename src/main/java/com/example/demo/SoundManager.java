@@ -1,18 +1,151 @@
 package com.example.demo;
 
+import com.example.demo.engine.AudioEngine;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
 
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Plays sound effects through a shared {@link AudioEngine}. Each effect is loaded once and played on pooled
+ * {@link MediaPlayer} voices that are restarted rather than recreated, and playback is started on a dedicated audio
+ * thread when the game loop calls {@link #endTick()}.
+ */
 public class SoundManager {
 
+    private static final String SOUND_LOCATION = "/com/example/demo/sounds/";
+    private static final double VOLUME = 0.1;
+    private static final Map<String, Media> MEDIA = new ConcurrentHashMap<>();
+    private static final ExecutorService PLAYBACK = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sound-playback");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final AudioEngine ENGINE = new AudioEngine(SoundManager::createVoice, PLAYBACK);
+    private static boolean enabled = true;
+
     /**
-     * Plays a sound effect from the specified file, used for audio feedback on actions or events.
+     * Queues a sound effect to start at the end of the current tick, used for audio feedback on actions or events.
+     * The same effect requested several times in one tick plays once. Does nothing while sound is disabled.
      *
      * @param sound the name of the sound file to be played (e.g., "impactsound.wav").
      */
     public static void playSound(String sound) {
-        MediaPlayer mediaPlayer = new MediaPlayer(new Media(SoundManager.class.getResource("/com/example/demo/sounds/" + sound).toExternalForm()));
-        mediaPlayer.setVolume(0.1);
-        mediaPlayer.play();
+        if (!enabled) {
+            return;
+        }
+        ENGINE.request(sound);
+    }
+
+    /**
+     * Starts every sound effect requested during the tick on the audio thread. Called by the game loop once per tick.
+     */
+    public static void endTick() {
+        ENGINE.flush();
+    }
+
+    /**
+     * Loads a sound effect and creates its first voice ahead of time, so playing it later neither reads the file nor
+     * builds a player. Safe to call from any thread.
+     *
+     * @param sound the name of the sound file to load (e.g., "impactsound.wav").
+     */
+    public static void preload(String sound) {
+        ENGINE.preload(sound);
+    }
+
+    /**
+     * Stops and releases every voice, e.g. when the application exits.
+     */
+    public static void shutdown() {
+        ENGINE.shutdown();
+        PLAYBACK.shutdown();
+    }
+
+    /**
+     * Enables or disables sound playback, e.g. to run levels headless where no media toolkit is available.
+     *
+     * @param enabled true to play sounds, false to silently ignore them
+     */
+    public static void setEnabled(boolean enabled) {
+        SoundManager.enabled = enabled;
+    }
+
+    /**
+     * @return the audio engine playing the sound effects, e.g. to read its voice counters.
+     */
+    public static AudioEngine getEngine() {
+        return ENGINE;
+    }
+
+    /**
+     * Creates a new voice for a sound effect, sharing the effect's loaded media with its other voices.
+     *
+     * @param sound the name of the sound file
+     * @return the new voice
+     */
+    private static AudioEngine.Voice createVoice(String sound) {
+        Media media = MEDIA.computeIfAbsent(sound, name -> {
+            URL url = SoundManager.class.getResource(SOUND_LOCATION + name);
+            if (url == null) {
+                throw new IllegalArgumentException("Sound not found: " + name);
+            }
+            return new Media(url.toExternalForm());
+        });
+        MediaPlayer player = new MediaPlayer(media);
+        player.setVolume(VOLUME);
+        return new MediaVoice(player);
+    }
+
+    /**
+     * A voice backed by a reusable {@link MediaPlayer}.
+     */
+    private static final class MediaVoice implements AudioEngine.Voice {
+
+        private final MediaPlayer player;
+
+        /**
+         * @param player the player to reuse for every playback
+         */
+        private MediaVoice(MediaPlayer player) {
+            this.player = player;
+        }
+
+        /**
+         * Rewinds the player and starts it, stopping it again once it reaches the end so it can be replayed.
+         *
+         * @param onFinished called when playback reaches the end
+         */
+        @Override
+        public void play(Runnable onFinished) {
+            player.setOnEndOfMedia(() -> {
+                player.stop();
+                onFinished.run();
+            });
+            player.seek(Duration.ZERO);
+            player.play();
+        }
+
+        /**
+         * Stops the player without reporting the playback as finished.
+         */
+        @Override
+        public void stop() {
+            player.setOnEndOfMedia(null);
+            player.stop();
+        }
+
+        /**
+         * Releases the player's native resources.
+         */
+        @Override
+        public void dispose() {
+            player.dispose();
+        }
     }
 }
@@ -1,13 +1,26 @@
 package com.example.demo.activeactor;
 
-import javafx.scene.image.*;
+/**
+ * Base class for every entity in the game world. Position and size live in plain fields, so actors can be
+ * simulated without the JavaFX toolkit; {@link com.example.demo.userinterface.ActorRenderer} mirrors them onto
+ * scene-graph nodes when the level is rendered.
+ */
+public abstract class ActiveActor {
 
-import java.util.Objects;
+	public static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
-
-public abstract class ActiveActor extends ImageView {
-	
-	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	private final String imageName;
+	private final int imageHeight;
+	private final double imageWidth;
+	private final CollisionMask collisionMask;
+	private double layoutX;
+	private double layoutY;
+	private double translateX;
+	private double translateY;
+	private double minX;
+	private double minY;
+	private double maxX;
+	private double maxY;
 
 	/**
 	 * Constructs an instance of the {@link ActiveActor} with the specified image file,
@@ -19,24 +32,30 @@ public abstract class ActiveActor extends ImageView {
 	 * @param initialYPos the initial vertical position
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_LOCATION + imageName)).toExternalForm()));
-		this.setLayoutX(initialXPos);
-		this.setLayoutY(initialYPos);
-		this.setFitHeight(imageHeight);
-		this.setPreserveRatio(true);
+		this.imageName = imageName;
+		this.imageHeight = imageHeight;
+		this.imageWidth = SpriteMetrics.getScaledWidth(IMAGE_LOCATION + imageName, imageHeight);
+		this.collisionMask = CollisionMask.getPrecision(getClass()) == CollisionPrecision.MASK
+				? CollisionMask.forSprite(IMAGE_LOCATION + imageName, imageWidth, imageHeight)
+				: null;
+		this.layoutX = initialXPos;
+		this.layoutY = initialYPos;
+		updateBoundsX();
+		updateBoundsY();
 	}
 
 	/**
 	 * Updates the actor's position based on its specific movement logic.
 	 * Called during the game loop to simulate motion within the game environment.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds; speeds are per second and scaled by it
 	 */
 
-	public abstract void updatePosition();
+	public abstract void updatePosition(double tickSeconds);
 
 	/**
 	 * Moves the object horizontally by adjusting its horizontal translation
-	 * (translateX property) based on the provided movement value.
+	 * based on the provided movement value.
 	 *
 	 * @param horizontalMove the amount by which to move the object horizontally.
 	 *                        Positive values move the object to the right, while
@@ -47,7 +66,7 @@ public abstract class ActiveActor extends ImageView {
 	}
 
 	/**
-	 * Adjusts the vertical position of the object by modifying its translateY property
+	 * Adjusts the vertical position of the object by modifying its vertical translation
 	 * based on the provided vertical movement value.
 	 *
 	 * @param verticalMove the amount to modify the object's vertical position.
@@ -58,4 +77,168 @@ public abstract class ActiveActor extends ImageView {
 		this.setTranslateY(getTranslateY() + verticalMove);
 	}
 
+	/**
+	 * Moves the actor to a new initial position and clears any translation, as if it had just been constructed there.
+	 *
+	 * @param initialXPos the new initial horizontal position
+	 * @param initialYPos the new initial vertical position
+	 */
+	protected void relocate(double initialXPos, double initialYPos) {
+		this.layoutX = initialXPos;
+		this.layoutY = initialYPos;
+		this.translateX = 0;
+		this.translateY = 0;
+		updateBoundsX();
+		updateBoundsY();
+	}
+
+	/**
+	 * Recomputes the horizontal extent of the bounding box after the horizontal position changes.
+	 */
+	private void updateBoundsX() {
+		minX = layoutX + translateX;
+		maxX = minX + imageWidth;
+	}
+
+	/**
+	 * Recomputes the vertical extent of the bounding box after the vertical position changes.
+	 */
+	private void updateBoundsY() {
+		minY = layoutY + translateY;
+		maxY = minY + imageHeight;
+	}
+
+	/**
+	 * Checks whether this actor's bounding box overlaps another's, matching the bounds their sprites occupy on
+	 * screen. Boxes that only touch at an edge count as overlapping.
+	 *
+	 * @param other the actor to test against
+	 * @return true if the boxes overlap, false otherwise
+	 */
+	public boolean intersects(ActiveActor other) {
+		return minX <= other.maxX && other.minX <= maxX && minY <= other.maxY && other.minY <= maxY;
+	}
+
+	/**
+	 * Checks whether this actor collides with another, first rejecting actors whose bounding boxes do not overlap
+	 * and then, if either actor uses {@link CollisionPrecision#MASK}, comparing the opaque pixels of their sprites.
+	 *
+	 * @param other the actor to test against
+	 * @return true if the actors collide, false otherwise
+	 */
+	public boolean collidesWith(ActiveActor other) {
+		if (!intersects(other)) {
+			return false;
+		}
+		if (collisionMask == null && other.collisionMask == null) {
+			return true;
+		}
+		return CollisionMask.overlaps(collisionMask, minX, minY, imageWidth, imageHeight,
+				other.collisionMask, other.minX, other.minY, other.imageWidth, other.imageHeight);
+	}
+
+	/**
+	 * @return the pixel mask used for collisions, or null if the actor collides as a box.
+	 */
+	public CollisionMask getCollisionMask() {
+		return collisionMask;
+	}
+
+	/**
+	 * @return the left edge of the actor's bounding box in level coordinates.
+	 */
+	public double getMinX() {
+		return minX;
+	}
+
+	/**
+	 * @return the top edge of the actor's bounding box in level coordinates.
+	 */
+	public double getMinY() {
+		return minY;
+	}
+
+	/**
+	 * @return the right edge of the actor's bounding box in level coordinates.
+	 */
+	public double getMaxX() {
+		return maxX;
+	}
+
+	/**
+	 * @return the bottom edge of the actor's bounding box in level coordinates.
+	 */
+	public double getMaxY() {
+		return maxY;
+	}
+
+	/**
+	 * @return the file name of the actor's sprite image.
+	 */
+	public String getImageName() {
+		return imageName;
+	}
+
+	/**
+	 * @return the height the actor's sprite is drawn at.
+	 */
+	public int getImageHeight() {
+		return imageHeight;
+	}
+
+	/**
+	 * @return the width the actor's sprite is drawn at, derived from its aspect ratio.
+	 */
+	public double getImageWidth() {
+		return imageWidth;
+	}
+
+	/**
+	 * @return the initial horizontal position of the actor.
+	 */
+	public double getLayoutX() {
+		return layoutX;
+	}
+
+	/**
+	 * @return the initial vertical position of the actor.
+	 */
+	public double getLayoutY() {
+		return layoutY;
+	}
+
+	/**
+	 * @return the horizontal offset of the actor from its initial position.
+	 */
+	public double getTranslateX() {
+		return translateX;
+	}
+
+	/**
+	 * @return the vertical offset of the actor from its initial position.
+	 */
+	public double getTranslateY() {
+		return translateY;
+	}
+
+	/**
+	 * Sets the horizontal offset of the actor from its initial position.
+	 *
+	 * @param translateX the new horizontal offset
+	 */
+	public void setTranslateX(double translateX) {
+		this.translateX = translateX;
+		updateBoundsX();
+	}
+
+	/**
+	 * Sets the vertical offset of the actor from its initial position.
+	 *
+	 * @param translateY the new vertical offset
+	 */
+	public void setTranslateY(double translateY) {
+		this.translateY = translateY;
+		updateBoundsY();
+	}
+
 }
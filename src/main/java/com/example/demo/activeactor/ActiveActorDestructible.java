@@ -1,6 +1,8 @@
 package com.example.demo.activeactor;
 
 import com.example.demo.SoundManager;
+import com.example.demo.engine.jfr.SpawnEvent;
+import jdk.jfr.EventType;
 
 
 /**
@@ -11,8 +13,12 @@ import com.example.demo.SoundManager;
 
 public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
 
+	private static final EventType SPAWN_EVENT = EventType.getEventType(SpawnEvent.class);
 	private Runnable onDestroyedCallback;
 	private boolean isDestroyed;
+	private ActorPool<?> pool;
+	private boolean inPool;
+	private boolean recycled;
 
 	/**
 	 * Constructs a destructible {@link ActiveActor} with the specified image, size, and position.
@@ -24,24 +30,46 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 */
 
 	public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
+		this(imageName, imageHeight, initialXPos, initialYPos, false);
+	}
+
+	/**
+	 * Constructs a destructible {@link ActiveActor}, possibly on behalf of an {@link ActorPool}. A pooled actor only
+	 * enters the game once it is {@link #reset}, so its spawn is reported then instead of here.
+	 *
+	 * @param imageName   the image file name for the actor.
+	 * @param imageHeight the height of the actor's image.
+	 * @param initialXPos the initial X-coordinate of the actor.
+	 * @param initialYPos the initial Y-coordinate of the actor.
+	 * @param pooled      true if the actor is being created by its pool, false otherwise.
+	 */
+	protected ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos,
+			boolean pooled) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
 		isDestroyed = false;
+		if (!pooled) {
+			reportSpawn(false, initialXPos, initialYPos);
+		}
 	}
 
 	/**
 	 * Updates the object's position in the game world. Subclasses define specific movement logic.
 	 * Called during each game loop iteration to adjust the object's coordinates.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 
 	@Override
-	public abstract void updatePosition();
+	public abstract void updatePosition(double tickSeconds);
 
 	/**
 	 * Updates the state and behavior of the {@link ActiveActorDestructible}.
 	 * Subclasses implement specific logic beyond position changes, such as interactions and animations.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 
-	public abstract void updateActor();
+	public abstract void updateActor(double tickSeconds);
 
 	/**
 	 * Handles damage received by the object.
@@ -89,5 +117,92 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	public void setOnDestroyed(Runnable callback) {
 		this.onDestroyedCallback = callback;
 	}
+
+	/**
+	 * Restores a recycled actor to a fresh state at the given position: not destroyed, no translation and no
+	 * destruction callback.
+	 *
+	 * @param initialXPos the new initial X-coordinate of the actor.
+	 * @param initialYPos the new initial Y-coordinate of the actor.
+	 */
+	protected void reset(double initialXPos, double initialYPos) {
+		relocate(initialXPos, initialYPos);
+		isDestroyed = false;
+		onDestroyedCallback = null;
+		reportSpawn(recycled, initialXPos, initialYPos);
+	}
+
+	/**
+	 * Reports the actor entering the game to Java Flight Recorder, if {@link SpawnEvent} is enabled.
+	 *
+	 * @param recycled true if a pooled actor is being reused, false if the actor was just created
+	 * @param initialXPos the initial X-coordinate of the actor.
+	 * @param initialYPos the initial Y-coordinate of the actor.
+	 */
+	private void reportSpawn(boolean recycled, double initialXPos, double initialYPos) {
+		if (!SPAWN_EVENT.isEnabled()) {
+			return;
+		}
+		SpawnEvent event = new SpawnEvent();
+		if (event.shouldCommit()) {
+			event.actorClass = getClass();
+			event.recycled = recycled;
+			event.x = initialXPos;
+			event.y = initialYPos;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Hands the actor back to the {@link ActorPool} it came from once it has left the game, dropping its destroy
+	 * callback so the pool does not keep the level alive. Does nothing for actors that were not pooled.
+	 */
+	public void recycle() {
+		if (pool != null) {
+			onDestroyedCallback = null;
+			pool.release(this);
+		}
+	}
+
+	/**
+	 * @return true if the actor was handed out by an {@link ActorPool}, false otherwise.
+	 */
+	public boolean isPooled() {
+		return pool != null;
+	}
+
+	/**
+	 * Records the pool that owns this actor.
+	 *
+	 * @param pool the owning pool
+	 */
+	void setPool(ActorPool<?> pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * @return true while the actor is idle in its pool, false while it is in play.
+	 */
+	boolean isInPool() {
+		return inPool;
+	}
+
+	/**
+	 * Marks whether the actor is idle in its pool.
+	 *
+	 * @param inPool true when the actor is returned to the pool, false when it is handed out
+	 */
+	void setInPool(boolean inPool) {
+		this.inPool = inPool;
+	}
+
+	/**
+	 * Records whether the actor's next {@link #reset} reuses an idle pooled actor or puts a newly created one in play.
+	 *
+	 * @param recycled true if the pool served the actor from its idle actors, false if it had to create it
+	 */
+	void setRecycled(boolean recycled) {
+		this.recycled = recycled;
+	}
 	
 }
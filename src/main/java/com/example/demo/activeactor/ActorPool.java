@@ -0,0 +1,183 @@
+package com.example.demo.activeactor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Recycles short-lived {@link ActiveActorDestructible} instances such as missiles and meteors, so sustained firing
+ * reuses a fixed set of objects instead of producing garbage every tick.
+ * Pools are not thread-safe and must only be used from the game loop thread.
+ *
+ * @param <T> the type of actor held by the pool
+ */
+public class ActorPool<T extends ActiveActorDestructible> {
+
+	private static final String CAPACITY_PROPERTY_PREFIX = "pool.";
+	private static final List<ActorPool<?>> POOLS = new ArrayList<>();
+
+	private final String name;
+	private final Supplier<T> factory;
+	private final Deque<T> free;
+	private int capacity;
+	private long hits;
+	private long misses;
+	private long released;
+	private long discarded;
+
+	/**
+	 * Constructs an {@link ActorPool}. The capacity can be overridden at launch with the system property
+	 * {@code pool.<name>}, e.g. {@code -Dpool.playerMissiles=256}.
+	 *
+	 * @param name the name used for configuration and statistics
+	 * @param defaultCapacity the maximum number of idle actors kept for reuse
+	 * @param factory creates a new actor when the pool is empty, through the actor's pooled constructor so that its
+	 *                spawn is reported when it is reset rather than when it is created
+	 */
+	public ActorPool(String name, int defaultCapacity, Supplier<T> factory) {
+		this.name = name;
+		this.factory = factory;
+		this.free = new ArrayDeque<>();
+		this.capacity = Integer.getInteger(CAPACITY_PROPERTY_PREFIX + name, defaultCapacity);
+		synchronized (POOLS) {
+			POOLS.add(this);
+		}
+	}
+
+	/**
+	 * Takes an idle actor from the pool, or creates one if none is available.
+	 * The caller is expected to {@link ActiveActorDestructible#reset reset} it before use.
+	 *
+	 * @return an actor owned by this pool
+	 */
+	public T acquire() {
+		T actor = free.pollLast();
+		if (actor != null) {
+			hits++;
+			actor.setInPool(false);
+			actor.setRecycled(true);
+			return actor;
+		}
+		misses++;
+		actor = create();
+		actor.setRecycled(false);
+		return actor;
+	}
+
+	/**
+	 * Creates a new actor owned by this pool. It reports its spawn when it is reset, not when it is constructed.
+	 *
+	 * @return the new actor
+	 */
+	private T create() {
+		T actor = factory.get();
+		actor.setPool(this);
+		return actor;
+	}
+
+	/**
+	 * Returns an actor to the pool once it has left the game, dropping it if the pool is already full.
+	 *
+	 * @param actor an actor previously handed out by this pool
+	 */
+	@SuppressWarnings("unchecked")
+	void release(ActiveActorDestructible actor) {
+		if (actor.isInPool()) {
+			return;
+		}
+		released++;
+		if (free.size() < capacity) {
+			actor.setInPool(true);
+			free.addLast((T) actor);
+		} else {
+			discarded++;
+		}
+	}
+
+	/**
+	 * Fills the pool with idle actors ahead of time, so the first volley does not allocate. Prewarmed actors report
+	 * no spawn until they are acquired and reset.
+	 *
+	 * @param count the number of actors to create, limited by the capacity
+	 */
+	public void prewarm(int count) {
+		while (free.size() < Math.min(count, capacity)) {
+			T actor = create();
+			actor.setInPool(true);
+			free.addLast(actor);
+		}
+	}
+
+	/**
+	 * Sets the maximum number of idle actors kept, discarding any excess.
+	 *
+	 * @param capacity the new capacity
+	 */
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+		while (free.size() > capacity) {
+			free.pollFirst().setInPool(false);
+		}
+	}
+
+	/**
+	 * @return the name of the pool.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the maximum number of idle actors kept.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return the number of idle actors waiting to be reused.
+	 */
+	public int getFreeCount() {
+		return free.size();
+	}
+
+	/**
+	 * @return the number of acquisitions served by a recycled actor.
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return the number of acquisitions that had to create a new actor.
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return the number of actors acquired and not yet released.
+	 */
+	public long getLiveCount() {
+		return hits + misses - released;
+	}
+
+	/**
+	 * @return the number of released actors dropped because the pool was full.
+	 */
+	public long getDiscarded() {
+		return discarded;
+	}
+
+	/**
+	 * @return a snapshot of every pool created so far.
+	 */
+	public static List<ActorPool<?>> getPools() {
+		synchronized (POOLS) {
+			return Collections.unmodifiableList(new ArrayList<>(POOLS));
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.example.demo.activeactor;
 
+import com.example.demo.engine.GameRandom;
 import com.example.demo.level.LevelParent;
 
 import java.util.*;
@@ -10,17 +11,17 @@ public class Boss extends FighterJet {
 	private static final double INITIAL_X_POSITION = 1000;
 	private static final double INITIAL_Y_POSITION = 250;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 0.00;
-	private static final double BOSS_FIRE_RATE = .04;
-	private static final double BOSS_SHIELD_PROBABILITY = 0.005;
+	private static final double BOSS_FIRE_RATE = 1; // Shots per second
+	private static final double BOSS_SHIELD_PROBABILITY = 0.125; // Shield activations per second
 	private static final int IMAGE_HEIGHT = 50;
-	private static final int VERTICAL_VELOCITY = 8;
+	private static final int VERTICAL_VELOCITY = 200; // Pixels per second
 	private static final int HEALTH = 15;
 	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
 	private static final int ZERO = 0;
-	private static final int MAX_FRAMES_WITH_SAME_MOVE = 10;
+	private static final double SECONDS_WITH_SAME_MOVE = 0.4;
 	private static final int Y_POSITION_UPPER_BOUND = -250;
 	private static final int Y_POSITION_LOWER_BOUND = 375;
-	private static final int MAX_FRAMES_WITH_SHIELD = 150;
+	private static final double SECONDS_WITH_SHIELD = 6;
 	private final LevelParent level;
 	private final List<Integer> movePattern;
 	private boolean isShielded;
@@ -58,10 +59,12 @@ public class Boss extends FighterJet {
 	 * Updates the Boss's vertical position according to its movement pattern,
 	 * ensuring it stays within defined vertical boundaries.
 	 * Handles both upward and downward movement with position clamping.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 	@Override
-	public void updatePosition() {
-		moveVertically(getNextMove());
+	public void updatePosition(double tickSeconds) {
+		moveVertically(getNextMove(tickSeconds) * tickSeconds);
 
 		if (getTranslateY() < Y_POSITION_UPPER_BOUND)
 			setTranslateY(Y_POSITION_UPPER_BOUND);
@@ -72,11 +75,13 @@ public class Boss extends FighterJet {
 	/**
 	 * Updates the Boss actor's frame state, including position, shield management, and potential projectile firing.
 	 * Handles vertical movement, shield dynamics, and projectile spawning during each game update.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
-		updateShield();
+	public void updateActor(double tickSeconds) {
+		updatePosition(tickSeconds);
+		updateShield(tickSeconds);
 		level.spawnEnemyProjectile(fireProjectile());
 	}
 
@@ -87,7 +92,7 @@ public class Boss extends FighterJet {
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame() ? new BossMissiles(getProjectileInitialPosition()) : null;
+		return bossFiresInCurrentFrame() ? BossMissiles.create(getProjectileInitialPosition()) : null;
 	}
 
 	/**
@@ -111,17 +116,19 @@ public class Boss extends FighterJet {
 			movePattern.add(-VERTICAL_VELOCITY);
 			movePattern.add(ZERO);
 		}
-		Collections.shuffle(movePattern);
+		level.getRandom().shuffle(movePattern, GameRandom.Stream.MOVEMENT);
 	}
 
 	/**
 	 * Manages Boss shield state during gameplay, handling activation, maintenance, and deactivation.
 	 * Tracks shield duration and updates its status based on game conditions.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
-	private void updateShield() {
+	private void updateShield(double tickSeconds) {
 		if (isShielded) framesWithShieldActivated++;
-		else if (shieldShouldBeActivated()) activateShield();	
-		if (shieldExhausted()) deactivateShield();
+		else if (shieldShouldBeActivated(tickSeconds)) activateShield();	
+		if (shieldExhausted(tickSeconds)) deactivateShield();
 	}
 
 	/**
@@ -129,14 +136,16 @@ public class Boss extends FighterJet {
 	 * It tracks consecutive moves in the same direction, reshuffles the pattern when the limit is reached,
 	 * and updates the move index for cycling through the pattern.
 	 *
-	 * @return The next vertical movement value: positive for downward, negative for upward, or zero for no movement.
+	 * @param tickSeconds the length of the simulation tick, in seconds
+	 * @return The next vertical velocity in pixels per second: positive for downward, negative for upward, or zero
+	 *         for no movement.
 	 */
 
-	private int getNextMove() {
+	private int getNextMove(double tickSeconds) {
 		int currentMove = movePattern.get(indexOfCurrentMove);
 		consecutiveMovesInSameDirection++;
-		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
+		if (consecutiveMovesInSameDirection >= ticksLasting(SECONDS_WITH_SAME_MOVE, tickSeconds)) {
+			level.getRandom().shuffle(movePattern, GameRandom.Stream.MOVEMENT);
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
@@ -148,13 +157,14 @@ public class Boss extends FighterJet {
 
 	/**
 	 * Determines if the {@link Boss} should fire a {@link BossMissiles} in the current frame.
-	 * It uses a random check against the {@code BOSS_FIRE_RATE} to decide if firing occurs.
+	 * It uses a random check against the {@code BOSS_FIRE_RATE}, scaled to the length of a tick, to decide if firing
+	 * occurs.
 	 *
 	 * @return true if the Boss fires, false otherwise.
 	 */
 
 	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+		return level.getRandom().chance(GameRandom.Stream.FIRE, BOSS_FIRE_RATE * level.getTickSeconds());
 	}
 
 	/**
@@ -169,23 +179,36 @@ public class Boss extends FighterJet {
 	}
 	/**
 	 * Determines if the {@link Boss} shield should be activated in the current frame.
-	 * The decision is based on a random check against {@code BOSS_SHIELD_PROBABILITY}.
+	 * The decision is based on a random check against {@code BOSS_SHIELD_PROBABILITY}, scaled to the length of a tick.
 	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 * @return true if the shield is activated, false otherwise.
 	 */
 
-	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+	private boolean shieldShouldBeActivated(double tickSeconds) {
+		return level.getRandom().chance(GameRandom.Stream.SHIELD, BOSS_SHIELD_PROBABILITY * tickSeconds);
 	}
 	/**
 	 * Checks if the {@link Boss} shield has been active for the maximum duration.
-	 * It compares the active frame count to {@code MAX_FRAMES_WITH_SHIELD}.
+	 * It compares the active frame count to the number of ticks in {@code SECONDS_WITH_SHIELD}.
 	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 * @return true if the shield has reached its duration, false otherwise.
 	 */
 
-	private boolean shieldExhausted() {
-		return framesWithShieldActivated == MAX_FRAMES_WITH_SHIELD;
+	private boolean shieldExhausted(double tickSeconds) {
+		return framesWithShieldActivated >= ticksLasting(SECONDS_WITH_SHIELD, tickSeconds);
+	}
+
+	/**
+	 * Converts a duration to the nearest whole number of ticks, so counting ticks measures it without drift.
+	 *
+	 * @param seconds the duration
+	 * @param tickSeconds the length of the simulation tick, in seconds
+	 * @return the number of ticks the duration lasts, at least one.
+	 */
+	private static long ticksLasting(double seconds, double tickSeconds) {
+		return Math.max(1, Math.round(seconds / tickSeconds));
 	}
 	/**
 	 * Activates the shield for the {@link Boss}, protecting it from damage.
@@ -1,16 +1,17 @@
 package com.example.demo.activeactor;
 
+import com.example.demo.engine.GameRandom;
 import com.example.demo.level.LevelParent;
 
 public class BossJet extends FighterJet {
 
 	private static final String IMAGE_NAME = "bossplane.png";
 	private static final int IMAGE_HEIGHT = 57;
-	private static final int HORIZONTAL_VELOCITY = -6;
+	private static final double HORIZONTAL_VELOCITY = -150; // Pixels per second
 	private static final double PROJECTILE_X_POSITION_OFFSET = -80.0;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
 	private static final int INITIAL_HEALTH = 3;
-	private static final double FIRE_RATE = .01;
+	private static final double FIRE_RATE = .25; // Shots per second
 
 	private final LevelParent level;
 
@@ -30,11 +31,13 @@ public class BossJet extends FighterJet {
 	/**
 	 * Updates the {@link BossJet} position by moving it horizontally based on its velocity.
 	 * This shifts the `BossJet` left across the screen using the {@code moveHorizontally} method.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double tickSeconds) {
+		moveHorizontally(HORIZONTAL_VELOCITY * tickSeconds);
 	}
 
 	/**
@@ -47,10 +50,10 @@ public class BossJet extends FighterJet {
 
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+		if (level.getRandom().chance(GameRandom.Stream.FIRE, FIRE_RATE * level.getTickSeconds())) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPostion = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyMissiles(projectileXPosition, projectileYPostion);
+			return EnemyMissiles.create(projectileXPosition, projectileYPostion);
 		}
 		return null;
 	}
@@ -58,11 +61,13 @@ public class BossJet extends FighterJet {
 	 * Updates the {@link BossJet} state each game tick by:
 	 * - Updating its position with {@code updatePosition} based on its velocity.
 	 * - Attempting to fire a projectile with {@code fireProjectile} and adding it to the level if created.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double tickSeconds) {
+		updatePosition(tickSeconds);
 		level.spawnEnemyProjectile(fireProjectile());
 	}
 
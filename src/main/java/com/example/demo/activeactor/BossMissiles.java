@@ -4,8 +4,9 @@ public class BossMissiles extends Missiles {
 	
 	private static final String IMAGE_NAME = "fireball.png";
 	private static final int IMAGE_HEIGHT = 75;
-	private static final int HORIZONTAL_VELOCITY = -15;
+	private static final double HORIZONTAL_VELOCITY = -375; // Pixels per second
 	private static final int INITIAL_X_POSITION = 950;
+	private static final ActorPool<BossMissiles> POOL = new ActorPool<>("bossMissiles", 32, BossMissiles::new);
 
 	/**
 	 * Constructs a {@link BossMissiles} object with the specified initial vertical position.
@@ -17,24 +18,47 @@ public class BossMissiles extends Missiles {
 	public BossMissiles(double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
 	}
+
+	/**
+	 * Constructs a {@link BossMissiles} for the pool, to be placed when it is reset.
+	 */
+	BossMissiles() {
+		super(IMAGE_NAME, IMAGE_HEIGHT);
+	}
+
+	/**
+	 * Obtains a {@link BossMissiles} at the given vertical position, recycling a spent one from the pool when available.
+	 *
+	 * @param initialYPos The missile's initial vertical position.
+	 * @return a missile ready to be fired
+	 */
+	public static BossMissiles create(double initialYPos) {
+		BossMissiles missile = POOL.acquire();
+		missile.reset(INITIAL_X_POSITION, initialYPos);
+		return missile;
+	}
 	/**
 	 * Updates the {@link BossMissiles} position by moving it horizontally using its predefined velocity.
 	 * This overrides the superclass method to implement specific movement behavior, moving left with a negative velocity.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double tickSeconds) {
+		moveHorizontally(HORIZONTAL_VELOCITY * tickSeconds);
 	}
 
 	/**
-	 * Updates the {@link BossMissiles} state each game loop iteration by calling {@link #updatePosition()}
+	 * Updates the {@link BossMissiles} state each game loop iteration by calling {@link #updatePosition(double)}
 	 * to adjust its horizontal position based on predefined movement.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double tickSeconds) {
+		updatePosition(tickSeconds);
 	}
 	
 }
@@ -0,0 +1,212 @@
+package com.example.demo.activeactor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Alpha bitmask of a sprite at the size it is drawn, packed into {@code long} words with one row of bits per pixel
+ * row. Masks are built once per sprite and size from the PNG file and shared by every actor using that sprite, so
+ * pixel-accurate hit tests never read pixels during gameplay: they AND whole words of the overlapping rows.
+ * Which actor types use masks is configured per type with {@link #setPrecision}; everything else collides as a box.
+ * <p>
+ * Masks are the one place an image is read outside {@link com.example.demo.assets.ImageCache}: only the alpha channel
+ * of the full-size PNG is read, through {@link SpriteAlpha}, once per masked sprite. The cached images cannot be used
+ * instead, because they only exist once the JavaFX toolkit is running and are smoothed at their drawn size. Headless
+ * runs and replays must compute exactly the same masks as the game, or recorded inputs would not replay identically.
+ */
+public final class CollisionMask {
+
+	/**
+	 * Pixels with at least this alpha, out of 255, count as solid.
+	 */
+	private static final int ALPHA_THRESHOLD = 128;
+	private static final Map<String, CollisionMask> MASKS = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, CollisionPrecision> PRECISIONS = new ConcurrentHashMap<>();
+
+	static {
+		PRECISIONS.put(PlayerMissiles.class, CollisionPrecision.MASK);
+		PRECISIONS.put(EnemyMissiles.class, CollisionPrecision.MASK);
+		PRECISIONS.put(BossMissiles.class, CollisionPrecision.MASK);
+		PRECISIONS.put(Meteor.class, CollisionPrecision.MASK);
+	}
+
+	private final int width;
+	private final int height;
+	private final int wordsPerRow;
+	private final long[] rows;
+
+	/**
+	 * Constructs a {@link CollisionMask} from packed rows.
+	 *
+	 * @param width the width of the mask in pixels
+	 * @param height the height of the mask in pixels
+	 * @param rows the packed rows, {@code ceil(width / 64)} words per row, lowest bit first
+	 */
+	CollisionMask(int width, int height, long[] rows) {
+		this.width = width;
+		this.height = height;
+		this.wordsPerRow = (width + 63) >>> 6;
+		this.rows = rows;
+	}
+
+	/**
+	 * Sets how precisely actors of a type are tested for collisions. Actors pick up their precision when they are
+	 * constructed, so this should be configured before the first level starts.
+	 *
+	 * @param type the actor type
+	 * @param precision the precision to use
+	 */
+	public static void setPrecision(Class<? extends ActiveActor> type, CollisionPrecision precision) {
+		PRECISIONS.put(type, precision);
+	}
+
+	/**
+	 * @param type the actor type
+	 * @return the precision actors of the type are tested with, {@link CollisionPrecision#BOX} unless configured.
+	 */
+	public static CollisionPrecision getPrecision(Class<?> type) {
+		return PRECISIONS.getOrDefault(type, CollisionPrecision.BOX);
+	}
+
+	/**
+	 * Returns the shared mask of a sprite drawn at the given size, building it on the first request.
+	 *
+	 * @param resourcePath the classpath location of the PNG image
+	 * @param width the width the sprite is drawn at
+	 * @param height the height the sprite is drawn at
+	 * @return the mask of the sprite
+	 */
+	public static CollisionMask forSprite(String resourcePath, double width, int height) {
+		int maskWidth = Math.max(1, (int) Math.ceil(width));
+		return MASKS.computeIfAbsent(resourcePath + '@' + maskWidth + 'x' + height,
+				key -> build(resourcePath, maskWidth, height));
+	}
+
+	/**
+	 * Reads a sprite's alpha channel and samples it at the drawn size.
+	 *
+	 * @param resourcePath the classpath location of the PNG image
+	 * @param width the width of the mask
+	 * @param height the height of the mask
+	 * @return the mask of the sprite
+	 */
+	private static CollisionMask build(String resourcePath, int width, int height) {
+		SpriteAlpha image = SpriteAlpha.read(resourcePath);
+		int wordsPerRow = (width + 63) >>> 6;
+		long[] rows = new long[wordsPerRow * height];
+		for (int y = 0; y < height; y++) {
+			int sourceY = Math.min(image.getHeight() - 1, (int) ((y + 0.5) * image.getHeight() / height));
+			for (int x = 0; x < width; x++) {
+				int sourceX = Math.min(image.getWidth() - 1, (int) ((x + 0.5) * image.getWidth() / width));
+				if (image.getAlpha(sourceX, sourceY) >= ALPHA_THRESHOLD) {
+					rows[y * wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+				}
+			}
+		}
+		return new CollisionMask(width, height, rows);
+	}
+
+	/**
+	 * Checks whether two masks have a solid pixel in common. Positions are rounded down to whole pixels.
+	 * A null mask stands for an actor tested as a box, which is solid everywhere.
+	 *
+	 * @param a the first mask, or null
+	 * @param ax the left edge of the first actor
+	 * @param ay the top edge of the first actor
+	 * @param aWidth the width of the first actor's box
+	 * @param aHeight the height of the first actor's box
+	 * @param b the second mask, or null
+	 * @param bx the left edge of the second actor
+	 * @param by the top edge of the second actor
+	 * @param bWidth the width of the second actor's box
+	 * @param bHeight the height of the second actor's box
+	 * @return true if a solid pixel overlaps, false otherwise
+	 */
+	public static boolean overlaps(CollisionMask a, double ax, double ay, double aWidth, double aHeight,
+								   CollisionMask b, double bx, double by, double bWidth, double bHeight) {
+		int aLeft = (int) Math.floor(ax);
+		int aTop = (int) Math.floor(ay);
+		int bLeft = (int) Math.floor(bx);
+		int bTop = (int) Math.floor(by);
+		int aRight = aLeft + (a != null ? a.width : (int) Math.ceil(aWidth));
+		int aBottom = aTop + (a != null ? a.height : (int) Math.ceil(aHeight));
+		int bRight = bLeft + (b != null ? b.width : (int) Math.ceil(bWidth));
+		int bBottom = bTop + (b != null ? b.height : (int) Math.ceil(bHeight));
+
+		int left = Math.max(aLeft, bLeft);
+		int right = Math.min(aRight, bRight);
+		int top = Math.max(aTop, bTop);
+		int bottom = Math.min(aBottom, bBottom);
+		if (left >= right || top >= bottom) {
+			return false;
+		}
+		if (a == null && b == null) {
+			return true;
+		}
+
+		int span = right - left;
+		for (int y = top; y < bottom; y++) {
+			for (int offset = 0; offset < span; offset += 64) {
+				long remaining = span - offset >= 64 ? -1L : (1L << (span - offset)) - 1;
+				long aBits = a == null ? -1L : a.bitsAt(y - aTop, left - aLeft + offset);
+				long bBits = b == null ? -1L : b.bitsAt(y - bTop, left - bLeft + offset);
+				if ((aBits & bBits & remaining) != 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Reads 64 consecutive bits of a row, starting at any column. Bits beyond the end of the row read as zero.
+	 *
+	 * @param row the row index
+	 * @param column the first column to read
+	 * @return the bits, with the first column in the lowest bit
+	 */
+	private long bitsAt(int row, int column) {
+		int base = row * wordsPerRow;
+		int word = column >>> 6;
+		int shift = column & 63;
+		long bits = rows[base + word] >>> shift;
+		if (shift != 0 && word + 1 < wordsPerRow) {
+			bits |= rows[base + word + 1] << (64 - shift);
+		}
+		return bits;
+	}
+
+	/**
+	 * @return the width of the mask in pixels.
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * @return the height of the mask in pixels.
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * @param x the column
+	 * @param y the row
+	 * @return true if the pixel is solid, false otherwise.
+	 */
+	public boolean isSolid(int x, int y) {
+		return (rows[y * wordsPerRow + (x >>> 6)] >>> (x & 63) & 1L) != 0;
+	}
+
+	/**
+	 * @return the number of solid pixels in the mask.
+	 */
+	public int getSolidCount() {
+		int count = 0;
+		for (long word : rows) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+}
@@ -0,0 +1,18 @@
+package com.example.demo.activeactor;
+
+/**
+ * How precisely an actor type is tested for collisions.
+ */
+public enum CollisionPrecision {
+
+	/**
+	 * The actor's whole bounding box is solid. Cheapest, but counts hits on transparent corners.
+	 */
+	BOX,
+
+	/**
+	 * Only the opaque pixels of the actor's sprite are solid, tested with a {@link CollisionMask} once the bounding
+	 * boxes overlap.
+	 */
+	MASK
+}
@@ -1,17 +1,18 @@
 package com.example.demo.activeactor;
 
 import com.example.demo.controller.Controller;
+import com.example.demo.engine.GameRandom;
 import com.example.demo.level.LevelParent;
 
 public class EnemyJet extends FighterJet {
 
 	private static final String IMAGE_NAME = "enemyplane.png";
 	private static final int IMAGE_HEIGHT = 57;
-	private static final int HORIZONTAL_VELOCITY = -6;
+	private static final double HORIZONTAL_VELOCITY = -150; // Pixels per second
 	private static final double PROJECTILE_X_POSITION_OFFSET = -80.0;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
 	private static final int INITIAL_HEALTH = 1;
-	private static final double FIRE_RATE = .01;
+	private static final double FIRE_RATE = .25; // Shots per second
 
 	private final LevelParent level;
 
@@ -32,11 +33,13 @@ public class EnemyJet extends FighterJet {
 	/**
 	 * Updates the {@link EnemyJet} position by moving it horizontally based on {@code HORIZONTAL_VELOCITY}.
 	 * This method simulates movement across the screen during the game loop.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double tickSeconds) {
+		moveHorizontally(HORIZONTAL_VELOCITY * tickSeconds);
 	}
 
 	/**
@@ -49,22 +52,24 @@ public class EnemyJet extends FighterJet {
 
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+		if (level.getRandom().chance(GameRandom.Stream.FIRE, FIRE_RATE * level.getTickSeconds())) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPostion = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyMissiles(projectileXPosition, projectileYPostion);
+			return EnemyMissiles.create(projectileXPosition, projectileYPostion);
 		}
 		return null;
 	}
 	/**
 	 * Updates the {@link EnemyJet} state each game loop iteration by:
-	 * 1. Moving the jet horizontally with {@code updatePosition()}.
+	 * 1. Moving the jet horizontally with {@code updatePosition}.
 	 * 2. Firing a projectile with {@code fireProjectile()} and spawning it if created.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double tickSeconds) {
+		updatePosition(tickSeconds);
 		level.spawnEnemyProjectile(fireProjectile());
 	}
 }
@@ -4,7 +4,8 @@ public class EnemyMissiles extends Missiles {
 	
 	private static final String IMAGE_NAME = "enemyFire.png";
 	private static final int IMAGE_HEIGHT = 27;
-	private static final int HORIZONTAL_VELOCITY = -10;
+	private static final double HORIZONTAL_VELOCITY = -250; // Pixels per second
+	private static final ActorPool<EnemyMissiles> POOL = new ActorPool<>("enemyMissiles", 64, EnemyMissiles::new);
 
 	/**
 	 * Creates an {@code EnemyMissiles} instance at the specified position with predefined image properties.
@@ -17,24 +18,48 @@ public class EnemyMissiles extends Missiles {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
 	}
 
+	/**
+	 * Constructs an {@code EnemyMissiles} for the pool, to be placed when it is reset.
+	 */
+	EnemyMissiles() {
+		super(IMAGE_NAME, IMAGE_HEIGHT);
+	}
+
+	/**
+	 * Obtains an {@code EnemyMissiles} at the given position, recycling a spent one from the pool when available.
+	 *
+	 * @param initialXPos The missile's initial x-coordinate.
+	 * @param initialYPos The missile's initial y-coordinate.
+	 * @return a missile ready to be fired
+	 */
+	public static EnemyMissiles create(double initialXPos, double initialYPos) {
+		EnemyMissiles missile = POOL.acquire();
+		missile.reset(initialXPos, initialYPos);
+		return missile;
+	}
+
 	/**
 	 * Updates the {@link Missiles} position by moving it horizontally to the left based on predefined velocity.
 	 * This method overrides the superclass method to define specific movement for {@link EnemyMissiles}.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double tickSeconds) {
+		moveHorizontally(HORIZONTAL_VELOCITY * tickSeconds);
 	}
 
 	/**
-	 * Updates the actor's position by invoking {@code updatePosition()}, moving it horizontally based on predefined velocity.
+	 * Updates the actor's position by invoking {@code updatePosition}, moving it horizontally based on predefined velocity.
 	 * This method overrides {@code updateActor} to define the actor's behavior during each game loop cycle.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double tickSeconds) {
+		updatePosition(tickSeconds);
 	}
 
 
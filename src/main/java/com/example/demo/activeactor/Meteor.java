@@ -3,7 +3,8 @@ package com.example.demo.activeactor;
 public class Meteor extends ActiveActorDestructible {
 
     private static final String IMAGE_NAME = "meteor.png"; // Replace with your obstacle image
-    private int speedY;
+    private static final ActorPool<Meteor> POOL = new ActorPool<>("meteors", 8, Meteor::new);
+    private double speedY;
 
     /**
      * Constructs a {@link Meteor} with the specified initial position and vertical speed.
@@ -11,31 +12,57 @@ public class Meteor extends ActiveActorDestructible {
      *
      * @param startX The initial horizontal position.
      * @param startY The initial vertical position.
-     * @param speedY The vertical speed of the meteor.
+     * @param speedY The vertical speed of the meteor, in pixels per second.
      */
-    public Meteor(double startX, double startY, int speedY) {
+    public Meteor(double startX, double startY, double speedY) {
         super(IMAGE_NAME, 70, startX, startY);
 
         this.speedY = speedY;
     }
 
     /**
-     * Updates the vertical position of the {@link Meteor} by adding {@code speedY} to its current y-coordinate,
-     * creating downward movement. This is typically called each game loop iteration.
+     * Constructs a {@link Meteor} for the pool, to be placed and given a speed when it is reset.
+     */
+    Meteor() {
+        super(IMAGE_NAME, 70, 0, 0, true);
+    }
+
+    /**
+     * Obtains a {@link Meteor} at the given position and speed, recycling one that has left the screen when available.
+     *
+     * @param startX The initial horizontal position.
+     * @param startY The initial vertical position.
+     * @param speedY The vertical speed of the meteor, in pixels per second.
+     * @return a meteor ready to be added to the level
+     */
+    public static Meteor create(double startX, double startY, double speedY) {
+        Meteor meteor = POOL.acquire();
+        meteor.reset(startX, startY);
+        meteor.speedY = speedY;
+        return meteor;
+    }
+
+    /**
+     * Updates the vertical position of the {@link Meteor} by adding {@code speedY}, scaled to the length of the tick,
+     * to its current y-coordinate, creating downward movement. This is typically called each game loop iteration.
+     *
+     * @param tickSeconds the length of the simulation tick, in seconds
      */
     @Override
-    public void updatePosition() {
-        setTranslateY(getTranslateY() + speedY);
+    public void updatePosition(double tickSeconds) {
+        setTranslateY(getTranslateY() + speedY * tickSeconds);
     }
 
     /**
      * Updates the actor's state and position by invoking {@code updatePosition} to adjust its vertical position.
      * This method is typically called each game loop iteration and can be overridden by subclasses for additional behavior.
+     *
+     * @param tickSeconds the length of the simulation tick, in seconds
      */
 
     @Override
-    public void updateActor() {
-        updatePosition();
+    public void updateActor(double tickSeconds) {
+        updatePosition(tickSeconds);
     }
 
     /**
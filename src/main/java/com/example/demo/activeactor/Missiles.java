@@ -15,6 +15,16 @@ public abstract class Missiles extends ActiveActorDestructible {
 		super(imageName, imageHeight, initialXPos, initialYPos);
 	}
 
+	/**
+	 * Constructs a {@link Missiles} instance for an {@link ActorPool}, which places it when it is reset.
+	 *
+	 * @param imageName The image file name for the missile.
+	 * @param imageHeight The height of the missile image.
+	 */
+	protected Missiles(String imageName, int imageHeight) {
+		super(imageName, imageHeight, 0, 0, true);
+	}
+
 	/**
 	 * Handles damage by invoking {@link #destroy()} to immediately destroy the object and trigger related behaviors.
 	 * This overrides the parent class's implementation with direct destruction.
@@ -27,8 +37,10 @@ public abstract class Missiles extends ActiveActorDestructible {
 	/**
 	 * Updates the position of the {@link Missiles} object based on its movement behavior.
 	 * Subclasses must implement this to define specific movement logic, invoked during the game loop.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 	@Override
-	public abstract void updatePosition();
+	public abstract void updatePosition(double tickSeconds);
 
 }
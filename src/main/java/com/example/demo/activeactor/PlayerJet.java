@@ -10,8 +10,8 @@ public class PlayerJet extends FighterJet {
 	private static final double INITIAL_X_POSITION = 5.0;
 	private static final double INITIAL_Y_POSITION = 300.0;
 	private static final int IMAGE_HEIGHT = 45;
-	private static final int VERTICAL_VELOCITY = 8;
-	private static final int HORIZONTAL_VELOCITY = 8; // Velocity for horizontal movement
+	private static final double VERTICAL_VELOCITY = 200; // Pixels per second
+	private static final double HORIZONTAL_VELOCITY = 200; // Pixels per second
 	private static final int PROJECTILE_X_POSITION = 100;
 	private static final int PROJECTILE_Y_POSITION_OFFSET = -20;
 	private int verticalVelocityMultiplier;
@@ -34,13 +34,15 @@ public class PlayerJet extends FighterJet {
 	 * Updates the {@link PlayerJet} position based on movement state and velocity multipliers.
 	 * Ensures the jet stays within predefined bounds by resetting translation if it exceeds them.
 	 * Overrides the base class method for position updates specific to PlayerJet.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 	@Override
-	public void updatePosition() {
+	public void updatePosition(double tickSeconds) {
 
 		if (isMovingVertically()) {
 			double initialTranslateY = getTranslateY();
-			this.moveVertically(VERTICAL_VELOCITY * verticalVelocityMultiplier);
+			this.moveVertically(VERTICAL_VELOCITY * verticalVelocityMultiplier * tickSeconds);
 			double newPositionY = getLayoutY() + getTranslateY();
 			if (newPositionY < Y_UPPER_BOUND || newPositionY > Y_LOWER_BOUND) {
 				this.setTranslateY(initialTranslateY);
@@ -50,7 +52,7 @@ public class PlayerJet extends FighterJet {
 
 		if (isMovingHorizontally()) {
 			double initialTranslateX = getTranslateX();
-			this.moveHorizontally(HORIZONTAL_VELOCITY * horizontalVelocityMultiplier);
+			this.moveHorizontally(HORIZONTAL_VELOCITY * horizontalVelocityMultiplier * tickSeconds);
 			double newPositionX = getLayoutX() + getTranslateX();
 			if (newPositionX < X_LEFT_BOUND || newPositionX > X_RIGHT_BOUND) {
 				this.setTranslateX(initialTranslateX);
@@ -59,12 +61,14 @@ public class PlayerJet extends FighterJet {
 	}
 
 	/**
-	 * Updates the {@link PlayerJet} state by recalculating its position using {@link #updatePosition()}.
+	 * Updates the {@link PlayerJet} state by recalculating its position using {@link #updatePosition(double)}.
 	 * Ensures the jet remains within bounds and overrides the superclass method for position updates.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double tickSeconds) {
+		updatePosition(tickSeconds);
 	}
 
 	/**
@@ -75,7 +79,7 @@ public class PlayerJet extends FighterJet {
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		return new PlayerMissiles(getTranslateX() + 100, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+		return PlayerMissiles.create(getTranslateX() + 100, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
 	}
 
 	/**
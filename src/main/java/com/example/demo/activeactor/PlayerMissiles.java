@@ -4,7 +4,8 @@ public class PlayerMissiles extends Missiles {
 
 	private static final String IMAGE_NAME = "userfire.png";
 	private static final int IMAGE_HEIGHT = 125;
-	private static final int HORIZONTAL_VELOCITY = 15;
+	private static final double HORIZONTAL_VELOCITY = 375; // Pixels per second
+	private static final ActorPool<PlayerMissiles> POOL = new ActorPool<>("playerMissiles", 64, PlayerMissiles::new);
 
 	/**
 	 * Constructs a {@code PlayerMissiles} object with an initial position and image.
@@ -13,20 +14,44 @@ public class PlayerMissiles extends Missiles {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
 	}
 
+	/**
+	 * Constructs a {@code PlayerMissiles} for the pool, to be placed when it is reset.
+	 */
+	PlayerMissiles() {
+		super(IMAGE_NAME, IMAGE_HEIGHT);
+	}
+
+	/**
+	 * Obtains a {@code PlayerMissiles} at the given position, recycling a spent one from the pool when available.
+	 *
+	 * @param initialXPos The missile's initial x-coordinate.
+	 * @param initialYPos The missile's initial y-coordinate.
+	 * @return a missile ready to be fired
+	 */
+	public static PlayerMissiles create(double initialXPos, double initialYPos) {
+		PlayerMissiles missile = POOL.acquire();
+		missile.reset(initialXPos, initialYPos);
+		return missile;
+	}
+
 	/**
 	 * Updates the horizontal position of the {@link PlayerMissiles} based on its velocity.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double tickSeconds) {
+		moveHorizontally(HORIZONTAL_VELOCITY * tickSeconds);
 	}
 
 	/**
-	 * Updates the {@code PlayerMissiles} by delegating to {@link #updatePosition()} for movement.
+	 * Updates the {@code PlayerMissiles} by delegating to {@link #updatePosition(double)} for movement.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double tickSeconds) {
+		updatePosition(tickSeconds);
 	}
 	
 }
@@ -0,0 +1,241 @@
+package com.example.demo.activeactor;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * The alpha channel of a sprite, read straight from its PNG file so collision masks can be built without decoding
+ * the image through the JavaFX toolkit or AWT. Only the 8-bit, non-interlaced PNGs the game ships are supported;
+ * images without an alpha channel read as fully opaque.
+ */
+final class SpriteAlpha {
+
+	private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+	private static final int IHDR_CHUNK_TYPE = 0x49484452;
+	private static final int TRNS_CHUNK_TYPE = 0x74524E53;
+	private static final int IDAT_CHUNK_TYPE = 0x49444154;
+	private static final int IEND_CHUNK_TYPE = 0x49454E44;
+	private static final int COLOR_TYPE_PALETTE = 3;
+	private static final int COLOR_TYPE_GRAY_ALPHA = 4;
+	private static final int COLOR_TYPE_RGBA = 6;
+
+	private final int width;
+	private final int height;
+	private final byte[] alpha;
+
+	/**
+	 * Constructs a {@link SpriteAlpha} from decoded alpha values.
+	 *
+	 * @param width the width of the image in pixels
+	 * @param height the height of the image in pixels
+	 * @param alpha the alpha of every pixel, row by row
+	 */
+	private SpriteAlpha(int width, int height, byte[] alpha) {
+		this.width = width;
+		this.height = height;
+		this.alpha = alpha;
+	}
+
+	/**
+	 * Reads the alpha channel of a PNG image on the classpath.
+	 *
+	 * @param resourcePath the classpath location of the PNG image
+	 * @return the alpha channel of the image
+	 * @throws IllegalArgumentException if the image is missing, not a PNG or in an unsupported format
+	 * @throws UncheckedIOException if the image cannot be read
+	 */
+	static SpriteAlpha read(String resourcePath) {
+		try (InputStream stream = SpriteAlpha.class.getResourceAsStream(resourcePath)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Sprite not found: " + resourcePath);
+			}
+			return decode(new DataInputStream(new BufferedInputStream(stream)), resourcePath);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not decode sprite: " + resourcePath, e);
+		}
+	}
+
+	/**
+	 * Walks the chunks of a PNG file, collecting the header, the palette transparency and the compressed pixels, then
+	 * inflates and unfilters the pixels and keeps only their alpha.
+	 *
+	 * @param data the PNG file
+	 * @param resourcePath the classpath location of the image, for error messages
+	 * @return the alpha channel of the image
+	 * @throws IOException if the file cannot be read
+	 */
+	private static SpriteAlpha decode(DataInputStream data, String resourcePath) throws IOException {
+		if (data.readLong() != PNG_SIGNATURE) {
+			throw new IllegalArgumentException("Sprite is not a PNG image: " + resourcePath);
+		}
+		int width = 0;
+		int height = 0;
+		int colorType = -1;
+		byte[] paletteAlpha = null;
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		while (true) {
+			int length = data.readInt();
+			int type = data.readInt();
+			byte[] chunk = data.readNBytes(length);
+			if (chunk.length != length) {
+				throw new EOFException("Truncated PNG chunk in " + resourcePath);
+			}
+			data.readInt(); // CRC
+			if (type == IHDR_CHUNK_TYPE) {
+				ByteBuffer header = ByteBuffer.wrap(chunk);
+				width = header.getInt();
+				height = header.getInt();
+				int bitDepth = header.get();
+				colorType = header.get();
+				header.get(); // compression
+				header.get(); // filter method
+				int interlace = header.get();
+				if (bitDepth != 8 || interlace != 0) {
+					throw new IllegalArgumentException("Sprite is not an 8-bit non-interlaced PNG: " + resourcePath);
+				}
+			} else if (type == TRNS_CHUNK_TYPE) {
+				paletteAlpha = chunk;
+			} else if (type == IDAT_CHUNK_TYPE) {
+				compressed.write(chunk);
+			} else if (type == IEND_CHUNK_TYPE) {
+				break;
+			}
+		}
+
+		int channels = switch (colorType) {
+			case 0, COLOR_TYPE_PALETTE -> 1;
+			case COLOR_TYPE_GRAY_ALPHA -> 2;
+			case 2 -> 3;
+			case COLOR_TYPE_RGBA -> 4;
+			default -> throw new IllegalArgumentException("Sprite has an unknown PNG colour type: " + resourcePath);
+		};
+		int stride = width * channels;
+		byte[] pixels = inflate(compressed.toByteArray(), height * (stride + 1), resourcePath);
+		unfilter(pixels, stride, channels, height);
+
+		byte[] alpha = new byte[width * height];
+		for (int y = 0; y < height; y++) {
+			int row = y * (stride + 1) + 1;
+			for (int x = 0; x < width; x++) {
+				int offset = row + x * channels;
+				alpha[y * width + x] = switch (colorType) {
+					case COLOR_TYPE_RGBA -> pixels[offset + 3];
+					case COLOR_TYPE_GRAY_ALPHA -> pixels[offset + 1];
+					case COLOR_TYPE_PALETTE -> {
+						int index = pixels[offset] & 0xFF;
+						yield paletteAlpha != null && index < paletteAlpha.length ? paletteAlpha[index] : (byte) 0xFF;
+					}
+					default -> (byte) 0xFF;
+				};
+			}
+		}
+		return new SpriteAlpha(width, height, alpha);
+	}
+
+	/**
+	 * Inflates the concatenated image data of a PNG file.
+	 *
+	 * @param compressed the contents of every IDAT chunk, in order
+	 * @param size the size of the filtered image data: one filter byte plus the pixel bytes of every row
+	 * @param resourcePath the classpath location of the image, for error messages
+	 * @return the filtered image data
+	 */
+	private static byte[] inflate(byte[] compressed, int size, String resourcePath) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			byte[] pixels = new byte[size];
+			int read = 0;
+			while (read < size && !inflater.finished() && !inflater.needsInput()) {
+				read += inflater.inflate(pixels, read, size - read);
+			}
+			if (read < size) {
+				throw new IllegalArgumentException("Sprite image data is truncated: " + resourcePath);
+			}
+			return pixels;
+		} catch (DataFormatException e) {
+			throw new IllegalArgumentException("Sprite image data is corrupt: " + resourcePath, e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Reverses the per-row PNG filters in place, leaving each row's filter byte untouched.
+	 *
+	 * @param pixels the filtered image data
+	 * @param stride the number of pixel bytes in a row
+	 * @param bytesPerPixel the number of bytes in a pixel
+	 * @param height the number of rows
+	 */
+	private static void unfilter(byte[] pixels, int stride, int bytesPerPixel, int height) {
+		for (int y = 0; y < height; y++) {
+			int row = y * (stride + 1);
+			int filter = pixels[row];
+			int current = row + 1;
+			int previous = current - (stride + 1);
+			for (int i = 0; i < stride; i++) {
+				int left = i >= bytesPerPixel ? pixels[current + i - bytesPerPixel] & 0xFF : 0;
+				int up = y > 0 ? pixels[previous + i] & 0xFF : 0;
+				int upLeft = y > 0 && i >= bytesPerPixel ? pixels[previous + i - bytesPerPixel] & 0xFF : 0;
+				int predictor = switch (filter) {
+					case 0 -> 0;
+					case 1 -> left;
+					case 2 -> up;
+					case 3 -> (left + up) >>> 1;
+					case 4 -> paeth(left, up, upLeft);
+					default -> throw new IllegalArgumentException("Unknown PNG filter type " + filter);
+				};
+				pixels[current + i] = (byte) (pixels[current + i] + predictor);
+			}
+		}
+	}
+
+	/**
+	 * @param left the byte to the left
+	 * @param up the byte above
+	 * @param upLeft the byte above and to the left
+	 * @return whichever neighbour is closest to {@code left + up - upLeft}, preferring left, then up.
+	 */
+	private static int paeth(int left, int up, int upLeft) {
+		int estimate = left + up - upLeft;
+		int toLeft = Math.abs(estimate - left);
+		int toUp = Math.abs(estimate - up);
+		int toUpLeft = Math.abs(estimate - upLeft);
+		if (toLeft <= toUp && toLeft <= toUpLeft) {
+			return left;
+		}
+		return toUp <= toUpLeft ? up : upLeft;
+	}
+
+	/**
+	 * @return the width of the image in pixels.
+	 */
+	int getWidth() {
+		return width;
+	}
+
+	/**
+	 * @return the height of the image in pixels.
+	 */
+	int getHeight() {
+		return height;
+	}
+
+	/**
+	 * @param x the column
+	 * @param y the row
+	 * @return the alpha of the pixel, from 0 for transparent to 255 for opaque.
+	 */
+	int getAlpha(int x, int y) {
+		return alpha[y * width + x] & 0xFF;
+	}
+}
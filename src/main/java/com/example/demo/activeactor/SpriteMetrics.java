@@ -0,0 +1,59 @@
+package com.example.demo.activeactor;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads the natural dimensions of sprite images straight from their PNG headers, so actors can size their
+ * bounding boxes without decoding the image or starting the JavaFX toolkit.
+ */
+public final class SpriteMetrics {
+
+	private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+	private static final int IHDR_CHUNK_TYPE = 0x49484452;
+	private static final Map<String, double[]> DIMENSIONS = new ConcurrentHashMap<>();
+
+	private SpriteMetrics() {
+	}
+
+	/**
+	 * Returns the width of the sprite when scaled to the given height with its aspect ratio preserved.
+	 *
+	 * @param resourcePath the classpath location of the PNG image
+	 * @param height the height the sprite is drawn at
+	 * @return the scaled width of the sprite
+	 */
+	public static double getScaledWidth(String resourcePath, double height) {
+		double[] size = DIMENSIONS.computeIfAbsent(resourcePath, SpriteMetrics::readDimensions);
+		return height * size[0] / size[1];
+	}
+
+	/**
+	 * Parses the width and height from the IHDR chunk that opens every PNG file.
+	 *
+	 * @param resourcePath the classpath location of the PNG image
+	 * @return a two-element array holding the width and height in pixels
+	 */
+	private static double[] readDimensions(String resourcePath) {
+		try (InputStream stream = SpriteMetrics.class.getResourceAsStream(resourcePath)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Sprite not found: " + resourcePath);
+			}
+			DataInputStream data = new DataInputStream(stream);
+			if (data.readLong() != PNG_SIGNATURE) {
+				throw new IllegalArgumentException("Sprite is not a PNG image: " + resourcePath);
+			}
+			data.readInt();
+			if (data.readInt() != IHDR_CHUNK_TYPE) {
+				throw new IllegalArgumentException("Sprite has no IHDR header: " + resourcePath);
+			}
+			return new double[] {data.readInt(), data.readInt()};
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read sprite header: " + resourcePath, e);
+		}
+	}
+}
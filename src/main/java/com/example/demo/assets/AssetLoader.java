@@ -0,0 +1,166 @@
+package com.example.demo.assets;
+
+import com.example.demo.SoundManager;
+import com.example.demo.activeactor.ActiveActor;
+import com.example.demo.activeactor.CollisionMask;
+import com.example.demo.activeactor.SpriteMetrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Loads every asset in an {@link AssetManifest} in parallel, one task per asset across all available cores, and
+ * records how long each one took. Images are pinned in the {@link ImageCache}, sprites also get their size metrics
+ * and collision masks, and sounds are loaded into the {@link SoundManager}, so gameplay afterwards reads everything
+ * from memory.
+ */
+public class AssetLoader {
+
+	private static final System.Logger LOGGER = System.getLogger(AssetLoader.class.getName());
+	private static final int SLOWEST_ASSETS_LOGGED = 3;
+
+	private final AssetManifest manifest;
+
+	/**
+	 * Constructs an {@link AssetLoader} for a manifest.
+	 *
+	 * @param manifest the assets to load
+	 */
+	public AssetLoader(AssetManifest manifest) {
+		this.manifest = manifest;
+	}
+
+	/**
+	 * Starts loading every asset on a pool of background threads sized to the number of cores. An asset that fails
+	 * to load is logged and reported in its timing, and does not stop the others.
+	 *
+	 * @param onProgress called from a loader thread with the fraction of assets finished after each one, or null
+	 * @return a future completing with the timing of every asset, in manifest order
+	 */
+	public CompletableFuture<List<AssetTiming>> loadAll(DoubleConsumer onProgress) {
+		List<AssetManifest.Asset> assets = manifest.getAssets();
+		int threads = Math.max(1, Math.min(assets.size(), Runtime.getRuntime().availableProcessors()));
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "asset-loader-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		long start = System.nanoTime();
+		AtomicInteger finished = new AtomicInteger();
+		List<CompletableFuture<AssetTiming>> tasks = new ArrayList<>();
+		for (AssetManifest.Asset asset : assets) {
+			tasks.add(CompletableFuture.supplyAsync(() -> {
+				AssetTiming timing = loadTimed(asset);
+				if (onProgress != null) {
+					onProgress.accept((double) finished.incrementAndGet() / assets.size());
+				}
+				return timing;
+			}, executor));
+		}
+
+		return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+			executor.shutdown();
+			List<AssetTiming> timings = new ArrayList<>();
+			for (CompletableFuture<AssetTiming> task : tasks) {
+				timings.add(task.join());
+			}
+			report(timings, System.nanoTime() - start, threads);
+			return timings;
+		});
+	}
+
+	/**
+	 * Loads one asset, catching any failure so it can be reported alongside the other timings.
+	 *
+	 * @param asset the asset to load
+	 * @return how long the asset took to load
+	 */
+	private static AssetTiming loadTimed(AssetManifest.Asset asset) {
+		long start = System.nanoTime();
+		try {
+			load(asset);
+			return new AssetTiming(asset, System.nanoTime() - start, null);
+		} catch (RuntimeException e) {
+			LOGGER.log(System.Logger.Level.WARNING, "Could not load asset " + asset.describe(), e);
+			return new AssetTiming(asset, System.nanoTime() - start, e);
+		}
+	}
+
+	/**
+	 * Loads one asset into the cache that gameplay reads it from.
+	 *
+	 * @param asset the asset to load
+	 */
+	static void load(AssetManifest.Asset asset) {
+		switch (asset.type()) {
+			case IMAGE -> ImageCache.getInstance().preload(asset.path(), asset.width(), asset.height(),
+					asset.preserveRatio());
+			case SPRITE -> {
+				String path = ActiveActor.IMAGE_LOCATION + asset.path();
+				int height = (int) asset.height();
+				double width = SpriteMetrics.getScaledWidth(path, height);
+				ImageCache.getInstance().preload(path, 0, height, true);
+				CollisionMask.forSprite(path, width, height);
+			}
+			case SOUND -> SoundManager.preload(asset.path());
+		}
+	}
+
+	/**
+	 * Logs the total load time, and the slowest assets and every individual timing at finer levels.
+	 *
+	 * @param timings the timing of every asset
+	 * @param wallNanos the wall-clock time the whole load took
+	 * @param threads the number of loader threads
+	 */
+	private static void report(List<AssetTiming> timings, long wallNanos, int threads) {
+		long totalNanos = 0;
+		int failures = 0;
+		for (AssetTiming timing : timings) {
+			totalNanos += timing.nanos();
+			if (!timing.succeeded()) {
+				failures++;
+			}
+		}
+		LOGGER.log(System.Logger.Level.INFO, String.format(
+				"Loaded %d assets in %.1f ms on %d threads (%.1f ms of work, %d failed)",
+				timings.size(), wallNanos / 1e6, threads, totalNanos / 1e6, failures));
+
+		List<AssetTiming> slowest = new ArrayList<>(timings);
+		slowest.sort(Comparator.comparingLong(AssetTiming::nanos).reversed());
+		for (int i = 0; i < Math.min(SLOWEST_ASSETS_LOGGED, slowest.size()); i++) {
+			AssetTiming timing = slowest.get(i);
+			LOGGER.log(System.Logger.Level.DEBUG, () -> String.format("Slow asset %s: %.1f ms",
+					timing.asset().describe(), timing.nanos() / 1e6));
+		}
+		for (AssetTiming timing : timings) {
+			LOGGER.log(System.Logger.Level.TRACE, () -> String.format("Asset %s: %.2f ms",
+					timing.asset().describe(), timing.nanos() / 1e6));
+		}
+	}
+
+	/**
+	 * How long a single asset took to load.
+	 *
+	 * @param asset the asset
+	 * @param nanos the load time in nanoseconds
+	 * @param error the failure, or null if the asset loaded
+	 */
+	public record AssetTiming(AssetManifest.Asset asset, long nanos, Throwable error) {
+
+		/**
+		 * @return true if the asset loaded, false otherwise.
+		 */
+		public boolean succeeded() {
+			return error == null;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package com.example.demo.assets;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Declarative list of every asset the game needs, read from a text resource with one asset per line:
+ * <pre>
+ * image  &lt;path&gt; &lt;width&gt; &lt;height&gt; [stretch]
+ * sprite &lt;file&gt; &lt;height&gt;
+ * sound  &lt;file&gt;
+ * </pre>
+ * Blank lines and lines starting with {@code #} are ignored. Paths may contain spaces.
+ */
+public class AssetManifest {
+
+	/**
+	 * The classpath location of the game's manifest.
+	 */
+	public static final String DEFAULT_LOCATION = "/com/example/demo/assets.manifest";
+
+	private final List<Asset> assets;
+
+	/**
+	 * Constructs an {@link AssetManifest} from a list of assets.
+	 *
+	 * @param assets the assets in the manifest
+	 */
+	public AssetManifest(List<Asset> assets) {
+		this.assets = List.copyOf(assets);
+	}
+
+	/**
+	 * Reads a manifest from the classpath.
+	 *
+	 * @param resourcePath the classpath location of the manifest
+	 * @return the parsed manifest
+	 */
+	public static AssetManifest load(String resourcePath) {
+		try (InputStream stream = AssetManifest.class.getResourceAsStream(resourcePath)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Asset manifest not found: " + resourcePath);
+			}
+			return parse(new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8)));
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read asset manifest: " + resourcePath, e);
+		}
+	}
+
+	/**
+	 * Parses a manifest line by line.
+	 *
+	 * @param reader the manifest text
+	 * @return the parsed manifest
+	 * @throws IOException if the text cannot be read
+	 */
+	static AssetManifest parse(BufferedReader reader) throws IOException {
+		List<Asset> assets = new ArrayList<>();
+		String line;
+		int lineNumber = 0;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			line = line.strip();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			try {
+				assets.add(parseLine(line));
+			} catch (RuntimeException e) {
+				throw new IllegalArgumentException("Invalid asset manifest line " + lineNumber + ": " + line, e);
+			}
+		}
+		return new AssetManifest(assets);
+	}
+
+	/**
+	 * Parses a single manifest entry, reading sizes and flags from the end of the line so paths may contain spaces.
+	 *
+	 * @param line the entry
+	 * @return the asset it describes
+	 */
+	private static Asset parseLine(String line) {
+		List<String> tokens = new ArrayList<>(Arrays.asList(line.split("\\s+")));
+		AssetType type = AssetType.valueOf(tokens.remove(0).toUpperCase());
+		switch (type) {
+			case IMAGE -> {
+				boolean preserveRatio = !tokens.get(tokens.size() - 1).equals("stretch");
+				if (!preserveRatio) {
+					tokens.remove(tokens.size() - 1);
+				}
+				double height = Double.parseDouble(tokens.remove(tokens.size() - 1));
+				double width = Double.parseDouble(tokens.remove(tokens.size() - 1));
+				return new Asset(type, join(tokens), width, height, preserveRatio);
+			}
+			case SPRITE -> {
+				double height = Double.parseDouble(tokens.remove(tokens.size() - 1));
+				return new Asset(type, join(tokens), 0, height, true);
+			}
+			default -> {
+				return new Asset(type, join(tokens), 0, 0, true);
+			}
+		}
+	}
+
+	/**
+	 * @param tokens the remaining tokens of a line
+	 * @return the tokens joined back into a path
+	 */
+	private static String join(List<String> tokens) {
+		if (tokens.isEmpty()) {
+			throw new IllegalArgumentException("Missing path");
+		}
+		return String.join(" ", tokens);
+	}
+
+	/**
+	 * @return the assets in the manifest, in file order.
+	 */
+	public List<Asset> getAssets() {
+		return Collections.unmodifiableList(assets);
+	}
+
+	/**
+	 * The kinds of asset a manifest can list.
+	 */
+	public enum AssetType {
+		IMAGE,
+		SPRITE,
+		SOUND
+	}
+
+	/**
+	 * A single manifest entry.
+	 *
+	 * @param type the kind of asset
+	 * @param path the classpath location for images, or the file name for sprites and sounds
+	 * @param width the requested width of an image, or zero
+	 * @param height the requested height of an image or sprite, or zero
+	 * @param preserveRatio whether an image keeps its aspect ratio
+	 */
+	public record Asset(AssetType type, String path, double width, double height, boolean preserveRatio) {
+
+		/**
+		 * @return a short description of the asset for progress reports and timings.
+		 */
+		public String describe() {
+			return switch (type) {
+				case IMAGE -> path + " @" + (int) width + "x" + (int) height;
+				case SPRITE -> path + " @" + (int) height;
+				case SOUND -> path;
+			};
+		}
+	}
+}
@@ -0,0 +1,308 @@
+package com.example.demo.assets;
+
+import com.example.demo.engine.jfr.AssetLoadEvent;
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Process-wide cache of decoded images, keyed by resource path and requested size, so each sprite is decoded once
+ * and shared by every node that shows it. Images are decoded at the size they are drawn, and the cache holds them
+ * within a fixed memory budget, evicting the least recently used entries first.
+ * The budget can be set at launch with {@code -Dimage.cache.bytes}. Images loaded through {@link #preload} are pinned
+ * and never evicted, so assets loaded at startup stay decoded for the whole session.
+ */
+public class ImageCache {
+
+	private static final long DEFAULT_BUDGET_BYTES = 64L * 1024 * 1024;
+	private static final int BYTES_PER_PIXEL = 4;
+	private static ImageCache instance;
+
+	private final LinkedHashMap<Key, Entry> entries;
+	private final Map<Key, CompletableFuture<Image>> loading;
+	private long budgetBytes;
+	private long bytes;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 * Private constructor for the {@link ImageCache} singleton.
+	 */
+	private ImageCache(long budgetBytes) {
+		this.entries = new LinkedHashMap<>(64, 0.75f, true);
+		this.loading = new HashMap<>();
+		this.budgetBytes = budgetBytes;
+	}
+
+	/**
+	 * Returns the singleton instance of {@link ImageCache}.
+	 *
+	 * @return the instance of ImageCache.
+	 */
+	public static synchronized ImageCache getInstance() {
+		if (instance == null) {
+			instance = new ImageCache(Long.getLong("image.cache.bytes", DEFAULT_BUDGET_BYTES));
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the image at its natural size.
+	 *
+	 * @param resourcePath the classpath location of the image
+	 * @return the decoded image
+	 */
+	public Image get(String resourcePath) {
+		return get(resourcePath, 0, 0, true);
+	}
+
+	/**
+	 * Returns the image scaled to fit the requested size with its aspect ratio preserved. A dimension of zero is
+	 * derived from the other one.
+	 *
+	 * @param resourcePath the classpath location of the image
+	 * @param width the requested width, or zero
+	 * @param height the requested height, or zero
+	 * @return the decoded image
+	 */
+	public Image get(String resourcePath, double width, double height) {
+		return get(resourcePath, width, height, true);
+	}
+
+	/**
+	 * Returns the image decoded at the requested size, loading it on the first request. Concurrent requests for an
+	 * image that is still loading wait for that load instead of decoding it again.
+	 *
+	 * @param resourcePath the classpath location of the image
+	 * @param width the requested width, or zero for the natural width
+	 * @param height the requested height, or zero for the natural height
+	 * @param preserveRatio whether to keep the aspect ratio when both dimensions are given
+	 * @return the decoded image
+	 */
+	public Image get(String resourcePath, double width, double height, boolean preserveRatio) {
+		Key key = new Key(resourcePath, width, height, preserveRatio);
+		CompletableFuture<Image> pending;
+		boolean owner = false;
+		synchronized (this) {
+			Entry entry = entries.get(key);
+			if (entry != null) {
+				hits++;
+				return entry.image();
+			}
+			pending = loading.get(key);
+			if (pending == null) {
+				misses++;
+				pending = new CompletableFuture<>();
+				loading.put(key, pending);
+				owner = true;
+			}
+		}
+
+		if (!owner) {
+			try {
+				return pending.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				if (e.getCause() instanceof Error cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
+
+		try {
+			Image image = decode(key);
+			synchronized (this) {
+				loading.remove(key);
+				store(key, image);
+			}
+			pending.complete(image);
+			return image;
+		} catch (Throwable e) {
+			// Also catches errors, so threads waiting for this load are never left blocked
+			synchronized (this) {
+				loading.remove(key);
+			}
+			pending.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Loads an image like {@link #get(String, double, double, boolean)} and pins it in the cache, so it is never
+	 * evicted. Pinned images still count towards the budget.
+	 *
+	 * @param resourcePath the classpath location of the image
+	 * @param width the requested width, or zero for the natural width
+	 * @param height the requested height, or zero for the natural height
+	 * @param preserveRatio whether to keep the aspect ratio when both dimensions are given
+	 * @return the decoded image
+	 */
+	public Image preload(String resourcePath, double width, double height, boolean preserveRatio) {
+		Image image = get(resourcePath, width, height, preserveRatio);
+		Key key = new Key(resourcePath, width, height, preserveRatio);
+		synchronized (this) {
+			Entry entry = entries.get(key);
+			if (entry != null && !entry.pinned()) {
+				entries.put(key, new Entry(entry.image(), entry.bytes(), true));
+			} else if (entry == null) {
+				// Evicted between the load and the pin; put it back pinned
+				entries.put(key, new Entry(image, estimateBytes(image), true));
+				bytes += estimateBytes(image);
+			}
+		}
+		return image;
+	}
+
+	/**
+	 * Decodes an image synchronously and smoothly scaled to the size described by its key, so its pixels, size and any
+	 * decoding error are known on return. Callers are either loader threads or need the pixels right away.
+	 *
+	 * @param key the image and size to decode
+	 * @return the decoded image
+	 */
+	private Image decode(Key key) {
+		AssetLoadEvent event = new AssetLoadEvent();
+		event.begin();
+		URL url = ImageCache.class.getResource(key.resourcePath());
+		if (url == null) {
+			throw new IllegalArgumentException("Image not found: " + key.resourcePath());
+		}
+		Image image = new Image(url.toExternalForm(), key.width(), key.height(), key.preserveRatio(), true, false);
+		if (image.isError()) {
+			throw new IllegalStateException("Could not decode image: " + key.resourcePath(), image.getException());
+		}
+		if (event.shouldCommit()) {
+			event.resource = key.resourcePath();
+			event.width = image.getWidth();
+			event.height = image.getHeight();
+			event.bytes = estimateBytes(image);
+			event.commit();
+		}
+		return image;
+	}
+
+	/**
+	 * Adds a decoded image and evicts least recently used entries until the cache is back within budget.
+	 * The newest entry is always kept, even if it alone exceeds the budget.
+	 *
+	 * @param key the key of the image
+	 * @param image the decoded image
+	 */
+	private void store(Key key, Image image) {
+		long size = estimateBytes(image);
+		entries.put(key, new Entry(image, size, false));
+		bytes += size;
+		evictToBudget(key);
+	}
+
+	/**
+	 * @param image a decoded image
+	 * @return the approximate memory held by the image's pixels, in bytes
+	 */
+	private static long estimateBytes(Image image) {
+		return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+	}
+
+	/**
+	 * Evicts least recently used entries, other than pinned ones and the one given, until the cache fits its budget.
+	 *
+	 * @param keep a key that must not be evicted, or null
+	 */
+	private void evictToBudget(Key keep) {
+		Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+		while (bytes > budgetBytes && iterator.hasNext()) {
+			Map.Entry<Key, Entry> eldest = iterator.next();
+			if (eldest.getValue().pinned() || eldest.getKey().equals(keep)) {
+				continue;
+			}
+			bytes -= eldest.getValue().bytes();
+			iterator.remove();
+			evictions++;
+		}
+	}
+
+	/**
+	 * Changes the memory budget, evicting entries immediately if the cache no longer fits.
+	 *
+	 * @param budgetBytes the new budget in bytes
+	 */
+	public synchronized void setBudgetBytes(long budgetBytes) {
+		this.budgetBytes = budgetBytes;
+		evictToBudget(null);
+	}
+
+	/**
+	 * Removes every entry and resets the statistics.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		bytes = 0;
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/**
+	 * @return the memory budget in bytes.
+	 */
+	public synchronized long getBudgetBytes() {
+		return budgetBytes;
+	}
+
+	/**
+	 * @return the estimated memory held by cached images, in bytes.
+	 */
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * @return the number of images currently cached.
+	 */
+	public synchronized int getEntryCount() {
+		return entries.size();
+	}
+
+	/**
+	 * @return the number of requests served from the cache.
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return the number of requests that had to decode an image.
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return the number of entries evicted to stay within budget.
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Identifies a cached image by its resource path and requested size.
+	 */
+	private record Key(String resourcePath, double width, double height, boolean preserveRatio) {
+	}
+
+	/**
+	 * A cached image together with its estimated memory footprint and whether it is pinned.
+	 */
+	private record Entry(Image image, long bytes, boolean pinned) {
+	}
+}
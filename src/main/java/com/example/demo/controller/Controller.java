@@ -1,10 +1,16 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Observable;
 import java.util.Observer;
 
+import com.example.demo.engine.FrameStats;
+import com.example.demo.engine.GameRandom;
+import com.example.demo.engine.jfr.LevelTransitionEvent;
+import com.example.demo.level.LevelCatalog;
+import com.example.demo.simulation.InputRecording;
 import com.example.demo.userinterface.Pause;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
@@ -14,9 +20,17 @@ import com.example.demo.level.LevelParent;
 
 public class Controller implements Observer {
 
-	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.level.LevelOne";
+	private static final System.Logger LOGGER = System.getLogger(Controller.class.getName());
+	private static final String RECORD_DIRECTORY_PROPERTY = "input.record.dir";
+	private static final String REPLAY_FILE_PROPERTY = "input.replay";
+	private static final String FRAME_REPORT_DIRECTORY_PROPERTY = "frame.report.dir";
+	private static final String DEFAULT_FRAME_REPORT_DIRECTORY = "frame-reports";
 	private final Stage stage;
 	private final Pause pause;
+	private LevelPreloader preloader;
+	private LevelParent currentLevel;
+	private long lastTransitionNanos;
+	private InputRecording pendingReplay;
 
 	/**
 	 * Constructs a {@link Controller} to initialize the game stage and pause functionality.
@@ -27,47 +41,158 @@ public class Controller implements Observer {
 	}
 
 	/**
-	 * Initiates the game by displaying the primary stage and dynamically loading the first level using reflection.
+	 * Initiates the game by displaying the primary stage and loading the first level of the {@link LevelCatalog}.
+	 * When launched with {@code -Dinput.replay=<file>}, the recorded level is loaded instead and plays back the
+	 * recorded inputs; with {@code -Dinput.record.dir=<directory>}, the inputs of every level are saved there.
 	 *
-	 * @throws ClassNotFoundException if the level class {@code LEVEL_ONE_CLASS_NAME} cannot be located
-	 * @throws NoSuchMethodException if the required constructor for the level class is not found
-	 * @throws SecurityException if access to the constructor is restricted
-	 * @throws InstantiationException if an instance of the level class cannot be created
-	 * @throws IllegalAccessException if the constructor or its class is inaccessible
-	 * @throws IllegalArgumentException if the provided arguments for the constructor are invalid
-	 * @throws InvocationTargetException if the invoked constructor throws an exception
+	 * @throws IllegalArgumentException if the level catalog or the input recording is invalid
 	 */
-	public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException  {
+	public void launchGame() {
 
 			stage.show();
-			goToLevel(LEVEL_ONE_CLASS_NAME);
+			String replayFile = System.getProperty(REPLAY_FILE_PROPERTY);
+			if (replayFile != null) {
+				try {
+					pendingReplay = InputRecording.load(Path.of(replayFile));
+				} catch (IOException e) {
+					throw new IllegalArgumentException("Could not load input recording " + replayFile, e);
+				}
+				GameRandom.setRunSeed(GameRandom.runSeedFor(pendingReplay.getLevelName(), pendingReplay.getSeed()));
+				goToLevel(pendingReplay.getLevelName());
+				return;
+			}
+			goToLevel(LevelCatalog.getInstance().getFirstLevelName());
 	}
 
 	/**
-	 * Transitions the game to the specified level by dynamically loading its class, creating an instance, and
-	 * initializing its scene using reflection.
+	 * Transitions the game to the specified level, using the level prepared in the background by the
+	 * {@link LevelPreloader} when there is one, or otherwise creating it from the {@link LevelCatalog}, and
+	 * initializing its scene. The previous level is disposed once the new scene is on stage, the next level starts
+	 * preloading, and the time the transition blocked the FX thread is logged. If the new level is won or lost
+	 * instead of advancing, the preloaded level is discarded.
 	 *
-	 * @param className the fully qualified name of the level class to load and start
-	 * @throws ClassNotFoundException if the specified level class cannot be located
-	 * @throws NoSuchMethodException if the required constructor for the level class is not found
-	 * @throws SecurityException if the application is not allowed to access the constructor
-	 * @throws InstantiationException if an instance of the level class cannot be created
-	 * @throws IllegalAccessException if the constructor or its class is inaccessible
-	 * @throws IllegalArgumentException if the provided arguments are invalid for the constructor
-	 * @throws InvocationTargetException if the invoked constructor throws an exception
+	 * @param levelName the name of the level to load and start
+	 * @throws IllegalArgumentException if the catalog has no level of that name
 	 */
-	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-			Class<?> myClass = Class.forName(className);
-			Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-			LevelParent myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
+	private void goToLevel(String levelName) {
+			LevelTransitionEvent event = new LevelTransitionEvent();
+			event.begin();
+			long start = System.nanoTime();
+			String fromLevel = currentLevel != null ? currentLevel.getLevelName() : null;
+			LevelParent myLevel = getPreloader().take(levelName);
+			boolean preloaded = myLevel != null;
+			if (!preloaded) {
+				myLevel = LevelCatalog.getInstance().create(levelName, stage.getHeight(), stage.getWidth());
+			}
 			myLevel.addObserver(this);
 			Scene scene = myLevel.initializeScene();
 			stage.setScene(scene);
+			if (currentLevel != null) {
+				currentLevel.dispose();
+			}
+			attachInputRecording(myLevel);
+			myLevel.setOnFrameReport(report -> saveFrameReport(Path.of(System.getProperty(
+					FRAME_REPORT_DIRECTORY_PROPERTY, DEFAULT_FRAME_REPORT_DIRECTORY)), report));
+			myLevel.setOnGameOver(getPreloader()::discard);
 			myLevel.startGame();
 			pause.setCurrentScene(scene);
 			pause.setCurrentLevel(myLevel);
+			currentLevel = myLevel;
+			lastTransitionNanos = System.nanoTime() - start;
+			if (event.shouldCommit()) {
+				event.fromLevel = fromLevel;
+				event.toLevel = levelName;
+				event.preloaded = preloaded;
+				event.commit();
+			}
+			LOGGER.log(System.Logger.Level.INFO, String.format("Transition to %s took %.1f ms (preloaded: %b)",
+					levelName, lastTransitionNanos / 1e6, preloaded));
+			getPreloader().preload(myLevel.getNextLevelName());
+	}
+
+	/**
+	 * Feeds the pending replay into a level if it is the recorded one, and otherwise starts recording the level's
+	 * inputs if a recording directory is configured.
+	 *
+	 * @param level the level about to start
+	 */
+	private void attachInputRecording(LevelParent level) {
+		if (pendingReplay != null && pendingReplay.getLevelName().equals(level.getLevelName())) {
+			level.replayInputs(pendingReplay);
+			pendingReplay = null;
+			return;
+		}
+		String directory = System.getProperty(RECORD_DIRECTORY_PROPERTY);
+		if (directory != null) {
+			level.recordInputs(recording -> saveRecording(Path.of(directory), recording));
+		}
+	}
+
+	/**
+	 * Saves a finished recording under a name made of the level and the current time. Failures are logged and do not
+	 * interrupt the game.
+	 *
+	 * @param directory the directory to save into
+	 * @param recording the recording to save
+	 */
+	private static void saveRecording(Path directory, InputRecording recording) {
+		Path file = directory.resolve(recording.getLevelName() + "-" + System.currentTimeMillis() + ".rec");
+		try {
+			Files.createDirectories(directory);
+			recording.save(file);
+			LOGGER.log(System.Logger.Level.INFO, String.format("Saved %d inputs over %d ticks to %s",
+					recording.size(), recording.getTickCount(), file));
+		} catch (IOException e) {
+			LOGGER.log(System.Logger.Level.WARNING, "Could not save input recording to " + file, e);
+		}
+	}
+
+	/**
+	 * Logs a finished level's frame and tick time summary and saves it under a name made of the level and the current
+	 * time, in the directory given by {@code -Dframe.report.dir} or {@code frame-reports} by default. Failures are
+	 * logged and do not interrupt the game.
+	 *
+	 * @param directory the directory to save into
+	 * @param report the summary to save
+	 */
+	private static void saveFrameReport(Path directory, FrameStats.Report report) {
+		Path file = directory.resolve(report.levelName() + "-" + System.currentTimeMillis() + ".frames.txt");
+		LOGGER.log(System.Logger.Level.INFO, "Frame report:\n" + report);
+		try {
+			Files.createDirectories(directory);
+			report.save(file);
+		} catch (IOException e) {
+			LOGGER.log(System.Logger.Level.WARNING, "Could not save frame report to " + file, e);
+		}
+	}
+
+	/**
+	 * Returns the {@link LevelPreloader}, creating it on first use once the stage has its final size.
+	 *
+	 * @return the level preloader
+	 */
+	private LevelPreloader getPreloader() {
+		if (preloader == null) {
+			preloader = new LevelPreloader(stage.getHeight(), stage.getWidth());
+		}
+		return preloader;
+	}
+
+	/**
+	 * Stops the {@link LevelPreloader}'s background thread, discarding any level it is preparing. Called when the
+	 * application exits.
+	 */
+	public void shutdown() {
+		if (preloader != null) {
+			preloader.shutdown();
+		}
+	}
+
+	/**
+	 * @return how long the last level transition blocked the FX thread, in nanoseconds.
+	 */
+	public long getLastTransitionNanos() {
+		return lastTransitionNanos;
 	}
 
 	/**
@@ -76,14 +201,13 @@ public class Controller implements Observer {
 	 *
 	 * @param arg0 the observable object being observed, typically the source of the update
 	 * @param arg1 the argument passed by the observable object, in this case, expected to be
-	 *             the name of the level class as a String
+	 *             the name of the level as a String
 	 */
 	@Override
 	public void update(Observable arg0, Object arg1) {
 		try {
 			goToLevel((String) arg1);
-		} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
-				| IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+		} catch (IllegalArgumentException | IllegalStateException e) {
 			Alert alert = new Alert(AlertType.ERROR);
 			alert.setContentText(e.getClass().toString());
 			alert.show();
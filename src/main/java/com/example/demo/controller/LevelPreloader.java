@@ -0,0 +1,164 @@
+package com.example.demo.controller;
+
+import com.example.demo.level.LevelCatalog;
+import com.example.demo.level.LevelParent;
+import javafx.application.Platform;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Prepares the next level on a background thread while the current one is still playing, so that a level
+ * transition only has to attach a scene that is already built.
+ * The level is constructed and its scene graph built and decoded off the JavaFX Application Thread; the
+ * {@link javafx.scene.Scene} itself is then created on the FX thread ahead of the transition.
+ */
+public class LevelPreloader {
+
+	private static final System.Logger LOGGER = System.getLogger(LevelPreloader.class.getName());
+
+	private final double screenHeight;
+	private final double screenWidth;
+	private final ExecutorService executor;
+	private Preload pending;
+
+	/**
+	 * Constructs a {@link LevelPreloader} for levels of the given screen size.
+	 *
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth the width of the game screen
+	 */
+	public LevelPreloader(double screenHeight, double screenWidth) {
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "level-preloader");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts preparing a level in the background, replacing any level prepared earlier. Does nothing if the level
+	 * is already being prepared or if the level name is null.
+	 *
+	 * @param levelName the name of the level in the {@link LevelCatalog}
+	 */
+	public synchronized void preload(String levelName) {
+		if (levelName == null || (pending != null && levelName.equals(pending.levelName))) {
+			return;
+		}
+		discard();
+		Preload preload = new Preload(levelName, CompletableFuture.supplyAsync(() -> prepare(levelName), executor));
+		// A single dependent, so whether the level is kept or disposed never depends on the order dependents run in
+		preload.future.thenAccept(level -> Platform.runLater(() -> preload.settle(level)));
+		pending = preload;
+	}
+
+	/**
+	 * Hands over the prepared level if it matches the requested level, waiting for it if it is still being
+	 * prepared. The preloader forgets the level once it has been taken, and waits without holding its lock.
+	 *
+	 * @param levelName the name of the level in the {@link LevelCatalog}
+	 * @return the prepared level, or null if a different level was preloaded or preparing it failed
+	 */
+	public LevelParent take(String levelName) {
+		Preload preload;
+		synchronized (this) {
+			if (pending == null || !levelName.equals(pending.levelName)) {
+				return null;
+			}
+			preload = pending;
+			pending = null;
+		}
+		try {
+			return preload.future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException e) {
+			LOGGER.log(System.Logger.Level.WARNING, "Preloading " + levelName + " failed", e.getCause());
+			return null;
+		}
+	}
+
+	/**
+	 * Drops the level being prepared, if any, disposing it once it is ready instead of initializing its scene.
+	 */
+	public synchronized void discard() {
+		if (pending != null) {
+			pending.discard();
+			pending = null;
+		}
+	}
+
+	/**
+	 * Stops the background thread. Levels already being prepared are abandoned.
+	 */
+	public synchronized void shutdown() {
+		discard();
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Constructs a level and builds its scene graph. Runs on the preloader thread.
+	 *
+	 * @param levelName the name of the level in the {@link LevelCatalog}
+	 * @return the prepared level
+	 */
+	private LevelParent prepare(String levelName) {
+		long start = System.nanoTime();
+		LevelParent level = LevelCatalog.getInstance().create(levelName, screenHeight, screenWidth);
+		level.prepareSceneGraph();
+		LOGGER.log(System.Logger.Level.DEBUG, () -> String.format("Preloaded %s in %.1f ms", levelName,
+				(System.nanoTime() - start) / 1e6));
+		return level;
+	}
+
+	/**
+	 * A level being prepared, and whether it was discarded before or after it became ready.
+	 */
+	private static final class Preload {
+
+		private final String levelName;
+		private final CompletableFuture<LevelParent> future;
+		private boolean discarded;
+		private LevelParent settled;
+
+		/**
+		 * @param levelName the name of the level in the {@link LevelCatalog}
+		 * @param future completes with the prepared level
+		 */
+		private Preload(String levelName, CompletableFuture<LevelParent> future) {
+			this.levelName = levelName;
+			this.future = future;
+		}
+
+		/**
+		 * Finishes a prepared level on the FX thread: disposes it if it was discarded, and otherwise creates its scene.
+		 *
+		 * @param level the prepared level
+		 */
+		private synchronized void settle(LevelParent level) {
+			if (discarded) {
+				level.dispose();
+			} else {
+				level.initializeScene();
+				settled = level;
+			}
+		}
+
+		/**
+		 * Marks the level as discarded. A level whose scene was already created is disposed on the FX thread; one still
+		 * being prepared is disposed when it settles.
+		 */
+		private synchronized void discard() {
+			discarded = true;
+			if (settled != null) {
+				Platform.runLater(settled::dispose);
+			}
+		}
+	}
+}
@@ -0,0 +1,245 @@
+package com.example.demo.engine;
+
+import com.example.demo.engine.FrameProfiler.Phase;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Attributes the bytes allocated by the game loop thread to each tick and to each {@link Phase} of it, using the
+ * thread's allocation counter, and flags ticks during which a garbage collection ran. Used the same way as
+ * {@link FrameProfiler}: {@link #begin()} once per tick or frame, {@link #mark(Phase)} as each phase finishes, and
+ * {@link #endTick(long)} at the end of a tick. Reading the counters costs some tens of nanoseconds per call, so the
+ * tracker is off unless {@value #ENABLED_PROPERTY} is set or it is enabled explicitly.
+ * Not thread-safe: every call must come from the game loop thread.
+ */
+public class AllocationTracker {
+
+	/**
+	 * The property that enables tracking from launch, as in {@code -Dallocation.tracker.enabled=true}.
+	 */
+	public static final String ENABLED_PROPERTY = "allocation.tracker.enabled";
+
+	private static final Phase[] PHASES = Phase.values();
+	private static final int RECENT_GC_TICKS = 16;
+
+	private final com.sun.management.ThreadMXBean threads;
+	private final List<GarbageCollectorMXBean> collectors;
+	private final long[] phaseBytes;
+	private final long[] phaseSamples;
+	private final long[] lastPhaseBytes;
+	private final long[] recentGcTicks;
+	private boolean enabled;
+	private long lastMark;
+	private long tickStartBytes;
+	private long tickStartGcCount;
+	private long ticks;
+	private long totalBytes;
+	private long lastTickBytes;
+	private long maxTickBytes;
+	private long gcTicks;
+	private boolean lastTickDuringGc;
+
+	/**
+	 * Constructs an {@link AllocationTracker}, enabled if {@value #ENABLED_PROPERTY} is set and the JVM can count the
+	 * bytes each thread allocates.
+	 */
+	public AllocationTracker() {
+		this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		this.collectors = ManagementFactory.getGarbageCollectorMXBeans();
+		this.phaseBytes = new long[PHASES.length];
+		this.phaseSamples = new long[PHASES.length];
+		this.lastPhaseBytes = new long[PHASES.length];
+		this.recentGcTicks = new long[RECENT_GC_TICKS];
+		setEnabled(Boolean.getBoolean(ENABLED_PROPERTY));
+	}
+
+	/**
+	 * Starts tracking a tick or frame; the first phase marked afterwards is charged from here.
+	 */
+	public void begin() {
+		if (!enabled) {
+			return;
+		}
+		lastMark = threads.getCurrentThreadAllocatedBytes();
+		tickStartBytes = lastMark;
+		tickStartGcCount = gcCount();
+	}
+
+	/**
+	 * Charges the bytes allocated since the previous mark, or since {@link #begin()}, to a phase that just finished.
+	 *
+	 * @param phase the phase that finished
+	 */
+	public void mark(Phase phase) {
+		if (!enabled) {
+			return;
+		}
+		long now = threads.getCurrentThreadAllocatedBytes();
+		int index = phase.ordinal();
+		lastPhaseBytes[index] = now - lastMark;
+		phaseBytes[index] += now - lastMark;
+		phaseSamples[index]++;
+		lastMark = now;
+	}
+
+	/**
+	 * Finishes a tick, charging it with everything allocated since {@link #begin()} and flagging it if a garbage
+	 * collection ran meanwhile.
+	 *
+	 * @param tick the number of the tick, used to identify it among the flagged ticks
+	 */
+	public void endTick(long tick) {
+		if (!enabled) {
+			return;
+		}
+		long bytes = threads.getCurrentThreadAllocatedBytes() - tickStartBytes;
+		ticks++;
+		totalBytes += bytes;
+		lastTickBytes = bytes;
+		maxTickBytes = Math.max(maxTickBytes, bytes);
+		lastTickDuringGc = gcCount() != tickStartGcCount;
+		if (lastTickDuringGc) {
+			recentGcTicks[(int) (gcTicks % RECENT_GC_TICKS)] = tick;
+			gcTicks++;
+		}
+	}
+
+	/**
+	 * @return the number of collections run by every garbage collector so far.
+	 */
+	private long gcCount() {
+		long count = 0;
+		for (int i = 0; i < collectors.size(); i++) {
+			count += Math.max(0, collectors.get(i).getCollectionCount());
+		}
+		return count;
+	}
+
+	/**
+	 * @param phase the phase
+	 * @return the mean number of bytes the phase allocated each time it ran, or zero if it was never tracked.
+	 */
+	public double getMeanPhaseBytes(Phase phase) {
+		long samples = phaseSamples[phase.ordinal()];
+		return samples == 0 ? 0 : (double) phaseBytes[phase.ordinal()] / samples;
+	}
+
+	/**
+	 * @param phase the phase
+	 * @return the number of bytes the phase allocated the last time it ran.
+	 */
+	public long getLastPhaseBytes(Phase phase) {
+		return lastPhaseBytes[phase.ordinal()];
+	}
+
+	/**
+	 * @return the number of ticks tracked.
+	 */
+	public long getTickCount() {
+		return ticks;
+	}
+
+	/**
+	 * @return the mean number of bytes allocated per tick, or zero if no tick was tracked.
+	 */
+	public double getMeanTickBytes() {
+		return ticks == 0 ? 0 : (double) totalBytes / ticks;
+	}
+
+	/**
+	 * @return the number of bytes allocated by the last tick.
+	 */
+	public long getLastTickBytes() {
+		return lastTickBytes;
+	}
+
+	/**
+	 * @return the most bytes allocated by a single tick.
+	 */
+	public long getMaxTickBytes() {
+		return maxTickBytes;
+	}
+
+	/**
+	 * @return the number of ticks during which a garbage collection ran.
+	 */
+	public long getGcTickCount() {
+		return gcTicks;
+	}
+
+	/**
+	 * @return true if a garbage collection ran during the last tick, false otherwise.
+	 */
+	public boolean wasLastTickDuringGc() {
+		return lastTickDuringGc;
+	}
+
+	/**
+	 * @return the numbers of the most recent ticks during which a garbage collection ran, oldest first.
+	 */
+	public long[] getRecentGcTicks() {
+		int count = (int) Math.min(gcTicks, RECENT_GC_TICKS);
+		long[] recent = new long[count];
+		for (int i = 0; i < count; i++) {
+			recent[i] = recentGcTicks[(int) ((gcTicks - count + i) % RECENT_GC_TICKS)];
+		}
+		return recent;
+	}
+
+	/**
+	 * Formats a line per phase with the mean bytes it allocated, followed by the per-tick totals and the ticks that
+	 * ran during a garbage collection.
+	 *
+	 * @return the report
+	 */
+	public String report() {
+		StringBuilder report = new StringBuilder(PHASES.length * 32);
+		report.append(String.format(Locale.ROOT, "%-12s %10s%n", "phase", "bytes/run"));
+		for (Phase phase : PHASES) {
+			report.append(String.format(Locale.ROOT, "%-12s %10.0f%n", phase.getLabel(), getMeanPhaseBytes(phase)));
+		}
+		report.append(String.format(Locale.ROOT, "%-12s %10.0f (max %d over %d ticks)%n", "tick total",
+				getMeanTickBytes(), maxTickBytes, ticks));
+		report.append(String.format(Locale.ROOT, "ticks during GC: %d, most recent %s", gcTicks,
+				Arrays.toString(getRecentGcTicks())));
+		return report.toString();
+	}
+
+	/**
+	 * Discards everything tracked so far.
+	 */
+	public void reset() {
+		Arrays.fill(phaseBytes, 0);
+		Arrays.fill(phaseSamples, 0);
+		Arrays.fill(lastPhaseBytes, 0);
+		ticks = 0;
+		totalBytes = 0;
+		lastTickBytes = 0;
+		maxTickBytes = 0;
+		gcTicks = 0;
+		lastTickDuringGc = false;
+	}
+
+	/**
+	 * Turns tracking on or off. Stays off if the JVM cannot count the bytes each thread allocates.
+	 *
+	 * @param enabled true to track allocations, false to ignore every call
+	 */
+	public void setEnabled(boolean enabled) {
+		if (enabled && threads.isThreadAllocatedMemorySupported() && !threads.isThreadAllocatedMemoryEnabled()) {
+			threads.setThreadAllocatedMemoryEnabled(true);
+		}
+		this.enabled = enabled && threads.isThreadAllocatedMemorySupported();
+	}
+
+	/**
+	 * @return true if allocations are being tracked, false otherwise.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+}
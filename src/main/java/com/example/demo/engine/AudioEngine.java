@@ -0,0 +1,277 @@
+package com.example.demo.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Plays sound effects through a bounded pool of reusable voices. Each sound keeps the voices created for it, so a
+ * repeated effect restarts an idle voice instead of building a new player.
+ * Requests made during a tick are collected and coalesced, so an effect triggered several times in the same tick
+ * plays once, and {@link #flush()} hands the batch to an executor so playback never runs on the game loop. At most
+ * {@link #getPolyphony()} voices play at once; starting another stops the voice that has been playing longest.
+ */
+public class AudioEngine {
+
+	/**
+	 * The number of voices that may play at once unless configured otherwise.
+	 */
+	public static final int DEFAULT_POLYPHONY = 8;
+
+	private static final System.Logger LOGGER = System.getLogger(AudioEngine.class.getName());
+
+	private final Function<String, Voice> voiceFactory;
+	private final Executor executor;
+	private final Map<String, List<Slot>> slotsBySound;
+	private final ArrayDeque<Slot> activeSlots;
+	private final Set<String> pendingSounds;
+	private final AtomicLong droppedCount;
+	private int polyphony;
+	private long playedCount;
+	private long stolenCount;
+	private boolean shutDown;
+
+	/**
+	 * Constructs an {@link AudioEngine}.
+	 *
+	 * @param voiceFactory creates a new voice for a sound; may throw if the sound cannot be loaded
+	 * @param executor runs playback away from the caller of {@link #flush()}
+	 */
+	public AudioEngine(Function<String, Voice> voiceFactory, Executor executor) {
+		this.voiceFactory = voiceFactory;
+		this.executor = executor;
+		this.slotsBySound = new HashMap<>();
+		this.activeSlots = new ArrayDeque<>();
+		this.pendingSounds = new LinkedHashSet<>();
+		this.droppedCount = new AtomicLong();
+		this.polyphony = DEFAULT_POLYPHONY;
+	}
+
+	/**
+	 * Queues a sound to start on the next {@link #flush()}. A sound already queued since the last flush is not
+	 * queued again and counts as dropped.
+	 *
+	 * @param sound the name of the sound
+	 */
+	public void request(String sound) {
+		synchronized (pendingSounds) {
+			if (!pendingSounds.add(sound)) {
+				droppedCount.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Hands every sound queued since the last flush to the executor. Meant to be called once per tick.
+	 */
+	public void flush() {
+		String[] sounds;
+		synchronized (pendingSounds) {
+			if (pendingSounds.isEmpty()) {
+				return;
+			}
+			sounds = pendingSounds.toArray(new String[0]);
+			pendingSounds.clear();
+		}
+		executor.execute(() -> {
+			for (String sound : sounds) {
+				start(sound);
+			}
+		});
+	}
+
+	/**
+	 * Creates the first voice for a sound ahead of time, so its first playback does not pay for loading it.
+	 *
+	 * @param sound the name of the sound
+	 */
+	public synchronized void preload(String sound) {
+		List<Slot> slots = slotsBySound.computeIfAbsent(sound, key -> new ArrayList<>());
+		if (slots.isEmpty()) {
+			slots.add(new Slot(voiceFactory.apply(sound)));
+		}
+	}
+
+	/**
+	 * Starts a sound on an idle voice, stealing the oldest playing voice first if the polyphony limit is reached.
+	 * A sound whose voice cannot be created is logged and counted as dropped.
+	 *
+	 * @param sound the name of the sound
+	 */
+	synchronized void start(String sound) {
+		if (shutDown) {
+			droppedCount.incrementAndGet();
+			return;
+		}
+		while (activeSlots.size() >= polyphony) {
+			Slot oldest = activeSlots.pollFirst();
+			oldest.active = false;
+			oldest.voice.stop();
+			stolenCount++;
+		}
+		Slot slot;
+		try {
+			slot = idleSlot(sound);
+		} catch (RuntimeException e) {
+			LOGGER.log(System.Logger.Level.WARNING, "Could not play sound " + sound, e);
+			droppedCount.incrementAndGet();
+			return;
+		}
+		slot.active = true;
+		int generation = ++slot.generation;
+		activeSlots.addLast(slot);
+		playedCount++;
+		slot.voice.play(() -> finished(slot, generation));
+	}
+
+	/**
+	 * Returns an idle voice for a sound, creating one if every voice of the sound is playing.
+	 *
+	 * @param sound the name of the sound
+	 * @return the idle voice
+	 */
+	private Slot idleSlot(String sound) {
+		List<Slot> slots = slotsBySound.computeIfAbsent(sound, key -> new ArrayList<>());
+		for (int i = 0; i < slots.size(); i++) {
+			if (!slots.get(i).active) {
+				return slots.get(i);
+			}
+		}
+		Slot slot = new Slot(voiceFactory.apply(sound));
+		slots.add(slot);
+		return slot;
+	}
+
+	/**
+	 * Frees a voice once its playback ends. Ignores the notice if the voice has since been stolen or restarted.
+	 *
+	 * @param slot the voice that finished
+	 * @param generation the playback the notice belongs to
+	 */
+	private synchronized void finished(Slot slot, int generation) {
+		if (slot.active && slot.generation == generation) {
+			slot.active = false;
+			activeSlots.remove(slot);
+		}
+	}
+
+	/**
+	 * Stops and releases every voice. Sounds requested afterwards are dropped.
+	 */
+	public synchronized void shutdown() {
+		shutDown = true;
+		for (List<Slot> slots : slotsBySound.values()) {
+			for (Slot slot : slots) {
+				slot.voice.stop();
+				slot.voice.dispose();
+			}
+		}
+		slotsBySound.clear();
+		activeSlots.clear();
+	}
+
+	/**
+	 * Sets how many voices may play at once. Voices already playing beyond a lowered limit finish normally.
+	 *
+	 * @param polyphony the maximum number of simultaneous voices
+	 */
+	public synchronized void setPolyphony(int polyphony) {
+		if (polyphony < 1) {
+			throw new IllegalArgumentException("Polyphony must be at least 1: " + polyphony);
+		}
+		this.polyphony = polyphony;
+	}
+
+	/**
+	 * @return the maximum number of simultaneous voices.
+	 */
+	public synchronized int getPolyphony() {
+		return polyphony;
+	}
+
+	/**
+	 * @return the number of voices currently playing.
+	 */
+	public synchronized int getActiveVoiceCount() {
+		return activeSlots.size();
+	}
+
+	/**
+	 * @return the number of voices created so far, playing or idle.
+	 */
+	public synchronized int getVoiceCount() {
+		int count = 0;
+		for (List<Slot> slots : slotsBySound.values()) {
+			count += slots.size();
+		}
+		return count;
+	}
+
+	/**
+	 * @return the number of sounds started.
+	 */
+	public synchronized long getPlayedCount() {
+		return playedCount;
+	}
+
+	/**
+	 * @return the number of voices stopped early to make room for a newer sound.
+	 */
+	public synchronized long getStolenCount() {
+		return stolenCount;
+	}
+
+	/**
+	 * @return the number of requests that never played, because they were coalesced or their sound failed to load.
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * A single playable instance of a sound. Implementations restart from the beginning on every play.
+	 */
+	public interface Voice {
+
+		/**
+		 * Plays the sound from the beginning.
+		 *
+		 * @param onFinished to be called, from any thread, when playback reaches the end
+		 */
+		void play(Runnable onFinished);
+
+		/**
+		 * Stops playback without calling the finish callback.
+		 */
+		void stop();
+
+		/**
+		 * Releases any native resources held by the voice.
+		 */
+		void dispose();
+	}
+
+	/**
+	 * A pooled voice together with its playback state.
+	 */
+	private static final class Slot {
+
+		private final Voice voice;
+		private boolean active;
+		private int generation;
+
+		/**
+		 * @param voice the voice held by the slot
+		 */
+		private Slot(Voice voice) {
+			this.voice = voice;
+		}
+	}
+}
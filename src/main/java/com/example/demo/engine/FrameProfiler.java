@@ -0,0 +1,222 @@
+package com.example.demo.engine;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Times each phase of a tick and of a rendered frame, keeping the most recent durations of every phase in a
+ * preallocated ring buffer so rolling statistics can be read at any time without allocating while recording.
+ * A tick or frame calls {@link #begin()} once and then {@link #mark(Phase)} as each phase finishes, so every phase
+ * costs a single {@link System#nanoTime()} call. Disabled profilers record nothing and cost a field read per call.
+ * Not thread-safe: recording and reading must happen on the thread that runs the game loop.
+ */
+public class FrameProfiler {
+
+	/**
+	 * The property that enables profiling from launch, as in {@code -Dprofiler.enabled=true}.
+	 */
+	public static final String ENABLED_PROPERTY = "profiler.enabled";
+
+	/**
+	 * The phases of a tick, in the order they run, followed by the phases of a rendered frame.
+	 */
+	public enum Phase {
+		/** Applying replayed and queued input. */
+		INPUT("input"),
+		/** Spawning enemies and hazards. */
+		SPAWN("spawn"),
+		/** Updating every actor and projectile. */
+		UPDATE("update"),
+		/** Checking for enemies that got past the player. */
+		PENETRATION("penetration"),
+		/** Player projectiles against enemies. */
+		USER_PROJECTILE_COLLISIONS("user shots"),
+		/** Enemy projectiles against the player. */
+		ENEMY_PROJECTILE_COLLISIONS("enemy shots"),
+		/** The player against enemies. */
+		PLANE_COLLISIONS("planes"),
+		/** The player against hazards. */
+		HAZARD_COLLISIONS("hazards"),
+		/** Culling off-screen actors and removing destroyed ones. */
+		REMOVAL("removal"),
+		/** Counting kills. */
+		KILL_COUNT("kill count"),
+		/** Checking whether the level is won or lost. */
+		GAME_OVER_CHECK("game over"),
+		/** Level-specific logic. */
+		MISC("misc"),
+		/** Handing the tick's sound effects to the audio engine. */
+		SOUND("sound"),
+		/** Mirroring actors onto the scene graph. */
+		RENDER("render"),
+		/** Updating the heads-up display. */
+		HUD("hud");
+
+		private final String label;
+
+		Phase(String label) {
+			this.label = label;
+		}
+
+		/**
+		 * @return a short name for the phase, for reports.
+		 */
+		public String getLabel() {
+			return label;
+		}
+	}
+
+	private static final Phase[] PHASES = Phase.values();
+
+	private final long[][] durations;
+	private final int[] counts;
+	private final long[] scratch;
+	private final int window;
+	private boolean enabled;
+	private long lastMark;
+
+	/**
+	 * Constructs a {@link FrameProfiler}, enabled if {@value #ENABLED_PROPERTY} is set.
+	 *
+	 * @param window the number of recent durations kept per phase
+	 */
+	public FrameProfiler(int window) {
+		if (window < 1) {
+			throw new IllegalArgumentException("Window must hold at least one sample: " + window);
+		}
+		this.window = window;
+		this.durations = new long[PHASES.length][window];
+		this.counts = new int[PHASES.length];
+		this.scratch = new long[window];
+		this.enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+	}
+
+	/**
+	 * Starts timing a tick or frame; the first phase marked afterwards is timed from here.
+	 */
+	public void begin() {
+		if (enabled) {
+			lastMark = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Records that a phase has just finished, timing it from the previous mark or from {@link #begin()}.
+	 *
+	 * @param phase the phase that finished
+	 */
+	public void mark(Phase phase) {
+		if (!enabled) {
+			return;
+		}
+		long now = System.nanoTime();
+		record(phase, now - lastMark);
+		lastMark = now;
+	}
+
+	/**
+	 * Adds a duration to a phase's ring buffer, overwriting the oldest once it is full.
+	 *
+	 * @param phase the phase
+	 * @param nanos the phase's duration
+	 */
+	void record(Phase phase, long nanos) {
+		int index = phase.ordinal();
+		durations[index][counts[index] % window] = nanos;
+		// Counts wrap to the window's multiple so they never overflow
+		counts[index] = counts[index] + 1 == window * 2 ? window : counts[index] + 1;
+	}
+
+	/**
+	 * @param phase the phase
+	 * @return the number of durations held for the phase, at most the window size.
+	 */
+	public int getSampleCount(Phase phase) {
+		return Math.min(counts[phase.ordinal()], window);
+	}
+
+	/**
+	 * @param phase the phase
+	 * @return the mean of the phase's recent durations in nanoseconds, or zero if none were recorded.
+	 */
+	public double getMeanNanos(Phase phase) {
+		int samples = getSampleCount(phase);
+		if (samples == 0) {
+			return 0;
+		}
+		long[] ring = durations[phase.ordinal()];
+		long total = 0;
+		for (int i = 0; i < samples; i++) {
+			total += ring[i];
+		}
+		return (double) total / samples;
+	}
+
+	/**
+	 * Returns a percentile of a phase's recent durations, using the nearest-rank method.
+	 *
+	 * @param phase the phase
+	 * @param percentile the percentile, between 0 and 100
+	 * @return the percentile in nanoseconds, or zero if none were recorded
+	 */
+	public long getPercentileNanos(Phase phase, double percentile) {
+		int samples = getSampleCount(phase);
+		if (samples == 0) {
+			return 0;
+		}
+		System.arraycopy(durations[phase.ordinal()], 0, scratch, 0, samples);
+		Arrays.sort(scratch, 0, samples);
+		int rank = (int) Math.ceil(percentile / 100 * samples);
+		return scratch[Math.max(0, Math.min(samples, rank) - 1)];
+	}
+
+	/**
+	 * Formats a line per phase with its rolling mean and 99th percentile in microseconds, followed by the total mean
+	 * of the tick phases.
+	 *
+	 * @return the report
+	 */
+	public String report() {
+		StringBuilder report = new StringBuilder(PHASES.length * 40);
+		report.append(String.format(Locale.ROOT, "%-12s %8s %8s%n", "phase (us)", "mean", "p99"));
+		double tickTotal = 0;
+		for (Phase phase : PHASES) {
+			double mean = getMeanNanos(phase);
+			if (phase.compareTo(Phase.RENDER) < 0) {
+				tickTotal += mean;
+			}
+			report.append(String.format(Locale.ROOT, "%-12s %8.1f %8.1f%n", phase.getLabel(), mean / 1_000,
+					getPercentileNanos(phase, 99) / 1_000.0));
+		}
+		report.append(String.format(Locale.ROOT, "%-12s %8.1f", "tick total", tickTotal / 1_000));
+		return report.toString();
+	}
+
+	/**
+	 * Discards every recorded duration.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0);
+	}
+
+	/**
+	 * @param enabled true to record phase durations, false to ignore every call
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * @return true if phase durations are being recorded, false otherwise.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return the number of recent durations kept per phase.
+	 */
+	public int getWindow() {
+		return window;
+	}
+}
@@ -0,0 +1,213 @@
+package com.example.demo.engine;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Collects the frame intervals and tick durations of a level in {@link LatencyHistogram}s, along with how many display
+ * refreshes were missed and how much the frame interval jitters, and summarizes them as a {@link Report} when the
+ * level ends. Percentiles rather than averages show the occasional long frame players notice as a stutter.
+ * Recording never allocates. Not thread-safe: frames and ticks must be recorded on the game loop thread.
+ */
+public class FrameStats {
+
+	/**
+	 * The refresh interval of a 60 Hz display, the frame budget assumed unless another is given.
+	 */
+	public static final long DEFAULT_FRAME_BUDGET_NANOS = 1_000_000_000L / 60;
+
+	private final LatencyHistogram frameIntervals;
+	private final LatencyHistogram tickDurations;
+	private final long frameBudgetNanos;
+	private long missedFrames;
+	private long previousInterval;
+	private long jitterSum;
+	private long jitterSamples;
+
+	/**
+	 * Constructs a {@link FrameStats} that assumes a 60 Hz display.
+	 */
+	public FrameStats() {
+		this(DEFAULT_FRAME_BUDGET_NANOS);
+	}
+
+	/**
+	 * Constructs a {@link FrameStats}.
+	 *
+	 * @param frameBudgetNanos the display's refresh interval; a frame interval spanning several of them counts the
+	 *                         extra refreshes as missed frames
+	 */
+	public FrameStats(long frameBudgetNanos) {
+		if (frameBudgetNanos <= 0) {
+			throw new IllegalArgumentException("Frame budget must be positive: " + frameBudgetNanos);
+		}
+		this.frameBudgetNanos = frameBudgetNanos;
+		this.frameIntervals = new LatencyHistogram();
+		this.tickDurations = new LatencyHistogram();
+		this.previousInterval = -1;
+	}
+
+	/**
+	 * Records the time between one rendered frame and the next.
+	 *
+	 * @param intervalNanos the frame interval
+	 */
+	public void recordFrame(long intervalNanos) {
+		frameIntervals.record(intervalNanos);
+		// Rounding tolerates vsync timestamps arriving slightly early or late
+		long refreshes = Math.round((double) intervalNanos / frameBudgetNanos);
+		if (refreshes > 1) {
+			missedFrames += refreshes - 1;
+		}
+		if (previousInterval >= 0) {
+			jitterSum += Math.abs(intervalNanos - previousInterval);
+			jitterSamples++;
+		}
+		previousInterval = intervalNanos;
+	}
+
+	/**
+	 * Records how long one simulation tick took to run.
+	 *
+	 * @param durationNanos the tick duration
+	 */
+	public void recordTick(long durationNanos) {
+		tickDurations.record(durationNanos);
+	}
+
+	/**
+	 * @return the histogram of frame intervals.
+	 */
+	public LatencyHistogram getFrameIntervals() {
+		return frameIntervals;
+	}
+
+	/**
+	 * @return the histogram of tick durations.
+	 */
+	public LatencyHistogram getTickDurations() {
+		return tickDurations;
+	}
+
+	/**
+	 * @return the number of display refreshes that passed without a new frame.
+	 */
+	public long getMissedFrames() {
+		return missedFrames;
+	}
+
+	/**
+	 * @return the mean difference between consecutive frame intervals in nanoseconds, or zero with fewer than two
+	 * frame intervals.
+	 */
+	public double getJitterNanos() {
+		return jitterSamples == 0 ? 0 : (double) jitterSum / jitterSamples;
+	}
+
+	/**
+	 * Summarizes everything recorded so far.
+	 *
+	 * @param levelName the name of the level the statistics belong to
+	 * @param outcome how the level ended, such as "won", "lost" or "next level"
+	 * @return the summary
+	 */
+	public Report summarize(String levelName, String outcome) {
+		return new Report(levelName, outcome, Summary.of(frameIntervals), Summary.of(tickDurations), missedFrames,
+				getJitterNanos());
+	}
+
+	/**
+	 * Discards everything recorded so far.
+	 */
+	public void reset() {
+		frameIntervals.reset();
+		tickDurations.reset();
+		missedFrames = 0;
+		previousInterval = -1;
+		jitterSum = 0;
+		jitterSamples = 0;
+	}
+
+	/**
+	 * Percentiles of one kind of duration, in nanoseconds.
+	 *
+	 * @param count the number of durations recorded
+	 * @param mean the mean duration
+	 * @param p50 the median duration
+	 * @param p90 the 90th percentile
+	 * @param p99 the 99th percentile
+	 * @param p999 the 99.9th percentile
+	 * @param max the longest duration
+	 */
+	public record Summary(long count, double mean, long p50, long p90, long p99, long p999, long max) {
+
+		/**
+		 * @param histogram the recorded durations
+		 * @return the percentiles of the histogram.
+		 */
+		static Summary of(LatencyHistogram histogram) {
+			return new Summary(histogram.getCount(), histogram.getMean(), histogram.getValueAtPercentile(50),
+					histogram.getValueAtPercentile(90), histogram.getValueAtPercentile(99),
+					histogram.getValueAtPercentile(99.9), histogram.getMax());
+		}
+
+		/**
+		 * @return the summary as one line of milliseconds.
+		 */
+		private String format() {
+			return String.format(Locale.ROOT, "count=%d mean=%.3f p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f",
+					count, mean / 1e6, p50 / 1e6, p90 / 1e6, p99 / 1e6, p999 / 1e6, max / 1e6);
+		}
+	}
+
+	/**
+	 * The frame and tick statistics of a finished level.
+	 *
+	 * @param levelName the name of the level
+	 * @param outcome how the level ended
+	 * @param frames the frame intervals
+	 * @param ticks the tick durations
+	 * @param missedFrames the number of display refreshes that passed without a new frame
+	 * @param jitterNanos the mean difference between consecutive frame intervals
+	 */
+	public record Report(String levelName, String outcome, Summary frames, Summary ticks, long missedFrames,
+			double jitterNanos) {
+
+		/**
+		 * Writes the report as text, with durations in milliseconds.
+		 *
+		 * @param writer the destination
+		 * @throws IOException if the destination cannot be written
+		 */
+		public void save(Writer writer) throws IOException {
+			writer.write(toString());
+			writer.flush();
+		}
+
+		/**
+		 * Writes the report to a file, replacing any existing file.
+		 *
+		 * @param file the destination file
+		 * @throws IOException if the file cannot be written
+		 */
+		public void save(Path file) throws IOException {
+			try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+				save(writer);
+			}
+		}
+
+		/**
+		 * @return the report as lines of text, with durations in milliseconds.
+		 */
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT, "level %s%noutcome %s%nframes (ms) %s%nticks (ms) %s%n"
+					+ "missed frames %d%njitter (ms) %.3f%n", levelName, outcome, frames.format(), ticks.format(),
+					missedFrames, jitterNanos / 1e6);
+		}
+	}
+}
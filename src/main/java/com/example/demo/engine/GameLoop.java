@@ -0,0 +1,235 @@
+package com.example.demo.engine;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-timestep game loop driven by an {@link AnimationTimer}.
+ * Rendered frames feed elapsed time into an accumulator, and the simulation tick is run once for every full
+ * tick interval in it, so the logical update rate stays steady no matter how fast or unevenly frames arrive.
+ * The number of loops running across the process is tracked, so a level that was never stopped can be detected.
+ */
+public class GameLoop {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	private static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+	private static final long MAX_FRAME_NANOS = 250_000_000L;
+	private static final AtomicInteger RUNNING_LOOPS = new AtomicInteger();
+
+	private final Runnable tick;
+	private Runnable onFrame;
+	private FrameStats frameStats;
+	private AnimationTimer timer;
+	private boolean manualFrames;
+	private long tickNanos;
+	private int maxStepsPerFrame;
+	private long accumulator;
+	private long lastFrameTime;
+	private boolean running;
+	private long tickCount;
+	private long droppedTicks;
+
+	/**
+	 * Constructs a {@link GameLoop} that runs the given tick at the specified logical rate.
+	 *
+	 * @param ticksPerSecond the number of simulation ticks to run per second of real time
+	 * @param tick the simulation step to invoke once per tick
+	 */
+	public GameLoop(double ticksPerSecond, Runnable tick) {
+		this(ticksPerSecond, DEFAULT_MAX_STEPS_PER_FRAME, tick);
+	}
+
+	/**
+	 * Constructs a {@link GameLoop} with an explicit cap on how many ticks a single frame may catch up on.
+	 *
+	 * @param ticksPerSecond the number of simulation ticks to run per second of real time
+	 * @param maxStepsPerFrame the maximum number of ticks run for one rendered frame
+	 * @param tick the simulation step to invoke once per tick
+	 */
+	public GameLoop(double ticksPerSecond, int maxStepsPerFrame, Runnable tick) {
+		this.tick = tick;
+		setTickRate(ticksPerSecond);
+		setMaxStepsPerFrame(maxStepsPerFrame);
+		this.lastFrameTime = -1;
+	}
+
+	/**
+	 * Starts or resumes the loop. Time spent stopped is never caught up on.
+	 */
+	public void start() {
+		if (manualFrames) {
+			arm();
+			return;
+		}
+		if (timer == null) {
+			timer = new AnimationTimer() {
+				@Override
+				public void handle(long now) {
+					frame(now);
+				}
+			};
+		}
+		arm();
+		timer.start();
+	}
+
+	/**
+	 * Marks the loop as running and resets the frame clock, so the next frame only primes it.
+	 */
+	private void arm() {
+		lastFrameTime = -1;
+		accumulator = 0;
+		if (!running) {
+			running = true;
+			RUNNING_LOOPS.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Stops the loop. Safe to call from inside a tick; no further ticks run for the current frame.
+	 */
+	public void stop() {
+		if (running) {
+			running = false;
+			RUNNING_LOOPS.decrementAndGet();
+		}
+		if (timer != null) {
+			timer.stop();
+		}
+	}
+
+	/**
+	 * Advances the loop for a frame rendered at the given timestamp, running as many whole ticks as have
+	 * accumulated, then runs the frame callback. Elapsed time is clamped to guard against a spiral of death after a long stall, and any
+	 * backlog left once {@code maxStepsPerFrame} ticks have run is dropped rather than carried forward.
+	 *
+	 * @param now the frame timestamp in nanoseconds
+	 * @return the number of ticks run for this frame
+	 */
+	public int frame(long now) {
+		if (lastFrameTime < 0) {
+			lastFrameTime = now;
+			return 0;
+		}
+		if (frameStats != null) {
+			frameStats.recordFrame(now - lastFrameTime);
+		}
+		long elapsed = Math.min(now - lastFrameTime, MAX_FRAME_NANOS);
+		lastFrameTime = now;
+		accumulator += elapsed;
+
+		int steps = 0;
+		while (running && accumulator >= tickNanos && steps < maxStepsPerFrame) {
+			tick.run();
+			accumulator -= tickNanos;
+			tickCount++;
+			steps++;
+		}
+
+		if (accumulator >= tickNanos) {
+			droppedTicks += accumulator / tickNanos;
+			accumulator %= tickNanos;
+		}
+		if (steps > 0 && onFrame != null) {
+			onFrame.run();
+		}
+		return steps;
+	}
+
+	/**
+	 * Sets a callback run once after the ticks of every frame that advanced the simulation, typically used to
+	 * render the updated world.
+	 *
+	 * @param onFrame the callback to run, or null for none
+	 */
+	public void setOnFrame(Runnable onFrame) {
+		this.onFrame = onFrame;
+	}
+
+	/**
+	 * Sets whether frames are fed by hand through {@link #frame(long)} instead of by an {@link AnimationTimer}, so a
+	 * loop can be started and stopped exactly as in the game without the JavaFX toolkit. Must be set before the loop
+	 * is started.
+	 *
+	 * @param manualFrames true to feed frames by hand, false to have an {@link AnimationTimer} feed them
+	 */
+	public void setManualFrames(boolean manualFrames) {
+		this.manualFrames = manualFrames;
+	}
+
+	/**
+	 * Sets the statistics every frame interval is recorded into, before any clamping.
+	 *
+	 * @param frameStats the statistics to record into, or null for none
+	 */
+	public void setFrameStats(FrameStats frameStats) {
+		this.frameStats = frameStats;
+	}
+
+	/**
+	 * Sets the logical tick rate of the simulation.
+	 *
+	 * @param ticksPerSecond the number of ticks per second, must be positive
+	 */
+	public void setTickRate(double ticksPerSecond) {
+		if (ticksPerSecond <= 0) {
+			throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+		}
+		this.tickNanos = Math.round(NANOS_PER_SECOND / ticksPerSecond);
+	}
+
+	/**
+	 * Sets the maximum number of ticks a single frame may run when catching up.
+	 *
+	 * @param maxStepsPerFrame the catch-up cap, must be at least one
+	 */
+	public void setMaxStepsPerFrame(int maxStepsPerFrame) {
+		if (maxStepsPerFrame < 1) {
+			throw new IllegalArgumentException("Max steps per frame must be at least 1: " + maxStepsPerFrame);
+		}
+		this.maxStepsPerFrame = maxStepsPerFrame;
+	}
+
+	/**
+	 * @return the logical tick rate in ticks per second.
+	 */
+	public double getTickRate() {
+		return (double) NANOS_PER_SECOND / tickNanos;
+	}
+
+	/**
+	 * @return the duration of one tick in nanoseconds.
+	 */
+	public long getTickNanos() {
+		return tickNanos;
+	}
+
+	/**
+	 * @return the total number of ticks run since the loop was created.
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * @return the number of ticks skipped because a frame exceeded its catch-up cap.
+	 */
+	public long getDroppedTicks() {
+		return droppedTicks;
+	}
+
+	/**
+	 * @return true if the loop is currently running, false otherwise.
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * @return the number of loops started and not yet stopped, across the whole process.
+	 */
+	public static int getRunningCount() {
+		return RUNNING_LOOPS.get();
+	}
+}
@@ -0,0 +1,166 @@
+package com.example.demo.engine;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded source of randomness for a level, with an independent {@link SplittableRandom} stream per subsystem.
+ * Every stream is derived from a single seed, so a level created with the same seed makes the same random decisions,
+ * and drawing more numbers in one subsystem never shifts the numbers another subsystem sees.
+ * Levels derive their seed from a per-run seed, which can be fixed at launch with {@code -Dgame.seed} or through
+ * {@link #setRunSeed(long)} to reproduce a run. Not thread-safe: each stream must only be used by one thread at a time.
+ */
+public class GameRandom {
+
+	private static final System.Logger LOGGER = System.getLogger(GameRandom.class.getName());
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+	private static Long runSeed;
+
+	private final long seed;
+	private final SplittableRandom[] streams;
+
+	/**
+	 * The subsystems that draw random numbers. New subsystems must be added at the end, so that the streams of the
+	 * existing ones are unchanged for a given seed.
+	 */
+	public enum Stream {
+		/** Enemy spawn chances and spawn positions. */
+		SPAWN,
+		/** Hazard spawn positions. */
+		HAZARDS,
+		/** Whether enemies fire in a tick. */
+		FIRE,
+		/** Boss shield activation. */
+		SHIELD,
+		/** Boss movement patterns. */
+		MOVEMENT
+	}
+
+	/**
+	 * Constructs a {@link GameRandom} whose streams are all derived from the given seed.
+	 *
+	 * @param seed the seed
+	 */
+	public GameRandom(long seed) {
+		this.seed = seed;
+		SplittableRandom root = new SplittableRandom(seed);
+		Stream[] values = Stream.values();
+		this.streams = new SplittableRandom[values.length];
+		for (int i = 0; i < values.length; i++) {
+			streams[i] = root.split();
+		}
+	}
+
+	/**
+	 * Creates the random source for a level, seeded from the run seed and the level's name, so each level of a run
+	 * gets its own sequence.
+	 *
+	 * @param levelName a name identifying the level, such as its name in the level catalog
+	 * @return the random source for the level
+	 */
+	public static GameRandom forLevel(String levelName) {
+		return new GameRandom(getRunSeed() ^ levelSalt(levelName));
+	}
+
+	/**
+	 * Works out the run seed under which {@link #forLevel(String)} gives a level a particular seed, so a recorded
+	 * level can be recreated with exactly the random source it had, including decisions made while it was built.
+	 *
+	 * @param levelName the name the level's seed was derived from
+	 * @param levelSeed the seed the level had
+	 * @return the run seed to pass to {@link #setRunSeed(long)}
+	 */
+	public static long runSeedFor(String levelName, long levelSeed) {
+		return levelSeed ^ levelSalt(levelName);
+	}
+
+	/**
+	 * @param levelName a name identifying a level
+	 * @return the value mixed into the run seed to give the level its own seed.
+	 */
+	private static long levelSalt(String levelName) {
+		return levelName.hashCode() * GOLDEN_GAMMA;
+	}
+
+	/**
+	 * Returns the seed of the current run, choosing one on first use from {@code -Dgame.seed} or, failing that, at
+	 * random. The chosen seed is logged so the run can be reproduced.
+	 *
+	 * @return the run seed
+	 */
+	public static synchronized long getRunSeed() {
+		if (runSeed == null) {
+			Long configured = Long.getLong("game.seed");
+			runSeed = configured != null ? configured : new SplittableRandom().nextLong();
+			LOGGER.log(System.Logger.Level.INFO, "Run seed: " + runSeed);
+		}
+		return runSeed;
+	}
+
+	/**
+	 * Fixes the seed of the current run. Only levels created afterwards use it.
+	 *
+	 * @param seed the run seed
+	 */
+	public static synchronized void setRunSeed(long seed) {
+		runSeed = seed;
+	}
+
+	/**
+	 * @param stream the subsystem drawing the numbers
+	 * @return the random stream of the subsystem.
+	 */
+	public SplittableRandom stream(Stream stream) {
+		return streams[stream.ordinal()];
+	}
+
+	/**
+	 * @param stream the subsystem drawing the number
+	 * @return a uniformly distributed value between zero (inclusive) and one (exclusive).
+	 */
+	public double nextDouble(Stream stream) {
+		return streams[stream.ordinal()].nextDouble();
+	}
+
+	/**
+	 * @param stream the subsystem drawing the number
+	 * @param bound the upper bound (exclusive); must be positive
+	 * @return a uniformly distributed value between zero (inclusive) and the bound (exclusive).
+	 */
+	public int nextInt(Stream stream, int bound) {
+		return streams[stream.ordinal()].nextInt(bound);
+	}
+
+	/**
+	 * Decides an event that happens with the given probability.
+	 *
+	 * @param stream the subsystem drawing the number
+	 * @param probability the chance of the event, between zero and one
+	 * @return true if the event happens, false otherwise
+	 */
+	public boolean chance(Stream stream, double probability) {
+		return streams[stream.ordinal()].nextDouble() < probability;
+	}
+
+	/**
+	 * Shuffles a list in place with a Fisher-Yates shuffle driven by the given stream.
+	 *
+	 * @param list the list to shuffle
+	 * @param stream the subsystem drawing the numbers
+	 * @param <T> the type of the list's elements
+	 */
+	public <T> void shuffle(List<T> list, Stream stream) {
+		SplittableRandom random = streams[stream.ordinal()];
+		for (int i = list.size() - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			list.set(j, list.set(i, list.get(j)));
+		}
+	}
+
+	/**
+	 * @return the seed all streams were derived from.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.demo.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free queue carrying input events from the thread that receives them to the game loop, which drains it
+ * at the start of each tick. Each event is an integer code stamped with the time it was offered, so the delay until
+ * the game loop acts on it can be measured.
+ * Safe for exactly one producer thread and one consumer thread, which may be the same thread. Neither side blocks or
+ * allocates; events offered while the queue is full are dropped and counted.
+ */
+public class InputQueue {
+
+	/**
+	 * Receives drained events.
+	 */
+	@FunctionalInterface
+	public interface Consumer {
+
+		/**
+		 * @param code the event's code
+		 * @param timestampNanos the {@link System#nanoTime()} at which the event was offered
+		 */
+		void accept(int code, long timestampNanos);
+	}
+
+	private final int[] codes;
+	private final long[] timestamps;
+	private final int mask;
+	private final AtomicLong head;
+	private final AtomicLong tail;
+	private final AtomicLong droppedCount;
+
+	/**
+	 * Constructs an empty {@link InputQueue}.
+	 *
+	 * @param capacity the maximum number of undrained events, rounded up to a power of two
+	 */
+	public InputQueue(int capacity) {
+		if (capacity < 1 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity out of range: " + capacity);
+		}
+		int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.codes = new int[size];
+		this.timestamps = new long[size];
+		this.mask = size - 1;
+		this.head = new AtomicLong();
+		this.tail = new AtomicLong();
+		this.droppedCount = new AtomicLong();
+	}
+
+	/**
+	 * Adds an event stamped with the current time. Must only be called from the producer thread.
+	 *
+	 * @param code the event's code
+	 * @return true if the event was queued, false if the queue was full and the event was dropped
+	 */
+	public boolean offer(int code) {
+		long position = tail.get();
+		if (position - head.get() > mask) {
+			droppedCount.incrementAndGet();
+			return false;
+		}
+		int index = (int) position & mask;
+		codes[index] = code;
+		timestamps[index] = System.nanoTime();
+		// Publishes the slot's contents before the consumer can see the new tail
+		tail.lazySet(position + 1);
+		return true;
+	}
+
+	/**
+	 * Hands every queued event to the consumer in the order they were offered, including events offered while
+	 * draining. Must only be called from the consumer thread.
+	 *
+	 * @param consumer receives the events
+	 * @return the number of events drained
+	 */
+	public int drain(Consumer consumer) {
+		long position = head.get();
+		long start = position;
+		long end;
+		while (position != (end = tail.get())) {
+			for (; position != end; position++) {
+				int index = (int) position & mask;
+				consumer.accept(codes[index], timestamps[index]);
+			}
+			// Frees the slots for the producer only after they have been read
+			head.lazySet(position);
+		}
+		return (int) (position - start);
+	}
+
+	/**
+	 * Discards every queued event. Must only be called from the consumer thread.
+	 */
+	public void clear() {
+		head.lazySet(tail.get());
+	}
+
+	/**
+	 * @return the number of queued events; only an estimate while the producer is running.
+	 */
+	public int size() {
+		return (int) (tail.get() - head.get());
+	}
+
+	/**
+	 * @return the maximum number of undrained events.
+	 */
+	public int getCapacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * @return the number of events dropped because the queue was full.
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+}
@@ -0,0 +1,131 @@
+package com.example.demo.engine;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of durations in nanoseconds with logarithmically sized buckets: every power of two is split into
+ * {@value #SUB_BUCKETS} equal buckets, so any recorded value is reported within about 3% of its true value, from
+ * nanoseconds up to hours, in a fixed array of counters. Recording never allocates, so it can run on every frame.
+ * Not thread-safe.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final long[] counts;
+	private long totalCount;
+	private long sum;
+	private long min;
+	private long max;
+
+	/**
+	 * Constructs an empty {@link LatencyHistogram}.
+	 */
+	public LatencyHistogram() {
+		this.counts = new long[BUCKET_COUNT];
+		reset();
+	}
+
+	/**
+	 * Records a duration. Negative durations are recorded as zero.
+	 *
+	 * @param nanos the duration
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		counts[bucketOf(value)]++;
+		totalCount++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * @param value a non-negative duration
+	 * @return the index of the bucket holding the duration.
+	 */
+	static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		int shift = magnitude - SUB_BUCKET_BITS;
+		return ((shift + 1) << SUB_BUCKET_BITS) + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+
+	/**
+	 * @param bucket the index of a bucket
+	 * @return the largest duration that falls in the bucket.
+	 */
+	static long highestValueIn(int bucket) {
+		if (bucket < SUB_BUCKETS * 2) {
+			return bucket;
+		}
+		int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+		long lowest = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+
+	/**
+	 * Returns the duration at or below which the given share of recorded durations fall. The result is the upper
+	 * edge of the bucket holding that duration, capped at the largest duration recorded.
+	 *
+	 * @param percentile the percentile, between 0 and 100
+	 * @return the duration in nanoseconds, or zero if nothing was recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (totalCount == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * totalCount));
+		long seen = 0;
+		for (int bucket = 0; bucket < counts.length; bucket++) {
+			seen += counts[bucket];
+			if (seen >= rank) {
+				return Math.min(highestValueIn(bucket), max);
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * @return the number of durations recorded.
+	 */
+	public long getCount() {
+		return totalCount;
+	}
+
+	/**
+	 * @return the exact mean of the recorded durations in nanoseconds, or zero if nothing was recorded.
+	 */
+	public double getMean() {
+		return totalCount == 0 ? 0 : (double) sum / totalCount;
+	}
+
+	/**
+	 * @return the exact smallest duration recorded, or zero if nothing was recorded.
+	 */
+	public long getMin() {
+		return totalCount == 0 ? 0 : min;
+	}
+
+	/**
+	 * @return the exact largest duration recorded, or zero if nothing was recorded.
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * Discards every recorded duration.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0);
+		totalCount = 0;
+		sum = 0;
+		min = Long.MAX_VALUE;
+		max = 0;
+	}
+}
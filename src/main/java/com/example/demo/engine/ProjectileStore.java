@@ -0,0 +1,340 @@
+package com.example.demo.engine;
+
+import com.example.demo.activeactor.ActiveActor;
+import com.example.demo.activeactor.ActiveActorDestructible;
+import com.example.demo.activeactor.CollisionMask;
+import com.example.demo.activeactor.CollisionPrecision;
+import com.example.demo.activeactor.SpriteMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Structure-of-arrays store for large numbers of simple projectiles. Each projectile is a row across parallel
+ * primitive columns rather than an object, so integrating and colliding tens of thousands of bullets walks
+ * contiguous memory and allocates nothing. Dead rows are removed by swapping the last row into their place,
+ * which means row indices are only stable until the next {@link #compact()}: an index returned by {@link #spawn}
+ * may name a different projectile after that, so it must not be kept across ticks.
+ */
+public class ProjectileStore {
+
+	public static final int FACTION_PLAYER = 0;
+	public static final int FACTION_ENEMY = 1;
+	private static final int DEFAULT_CAPACITY = 256;
+
+	private final List<String> kindImageNames;
+	private double[] kindWidths;
+	private double[] kindHeights;
+	private CollisionMask[] kindMasks;
+
+	private double[] x;
+	private double[] y;
+	private double[] velocityX;
+	private double[] velocityY;
+	private int[] faction;
+	private int[] kind;
+	private boolean[] alive;
+	private int size;
+
+	/**
+	 * Constructs an empty {@link ProjectileStore} with a default initial capacity.
+	 */
+	public ProjectileStore() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an empty {@link ProjectileStore}. The columns grow as needed beyond the initial capacity.
+	 *
+	 * @param initialCapacity the number of projectiles to allocate room for up front
+	 */
+	public ProjectileStore(int initialCapacity) {
+		int capacity = Math.max(1, initialCapacity);
+		this.kindImageNames = new ArrayList<>();
+		this.kindWidths = new double[4];
+		this.kindHeights = new double[4];
+		this.kindMasks = new CollisionMask[4];
+		this.x = new double[capacity];
+		this.y = new double[capacity];
+		this.velocityX = new double[capacity];
+		this.velocityY = new double[capacity];
+		this.faction = new int[capacity];
+		this.kind = new int[capacity];
+		this.alive = new boolean[capacity];
+	}
+
+	/**
+	 * Registers a projectile kind that collides as a box, which fixes the sprite and collision box shared by every
+	 * projectile of that kind.
+	 *
+	 * @param imageName the sprite file name, relative to {@link ActiveActor#IMAGE_LOCATION}
+	 * @param imageHeight the height the sprite is drawn at
+	 * @return the kind id to pass to {@link #spawn}
+	 */
+	public int registerKind(String imageName, int imageHeight) {
+		return registerKind(imageName, imageHeight, CollisionPrecision.BOX);
+	}
+
+	/**
+	 * Registers a projectile kind, which fixes the sprite, collision box and collision precision shared by every
+	 * projectile of that kind. Pass {@code CollisionMask.getPrecision(type)} to collide like actors of a type.
+	 *
+	 * @param imageName the sprite file name, relative to {@link ActiveActor#IMAGE_LOCATION}
+	 * @param imageHeight the height the sprite is drawn at
+	 * @param precision how precisely projectiles of the kind are tested for collisions
+	 * @return the kind id to pass to {@link #spawn}
+	 */
+	public int registerKind(String imageName, int imageHeight, CollisionPrecision precision) {
+		int id = kindImageNames.size();
+		if (id == kindWidths.length) {
+			kindWidths = Arrays.copyOf(kindWidths, id * 2);
+			kindHeights = Arrays.copyOf(kindHeights, id * 2);
+			kindMasks = Arrays.copyOf(kindMasks, id * 2);
+		}
+		String imagePath = ActiveActor.IMAGE_LOCATION + imageName;
+		kindImageNames.add(imageName);
+		kindWidths[id] = SpriteMetrics.getScaledWidth(imagePath, imageHeight);
+		kindHeights[id] = imageHeight;
+		kindMasks[id] = precision == CollisionPrecision.MASK
+				? CollisionMask.forSprite(imagePath, kindWidths[id], imageHeight) : null;
+		return id;
+	}
+
+	/**
+	 * Adds a projectile to the store.
+	 *
+	 * @param xPosition the left edge of the projectile
+	 * @param yPosition the top edge of the projectile
+	 * @param xVelocity the horizontal distance moved per second
+	 * @param yVelocity the vertical distance moved per second
+	 * @param owner the faction that fired it, {@link #FACTION_PLAYER} or {@link #FACTION_ENEMY}
+	 * @param kindId a kind id returned by {@link #registerKind}
+	 * @return the row index of the new projectile, valid until the next {@link #compact()}
+	 */
+	public int spawn(double xPosition, double yPosition, double xVelocity, double yVelocity, int owner, int kindId) {
+		if (size == x.length) {
+			grow();
+		}
+		int i = size++;
+		x[i] = xPosition;
+		y[i] = yPosition;
+		velocityX[i] = xVelocity;
+		velocityY[i] = yVelocity;
+		faction[i] = owner;
+		kind[i] = kindId;
+		alive[i] = true;
+		return i;
+	}
+
+	/**
+	 * Moves every projectile by its velocity over one tick.
+	 *
+	 * @param tickSeconds the length of the simulation tick, in seconds
+	 */
+	public void integrate(double tickSeconds) {
+		for (int i = 0; i < size; i++) {
+			x[i] += velocityX[i] * tickSeconds;
+			y[i] += velocityY[i] * tickSeconds;
+		}
+	}
+
+	/**
+	 * Tests every live projectile of a faction against a list of targets. Each hit damages the target and kills
+	 * the projectile, matching how {@link com.example.demo.activeactor.Missiles} behave on impact. Targets that are
+	 * already destroyed, or that a projectile destroys, absorb no further projectiles. Once the bounding boxes
+	 * overlap, kinds and targets using {@link CollisionPrecision#MASK} are compared pixel by pixel.
+	 *
+	 * @param owner the faction whose projectiles are tested
+	 * @param targets the actors that projectiles of this faction can hit
+	 * @return the number of hits
+	 */
+	public int collide(int owner, List<ActiveActorDestructible> targets) {
+		if (size == 0) {
+			return 0;
+		}
+		int hits = 0;
+		for (int t = 0; t < targets.size(); t++) {
+			ActiveActorDestructible target = targets.get(t);
+			if (target.isDestroyed()) {
+				continue;
+			}
+			double targetMinX = target.getMinX();
+			double targetMinY = target.getMinY();
+			double targetMaxX = target.getMaxX();
+			double targetMaxY = target.getMaxY();
+			CollisionMask targetMask = target.getCollisionMask();
+			for (int i = 0; i < size; i++) {
+				if (!alive[i] || faction[i] != owner) {
+					continue;
+				}
+				int k = kind[i];
+				if (x[i] <= targetMaxX && x[i] + kindWidths[k] >= targetMinX
+						&& y[i] <= targetMaxY && y[i] + kindHeights[k] >= targetMinY
+						&& (kindMasks[k] == null && targetMask == null
+								|| CollisionMask.overlaps(kindMasks[k], x[i], y[i], kindWidths[k], kindHeights[k],
+										targetMask, targetMinX, targetMinY, targetMaxX - targetMinX,
+										targetMaxY - targetMinY))) {
+					alive[i] = false;
+					target.takeDamage();
+					hits++;
+					if (target.isDestroyed()) {
+						break;
+					}
+				}
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * Kills every projectile lying entirely outside the given rectangle.
+	 *
+	 * @param minX the left edge of the kept area
+	 * @param minY the top edge of the kept area
+	 * @param maxX the right edge of the kept area
+	 * @param maxY the bottom edge of the kept area
+	 * @return the number of projectiles killed
+	 */
+	public int cull(double minX, double minY, double maxX, double maxY) {
+		int culled = 0;
+		for (int i = 0; i < size; i++) {
+			int k = kind[i];
+			if (alive[i] && (x[i] + kindWidths[k] < minX || x[i] > maxX
+					|| y[i] + kindHeights[k] < minY || y[i] > maxY)) {
+				alive[i] = false;
+				culled++;
+			}
+		}
+		return culled;
+	}
+
+	/**
+	 * Marks a projectile as dead; it is removed by the next {@link #compact()}.
+	 *
+	 * @param index the row index of the projectile, as returned by {@link #spawn} or iterated since the last
+	 *              {@link #compact()}
+	 */
+	public void kill(int index) {
+		alive[index] = false;
+	}
+
+	/**
+	 * Removes all dead projectiles by moving the last live row into each hole.
+	 *
+	 * @return the number of projectiles removed
+	 */
+	public int compact() {
+		int removed = 0;
+		int i = 0;
+		while (i < size) {
+			if (alive[i]) {
+				i++;
+				continue;
+			}
+			int last = --size;
+			x[i] = x[last];
+			y[i] = y[last];
+			velocityX[i] = velocityX[last];
+			velocityY[i] = velocityY[last];
+			faction[i] = faction[last];
+			kind[i] = kind[last];
+			alive[i] = alive[last];
+			alive[last] = false;
+			removed++;
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes every projectile.
+	 */
+	public void clear() {
+		Arrays.fill(alive, 0, size, false);
+		size = 0;
+	}
+
+	/**
+	 * Doubles the length of every column.
+	 */
+	private void grow() {
+		int capacity = x.length * 2;
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		velocityX = Arrays.copyOf(velocityX, capacity);
+		velocityY = Arrays.copyOf(velocityY, capacity);
+		faction = Arrays.copyOf(faction, capacity);
+		kind = Arrays.copyOf(kind, capacity);
+		alive = Arrays.copyOf(alive, capacity);
+	}
+
+	/**
+	 * @return the number of rows in the store, including dead rows not yet compacted.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the left edge of the projectile at the given row.
+	 */
+	public double getX(int index) {
+		return x[index];
+	}
+
+	/**
+	 * @return the top edge of the projectile at the given row.
+	 */
+	public double getY(int index) {
+		return y[index];
+	}
+
+	/**
+	 * @return the faction of the projectile at the given row.
+	 */
+	public int getFaction(int index) {
+		return faction[index];
+	}
+
+	/**
+	 * @return the kind id of the projectile at the given row.
+	 */
+	public int getKind(int index) {
+		return kind[index];
+	}
+
+	/**
+	 * @return true if the projectile at the given row is still alive, false otherwise.
+	 */
+	public boolean isAlive(int index) {
+		return alive[index];
+	}
+
+	/**
+	 * @return the number of registered projectile kinds.
+	 */
+	public int getKindCount() {
+		return kindImageNames.size();
+	}
+
+	/**
+	 * @return the sprite file name of the given kind.
+	 */
+	public String getKindImageName(int kindId) {
+		return kindImageNames.get(kindId);
+	}
+
+	/**
+	 * @return the drawn width of the given kind.
+	 */
+	public double getKindWidth(int kindId) {
+		return kindWidths[kindId];
+	}
+
+	/**
+	 * @return the drawn height of the given kind.
+	 */
+	public double getKindHeight(int kindId) {
+		return kindHeights[kindId];
+	}
+}
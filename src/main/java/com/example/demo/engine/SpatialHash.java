@@ -0,0 +1,236 @@
+package com.example.demo.engine;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid spatial hash used as a collision broadphase. Items are integer ids inserted with an axis-aligned box
+ * and filed under every grid cell the box touches; a query returns the ids of items sharing at least one cell with
+ * the query box, so only those pairs need an exact overlap test.
+ * The grid is rebuilt from scratch each tick with {@link #clear(int)} and reuses its arrays, so once they have grown
+ * to fit the scene, building and querying allocate nothing. Not thread-safe.
+ */
+public class SpatialHash {
+
+	/**
+	 * Items covering more cells than this along either axis are kept in a separate list that every query checks,
+	 * rather than being filed under a large number of cells.
+	 */
+	private static final int MAX_CELLS_PER_AXIS = 32;
+	private static final int MIN_BUCKETS = 16;
+	private static final int INSERTION_SORT_LIMIT = 64;
+
+	private final double cellSize;
+	private final double inverseCellSize;
+
+	private int[] bucketHeads;
+	private int bucketMask;
+	private int[] entryItems;
+	private int[] entryNext;
+	private int entryCount;
+
+	private int[] oversizedItems;
+	private int oversizedCount;
+
+	private int[] itemStamps;
+	private int stamp;
+	private int[] results;
+	private int resultCount;
+
+	/**
+	 * Constructs an empty {@link SpatialHash}. The cell size should be roughly the size of a typical item: much
+	 * smaller files each item under many cells, much larger puts unrelated items in the same cell.
+	 *
+	 * @param cellSize the width and height of a grid cell
+	 */
+	public SpatialHash(double cellSize) {
+		if (!(cellSize > 0)) {
+			throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+		}
+		this.cellSize = cellSize;
+		this.inverseCellSize = 1.0 / cellSize;
+		this.bucketHeads = new int[MIN_BUCKETS];
+		this.bucketMask = MIN_BUCKETS - 1;
+		this.entryItems = new int[64];
+		this.entryNext = new int[64];
+		this.oversizedItems = new int[4];
+		this.itemStamps = new int[64];
+		this.results = new int[64];
+		Arrays.fill(bucketHeads, -1);
+	}
+
+	/**
+	 * Removes every item, sizing the bucket table for the number of items about to be inserted.
+	 *
+	 * @param expectedItems the number of items expected before the next clear
+	 */
+	public void clear(int expectedItems) {
+		int buckets = Math.max(MIN_BUCKETS, Integer.highestOneBit(Math.max(1, expectedItems * 2) - 1) << 1);
+		if (buckets > bucketHeads.length) {
+			bucketHeads = new int[buckets];
+		}
+		bucketMask = Math.min(buckets, bucketHeads.length) - 1;
+		Arrays.fill(bucketHeads, 0, bucketMask + 1, -1);
+		entryCount = 0;
+		oversizedCount = 0;
+	}
+
+	/**
+	 * Inserts an item under every cell its box touches. Item ids should be small non-negative integers, such as
+	 * list indices, since they also index internal arrays.
+	 *
+	 * @param item the id of the item
+	 * @param minX the left edge of the item's box
+	 * @param minY the top edge of the item's box
+	 * @param maxX the right edge of the item's box
+	 * @param maxY the bottom edge of the item's box
+	 */
+	public void insert(int item, double minX, double minY, double maxX, double maxY) {
+		if (item >= itemStamps.length) {
+			itemStamps = Arrays.copyOf(itemStamps, Math.max(item + 1, itemStamps.length * 2));
+		}
+		int minCellX = cell(minX);
+		int minCellY = cell(minY);
+		int maxCellX = cell(maxX);
+		int maxCellY = cell(maxY);
+		if ((long) maxCellX - minCellX >= MAX_CELLS_PER_AXIS || (long) maxCellY - minCellY >= MAX_CELLS_PER_AXIS) {
+			if (oversizedCount == oversizedItems.length) {
+				oversizedItems = Arrays.copyOf(oversizedItems, oversizedCount * 2);
+			}
+			oversizedItems[oversizedCount++] = item;
+			return;
+		}
+		for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+			for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+				if (entryCount == entryItems.length) {
+					entryItems = Arrays.copyOf(entryItems, entryCount * 2);
+					entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+				}
+				int bucket = bucket(cellX, cellY);
+				entryItems[entryCount] = item;
+				entryNext[entryCount] = bucketHeads[bucket];
+				bucketHeads[bucket] = entryCount;
+				entryCount++;
+			}
+		}
+	}
+
+	/**
+	 * Finds every item filed under a cell the query box touches. The results are distinct, sorted in ascending id
+	 * order and available through {@link #getResult(int)} until the next query. They may include items whose boxes
+	 * do not actually overlap the query box.
+	 *
+	 * @param minX the left edge of the query box
+	 * @param minY the top edge of the query box
+	 * @param maxX the right edge of the query box
+	 * @param maxY the bottom edge of the query box
+	 * @return the number of results
+	 */
+	public int query(double minX, double minY, double maxX, double maxY) {
+		nextStamp();
+		resultCount = 0;
+		for (int i = 0; i < oversizedCount; i++) {
+			addResult(oversizedItems[i]);
+		}
+		int minCellX = cell(minX);
+		int minCellY = cell(minY);
+		int maxCellX = cell(maxX);
+		int maxCellY = cell(maxY);
+		long cellCount = ((long) maxCellX - minCellX + 1) * ((long) maxCellY - minCellY + 1);
+		if (cellCount > bucketMask + 1) {
+			// A query touching more cells than there are buckets is cheaper as a scan of every entry
+			for (int entry = 0; entry < entryCount; entry++) {
+				addResult(entryItems[entry]);
+			}
+		} else {
+			for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+				for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+					for (int entry = bucketHeads[bucket(cellX, cellY)]; entry != -1; entry = entryNext[entry]) {
+						addResult(entryItems[entry]);
+					}
+				}
+			}
+		}
+		sortResults();
+		return resultCount;
+	}
+
+	/**
+	 * Sorts the results into ascending order. Typical queries return a handful of items, which an insertion sort
+	 * handles without the run buffers {@link Arrays#sort(int[], int, int)} may allocate.
+	 */
+	private void sortResults() {
+		if (resultCount > INSERTION_SORT_LIMIT) {
+			Arrays.sort(results, 0, resultCount);
+			return;
+		}
+		for (int i = 1; i < resultCount; i++) {
+			int item = results[i];
+			int j = i - 1;
+			while (j >= 0 && results[j] > item) {
+				results[j + 1] = results[j];
+				j--;
+			}
+			results[j + 1] = item;
+		}
+	}
+
+	/**
+	 * @param index the index of the result, below the count returned by the last query
+	 * @return the id of a result of the last query.
+	 */
+	public int getResult(int index) {
+		return results[index];
+	}
+
+	/**
+	 * @return the width and height of a grid cell.
+	 */
+	public double getCellSize() {
+		return cellSize;
+	}
+
+	/**
+	 * Adds an item to the results unless the current query has already found it.
+	 *
+	 * @param item the id of the item
+	 */
+	private void addResult(int item) {
+		if (itemStamps[item] == stamp) {
+			return;
+		}
+		itemStamps[item] = stamp;
+		if (resultCount == results.length) {
+			results = Arrays.copyOf(results, resultCount * 2);
+		}
+		results[resultCount++] = item;
+	}
+
+	/**
+	 * Starts a new query generation, so items found by earlier queries are no longer treated as duplicates.
+	 */
+	private void nextStamp() {
+		stamp++;
+		if (stamp == 0) {
+			Arrays.fill(itemStamps, 0);
+			stamp = 1;
+		}
+	}
+
+	/**
+	 * @param coordinate a position along either axis
+	 * @return the index of the grid cell containing the position.
+	 */
+	private int cell(double coordinate) {
+		return (int) Math.floor(coordinate * inverseCellSize);
+	}
+
+	/**
+	 * @param cellX the horizontal cell index
+	 * @param cellY the vertical cell index
+	 * @return the bucket holding the cell's entries.
+	 */
+	private int bucket(int cellX, int cellY) {
+		int hash = cellX * 0x9E3779B1 ^ cellY * 0x85EBCA77;
+		return (hash ^ (hash >>> 15)) & bucketMask;
+	}
+}
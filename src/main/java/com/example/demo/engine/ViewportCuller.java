@@ -0,0 +1,161 @@
+package com.example.demo.engine;
+
+import com.example.demo.activeactor.ActiveActor;
+import com.example.demo.activeactor.ActiveActorDestructible;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Destroys actors that have left the visible play area, so projectiles and hazards that fly off screen stop taking
+ * part in collisions and are removed with the rest of the destroyed actors.
+ * An actor is culled once its bounding box lies entirely outside the viewport grown by the margin configured for its
+ * type. Types without a margin of their own use the default margin, and exempt types are never culled.
+ */
+public class ViewportCuller {
+
+	/**
+	 * The margin used by actor types that have not been given one, in pixels.
+	 */
+	public static final double DEFAULT_MARGIN = 100;
+
+	private final double width;
+	private final double height;
+	private final Map<Class<?>, Double> margins;
+	private double defaultMargin;
+	private int lastCulledCount;
+	private int culledThisTick;
+	private long totalCulledCount;
+
+	/**
+	 * Constructs a {@link ViewportCuller} for a viewport with its top-left corner at the origin.
+	 *
+	 * @param width the width of the viewport
+	 * @param height the height of the viewport
+	 */
+	public ViewportCuller(double width, double height) {
+		this.width = width;
+		this.height = height;
+		this.margins = new HashMap<>();
+		this.defaultMargin = DEFAULT_MARGIN;
+	}
+
+	/**
+	 * Sets how far outside the viewport actors of a type may travel before they are culled. The margin applies to
+	 * the exact type only, not to its subclasses.
+	 *
+	 * @param type the actor type
+	 * @param margin the margin in pixels
+	 */
+	public void setMargin(Class<? extends ActiveActor> type, double margin) {
+		if (margin < 0) {
+			throw new IllegalArgumentException("Margin must not be negative: " + margin);
+		}
+		margins.put(type, margin);
+	}
+
+	/**
+	 * Prevents actors of a type from ever being culled, e.g. the player or a boss that may briefly leave the screen.
+	 *
+	 * @param type the actor type
+	 */
+	public void exempt(Class<? extends ActiveActor> type) {
+		margins.put(type, Double.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Sets the margin used by actor types that have not been given one.
+	 *
+	 * @param defaultMargin the margin in pixels
+	 */
+	public void setDefaultMargin(double defaultMargin) {
+		if (defaultMargin < 0) {
+			throw new IllegalArgumentException("Margin must not be negative: " + defaultMargin);
+		}
+		this.defaultMargin = defaultMargin;
+	}
+
+	/**
+	 * Returns the margin that applies to a type.
+	 *
+	 * @param type the actor type
+	 * @return the margin in pixels, or positive infinity if the type is exempt
+	 */
+	public double getMargin(Class<?> type) {
+		Double margin = margins.get(type);
+		return margin == null ? defaultMargin : margin;
+	}
+
+	/**
+	 * Destroys every live actor in the list that lies entirely outside the grown viewport.
+	 *
+	 * @param actors the actors to check
+	 * @return the number of actors culled
+	 */
+	public int cull(List<? extends ActiveActorDestructible> actors) {
+		int culled = 0;
+		for (int i = 0; i < actors.size(); i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (!actor.isDestroyed() && isOutside(actor)) {
+				actor.destroy();
+				culled++;
+			}
+		}
+		culledThisTick += culled;
+		return culled;
+	}
+
+	/**
+	 * Kills every live projectile in the store that lies entirely outside the viewport grown by the default margin.
+	 *
+	 * @param store the projectile store to check
+	 * @return the number of projectiles culled
+	 */
+	public int cull(ProjectileStore store) {
+		int culled = store.cull(-defaultMargin, -defaultMargin, width + defaultMargin, height + defaultMargin);
+		culledThisTick += culled;
+		return culled;
+	}
+
+	/**
+	 * Closes the current tick, publishing the number of actors culled since the previous call.
+	 *
+	 * @return the number of actors culled during the tick
+	 */
+	public int endTick() {
+		lastCulledCount = culledThisTick;
+		totalCulledCount += culledThisTick;
+		culledThisTick = 0;
+		return lastCulledCount;
+	}
+
+	/**
+	 * Checks whether an actor's bounding box lies entirely outside the viewport grown by its type's margin.
+	 *
+	 * @param actor the actor to check
+	 * @return true if the actor is out of bounds, false otherwise
+	 */
+	private boolean isOutside(ActiveActor actor) {
+		double margin = getMargin(actor.getClass());
+		if (margin == Double.POSITIVE_INFINITY) {
+			return false;
+		}
+		return actor.getMaxX() < -margin || actor.getMinX() > width + margin
+				|| actor.getMaxY() < -margin || actor.getMinY() > height + margin;
+	}
+
+	/**
+	 * @return the number of actors culled during the last completed tick.
+	 */
+	public int getLastCulledCount() {
+		return lastCulledCount;
+	}
+
+	/**
+	 * @return the number of actors culled since the culler was created.
+	 */
+	public long getTotalCulledCount() {
+		return totalCulledCount;
+	}
+}
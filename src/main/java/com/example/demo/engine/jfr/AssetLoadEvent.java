@@ -0,0 +1,31 @@
+package com.example.demo.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning the decoding of an image that was not in the cache.
+ */
+@Name("com.example.demo.AssetLoad")
+@Label("Asset Load")
+@Category({"Sky Battle", "Assets"})
+@Description("Decoding an image that missed the image cache")
+public class AssetLoadEvent extends Event {
+
+	@Label("Resource")
+	public String resource;
+
+	@Label("Width")
+	public double width;
+
+	@Label("Height")
+	public double height;
+
+	@Label("Decoded Size")
+	@DataAmount
+	public long bytes;
+}
@@ -0,0 +1,36 @@
+package com.example.demo.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning one collision pass between two actor lists.
+ */
+@Name("com.example.demo.CollisionPass")
+@Label("Collision Pass")
+@Category({"Sky Battle", "Game Loop"})
+@Description("Collision testing between two lists of actors")
+@StackTrace(false)
+public class CollisionPassEvent extends Event {
+
+	@Label("First List Size")
+	public int firstCount;
+
+	@Label("Second List Size")
+	public int secondCount;
+
+	@Label("Broadphase")
+	@Description("Whether the pass filtered pairs through the spatial hash")
+	public boolean broadphase;
+
+	@Label("Pairs Tested")
+	@Description("Pairs whose shapes were compared")
+	public long pairsTested;
+
+	@Label("Hits")
+	public int hits;
+}
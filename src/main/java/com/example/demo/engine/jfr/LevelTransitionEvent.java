@@ -0,0 +1,27 @@
+package com.example.demo.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning the switch from one level to the next on the FX thread.
+ */
+@Name("com.example.demo.LevelTransition")
+@Label("Level Transition")
+@Category({"Sky Battle", "Levels"})
+@Description("Creating or taking the preloaded next level, showing its scene and disposing the previous one")
+public class LevelTransitionEvent extends Event {
+
+	@Label("From Level")
+	public String fromLevel;
+
+	@Label("To Level")
+	public String toLevel;
+
+	@Label("Preloaded")
+	@Description("Whether the level was built in the background ahead of time")
+	public boolean preloaded;
+}
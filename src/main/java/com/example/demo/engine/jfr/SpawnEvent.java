@@ -0,0 +1,34 @@
+package com.example.demo.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for an actor entering the game, emitted once per spawn. Unpooled actors report when they are
+ * constructed; pooled actors report when they are reset for use, whether the pool reused an idle actor or had to
+ * create one.
+ */
+@Name("com.example.demo.Spawn")
+@Label("Actor Spawn")
+@Category({"Sky Battle", "Actors"})
+@Description("An actor entering the game")
+@StackTrace(false)
+public class SpawnEvent extends Event {
+
+	@Label("Actor Class")
+	public Class<?> actorClass;
+
+	@Label("Recycled")
+	@Description("True if a pooled actor was reused, false if a new actor was created")
+	public boolean recycled;
+
+	@Label("X")
+	public double x;
+
+	@Label("Y")
+	public double y;
+}
@@ -0,0 +1,33 @@
+package com.example.demo.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning one simulation tick of a level, with the number of entities it simulated.
+ */
+@Name("com.example.demo.Tick")
+@Label("Game Tick")
+@Category({"Sky Battle", "Game Loop"})
+@Description("One fixed-timestep simulation tick of a level")
+@StackTrace(false)
+public class TickEvent extends Event {
+
+	@Label("Level")
+	public String level;
+
+	@Label("Tick")
+	@Description("The number of ticks the level had completed before this one")
+	public long tick;
+
+	@Label("Live Actors")
+	@Description("Actors and pooled projectiles in the level at the end of the tick")
+	public int liveActors;
+
+	@Label("Enemies")
+	public int enemies;
+}
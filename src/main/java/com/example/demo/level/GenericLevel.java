@@ -0,0 +1,189 @@
+package com.example.demo.level;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+import com.example.demo.activeactor.Boss;
+import com.example.demo.activeactor.BossJet;
+import com.example.demo.activeactor.EnemyJet;
+import com.example.demo.activeactor.Meteor;
+import com.example.demo.engine.GameRandom;
+import com.example.demo.level.LevelDefinition.EnemyType;
+import com.example.demo.level.LevelDefinition.WinCondition;
+
+/**
+ * A level played entirely from a {@link LevelDefinition} in the {@link LevelCatalog}: the definition decides which
+ * enemies and hazards spawn, in which lanes, and what wins the level.
+ */
+public class GenericLevel extends LevelParent {
+
+	private final LevelDefinition definition;
+	private final double[] lanes;
+	private final boolean[] laneUsed;
+	private final int[] freeLanes;
+	private final Boss boss;
+	private LevelViewLevelTwo bossLevelView;
+
+	private boolean isLevelFinished = false;
+
+	/**
+	 * Constructs a {@link GenericLevel} playing a level definition. The definition's lanes are copied once into flat
+	 * arrays so spawning allocates nothing beyond the enemies themselves.
+	 *
+	 * @param definition the level to play
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth the width of the game screen
+	 */
+	public GenericLevel(LevelDefinition definition, double screenHeight, double screenWidth) {
+		super(definition.name(), definition.title(), definition.backgroundImageName(), screenHeight, screenWidth,
+				definition.playerInitialHealth());
+		this.definition = definition;
+		this.lanes = definition.lanes();
+		this.laneUsed = new boolean[lanes.length];
+		this.freeLanes = new int[lanes.length];
+		this.boss = definition.enemyType() == EnemyType.BOSS ? new Boss(this) : null;
+	}
+
+	/**
+	 * Ends the game with a loss if the user is destroyed. Once the definition's win condition is met, moves on to the
+	 * next level, or wins the game if there is none.
+	 */
+	@Override
+	protected void checkIfGameOver() {
+		if (userIsDestroyed()) {
+			loseGame();
+		} else if (hasMetWinCondition() && !isLevelFinished) {
+			isLevelFinished = true;
+			if (definition.nextLevel() != null) {
+				goToNextLevel(definition.nextLevel());
+			} else {
+				winGame();
+			}
+		}
+	}
+
+	/**
+	 * @return true if the user has reached the kill target or destroyed the boss, as the definition requires.
+	 */
+	private boolean hasMetWinCondition() {
+		if (definition.winCondition() == WinCondition.BOSS_DEFEATED) {
+			return boss.isDestroyed();
+		}
+		return getUser().getNumberOfKills() >= definition.killsToWin();
+	}
+
+	/**
+	 * Spawns the boss when no enemy is present, or otherwise fills each free enemy slot with the definition's spawn
+	 * rate, then tops up the meteors.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		if (boss != null) {
+			if (getCurrentNumberOfEnemies() == 0) {
+				addEnemyUnit(boss);
+			}
+		} else {
+			spawnLaneEnemies();
+		}
+		if (getCurrentNumberOfHazards() < definition.maxHazards()) {
+			Meteor meteor = Meteor.create(getRandom().nextDouble(GameRandom.Stream.HAZARDS)
+					* definition.hazardSpawnWidth(), 0, definition.hazardSpeed());
+			addHazard(meteor);
+		}
+	}
+
+	/**
+	 * Spawns jets in free lanes, or at random heights once every lane is taken. A lane is freed when the jet in it is
+	 * destroyed. Each free slot is filled with the definition's spawn rate scaled to the length of the tick, so jets
+	 * arrive equally often at any tick rate.
+	 */
+	private void spawnLaneEnemies() {
+		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
+		double spawnChance = Math.min(1, definition.enemySpawnRate() * getTickSeconds());
+		for (int i = 0; i < definition.maxEnemies() - currentNumberOfEnemies; i++) {
+			if (getRandom().chance(GameRandom.Stream.SPAWN, spawnChance)) {
+				int lane = pickFreeLane();
+				double yFraction = lane >= 0 ? lanes[lane] : getRandom().nextDouble(GameRandom.Stream.SPAWN);
+				ActiveActorDestructible newEnemy = createEnemy(yFraction * getEnemyMaximumYPosition());
+				addEnemyUnit(newEnemy);
+				if (lane >= 0) {
+					laneUsed[lane] = true;
+					newEnemy.setOnDestroyed(() -> laneUsed[lane] = false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the index of a random free lane, or -1 if every lane is taken.
+	 */
+	private int pickFreeLane() {
+		int free = 0;
+		for (int i = 0; i < lanes.length; i++) {
+			if (!laneUsed[i]) {
+				freeLanes[free++] = i;
+			}
+		}
+		return free == 0 ? -1 : freeLanes[getRandom().nextInt(GameRandom.Stream.SPAWN, free)];
+	}
+
+	/**
+	 * @param yPosition the height to spawn at
+	 * @return a new jet of the definition's enemy type entering from the right edge of the screen.
+	 */
+	private ActiveActorDestructible createEnemy(double yPosition) {
+		if (definition.enemyType() == EnemyType.BOSS_JET) {
+			return new BossJet(this, getScreenWidth(), yPosition);
+		}
+		return new EnemyJet(this, getScreenWidth(), yPosition);
+	}
+
+	/**
+	 * Creates the level's view, with the boss shield display on boss levels.
+	 *
+	 * @return the {@link LevelView} for the level
+	 */
+	@Override
+	protected LevelView instantiateLevelView() {
+		if (boss != null) {
+			bossLevelView = new LevelViewLevelTwo(getRoot(), definition.playerInitialHealth());
+			return bossLevelView;
+		}
+		return new LevelView(getRoot(), definition.playerInitialHealth());
+	}
+
+	/**
+	 * Extends the parent {@code render} method to keep the boss shield visibility in step with the boss.
+	 */
+	@Override
+	public void render() {
+		super.render();
+		if (boss != null && isRendered()) {
+			if (boss.getIsShielded()) {
+				bossLevelView.showShield();
+			} else {
+				bossLevelView.hideShield();
+			}
+		}
+	}
+
+	/**
+	 * Everything a level does is described by its definition, so there is nothing extra to update.
+	 */
+	@Override
+	protected void misc() {
+	}
+
+	/**
+	 * @return the name of the level that follows this one, or null if winning it wins the game.
+	 */
+	@Override
+	public String getNextLevelName() {
+		return definition.nextLevel();
+	}
+
+	/**
+	 * @return the definition the level plays.
+	 */
+	public LevelDefinition getDefinition() {
+		return definition;
+	}
+}
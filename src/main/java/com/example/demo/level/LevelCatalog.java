@@ -0,0 +1,313 @@
+package com.example.demo.level;
+
+import com.example.demo.level.LevelDefinition.EnemyType;
+import com.example.demo.level.LevelDefinition.WinCondition;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every level of the game, read once at startup from a text resource in which each level is a block of lines
+ * starting with a {@code level} line:
+ * <pre>
+ * level      &lt;name&gt;
+ * title      &lt;text&gt;
+ * background &lt;path&gt;
+ * health     &lt;hearts&gt;
+ * enemy      jet|boss_jet|boss &lt;max on screen&gt; &lt;spawns per second&gt;
+ * lanes      &lt;fraction&gt;...
+ * hazard     meteor &lt;max on screen&gt; &lt;pixels per second&gt; &lt;spawn width&gt;
+ * win        kills &lt;count&gt; | boss_defeated
+ * next       &lt;name&gt;
+ * </pre>
+ * Blank lines and lines starting with {@code #} are ignored. The first level listed is the one the game starts
+ * with. Levels are tuned or added by editing the resource, or by pointing {@code -Dlevels.file} at a catalog file
+ * outside the game, without recompiling.
+ */
+public class LevelCatalog {
+
+	/**
+	 * The classpath location of the game's level catalog.
+	 */
+	public static final String DEFAULT_LOCATION = "/com/example/demo/levels.catalog";
+
+	private static final String FILE_PROPERTY = "levels.file";
+	private static LevelCatalog instance;
+
+	private final Map<String, LevelDefinition> levels;
+	private final String firstLevelName;
+
+	/**
+	 * Constructs a {@link LevelCatalog} from level definitions, checking that every level they lead to exists.
+	 *
+	 * @param definitions the levels, the first being the one the game starts with
+	 */
+	public LevelCatalog(List<LevelDefinition> definitions) {
+		if (definitions.isEmpty()) {
+			throw new IllegalArgumentException("A level catalog needs at least one level");
+		}
+		Map<String, LevelDefinition> byName = new LinkedHashMap<>();
+		for (LevelDefinition definition : definitions) {
+			if (byName.put(definition.name(), definition) != null) {
+				throw new IllegalArgumentException("Level defined twice: " + definition.name());
+			}
+		}
+		for (LevelDefinition definition : definitions) {
+			if (definition.nextLevel() != null && !byName.containsKey(definition.nextLevel())) {
+				throw new IllegalArgumentException("Level " + definition.name() + " leads to undefined level "
+						+ definition.nextLevel());
+			}
+		}
+		this.levels = Collections.unmodifiableMap(byName);
+		this.firstLevelName = definitions.get(0).name();
+	}
+
+	/**
+	 * Returns the game's level catalog, reading it on first use from the file named by {@code -Dlevels.file} or,
+	 * failing that, from {@link #DEFAULT_LOCATION}.
+	 *
+	 * @return the level catalog
+	 */
+	public static synchronized LevelCatalog getInstance() {
+		if (instance == null) {
+			String file = System.getProperty(FILE_PROPERTY);
+			instance = file != null ? loadFile(Path.of(file)) : load(DEFAULT_LOCATION);
+		}
+		return instance;
+	}
+
+	/**
+	 * Reads a catalog from the classpath.
+	 *
+	 * @param resourcePath the classpath location of the catalog
+	 * @return the parsed catalog
+	 */
+	public static LevelCatalog load(String resourcePath) {
+		try (InputStream stream = LevelCatalog.class.getResourceAsStream(resourcePath)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Level catalog not found: " + resourcePath);
+			}
+			return parse(new InputStreamReader(stream, StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read level catalog: " + resourcePath, e);
+		}
+	}
+
+	/**
+	 * Reads a catalog from a file.
+	 *
+	 * @param file the catalog file
+	 * @return the parsed catalog
+	 */
+	public static LevelCatalog loadFile(Path file) {
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return parse(reader);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read level catalog: " + file, e);
+		}
+	}
+
+	/**
+	 * Parses a catalog line by line.
+	 *
+	 * @param reader the catalog text
+	 * @return the parsed catalog
+	 * @throws IOException if the text cannot be read
+	 */
+	public static LevelCatalog parse(Reader reader) throws IOException {
+		BufferedReader in = new BufferedReader(reader);
+		List<LevelDefinition> definitions = new ArrayList<>();
+		Draft draft = null;
+		String line;
+		int lineNumber = 0;
+		while ((line = in.readLine()) != null) {
+			lineNumber++;
+			line = line.strip();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			String[] parts = line.split("\\s+", 2);
+			String key = parts[0];
+			String value = parts.length > 1 ? parts[1] : "";
+			try {
+				if (key.equals("level")) {
+					if (draft != null) {
+						definitions.add(draft.toDefinition());
+					}
+					draft = new Draft(value);
+				} else if (draft == null) {
+					throw new IllegalArgumentException("Expected a level line first");
+				} else {
+					draft.set(key, value);
+				}
+			} catch (RuntimeException e) {
+				throw new IllegalArgumentException("Invalid level catalog line " + lineNumber + ": " + line, e);
+			}
+		}
+		if (draft != null) {
+			definitions.add(draft.toDefinition());
+		}
+		return new LevelCatalog(definitions);
+	}
+
+	/**
+	 * Creates a fresh instance of a level.
+	 *
+	 * @param levelName the name of the level
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth the width of the game screen
+	 * @return the new level
+	 */
+	public LevelParent create(String levelName, double screenHeight, double screenWidth) {
+		return new GenericLevel(get(levelName), screenHeight, screenWidth);
+	}
+
+	/**
+	 * @param levelName the name of a level
+	 * @return the definition of the level.
+	 * @throws IllegalArgumentException if no level has the name
+	 */
+	public LevelDefinition get(String levelName) {
+		LevelDefinition definition = levels.get(levelName);
+		if (definition == null) {
+			throw new IllegalArgumentException("Unknown level: " + levelName);
+		}
+		return definition;
+	}
+
+	/**
+	 * @return the name of the level the game starts with.
+	 */
+	public String getFirstLevelName() {
+		return firstLevelName;
+	}
+
+	/**
+	 * @return the names of every level, in catalog order.
+	 */
+	public List<String> getLevelNames() {
+		return List.copyOf(levels.keySet());
+	}
+
+	/**
+	 * A level definition being read, filled in line by line.
+	 */
+	private static class Draft {
+
+		private final String name;
+		private String title;
+		private String backgroundImageName;
+		private int playerInitialHealth = 5;
+		private EnemyType enemyType;
+		private int maxEnemies;
+		private double enemySpawnRate;
+		private double[] lanes = {0.0, 0.25, 0.5, 0.75, 1.0};
+		private int maxHazards;
+		private double hazardSpeed;
+		private double hazardSpawnWidth;
+		private WinCondition winCondition;
+		private int killsToWin;
+		private String nextLevel;
+
+		/**
+		 * @param name the name of the level
+		 */
+		Draft(String name) {
+			if (name.isEmpty() || name.contains(" ")) {
+				throw new IllegalArgumentException("A level needs a one-word name");
+			}
+			this.name = name;
+			this.title = name;
+		}
+
+		/**
+		 * Applies one line of the level's block.
+		 *
+		 * @param key the first word of the line
+		 * @param value the rest of the line
+		 */
+		void set(String key, String value) {
+			String[] tokens = value.isEmpty() ? new String[0] : value.split("\\s+");
+			switch (key) {
+				case "title" -> title = value;
+				case "background" -> backgroundImageName = value;
+				case "health" -> playerInitialHealth = Integer.parseInt(single(tokens));
+				case "enemy" -> {
+					expect(tokens, 3);
+					enemyType = EnemyType.valueOf(tokens[0].toUpperCase());
+					maxEnemies = Integer.parseInt(tokens[1]);
+					enemySpawnRate = Double.parseDouble(tokens[2]);
+				}
+				case "lanes" -> {
+					lanes = new double[tokens.length];
+					for (int i = 0; i < tokens.length; i++) {
+						lanes[i] = Double.parseDouble(tokens[i]);
+					}
+				}
+				case "hazard" -> {
+					expect(tokens, 4);
+					if (!tokens[0].equals("meteor")) {
+						throw new IllegalArgumentException("Unknown hazard: " + tokens[0]);
+					}
+					maxHazards = Integer.parseInt(tokens[1]);
+					hazardSpeed = Double.parseDouble(tokens[2]);
+					hazardSpawnWidth = Double.parseDouble(tokens[3]);
+				}
+				case "win" -> {
+					winCondition = WinCondition.valueOf(tokens.length > 0 ? tokens[0].toUpperCase() : "");
+					if (winCondition == WinCondition.KILLS) {
+						expect(tokens, 2);
+						killsToWin = Integer.parseInt(tokens[1]);
+					} else {
+						expect(tokens, 1);
+					}
+				}
+				case "next" -> nextLevel = single(tokens);
+				default -> throw new IllegalArgumentException("Unknown key: " + key);
+			}
+		}
+
+		/**
+		 * @param tokens the values on a line
+		 * @param count the number of values the line must have
+		 */
+		private static void expect(String[] tokens, int count) {
+			if (tokens.length != count) {
+				throw new IllegalArgumentException("Expected " + count + " values but found " + tokens.length);
+			}
+		}
+
+		/**
+		 * @param tokens the values on a line
+		 * @return the only value on the line.
+		 */
+		private static String single(String[] tokens) {
+			expect(tokens, 1);
+			return tokens[0];
+		}
+
+		/**
+		 * @return the finished definition.
+		 */
+		LevelDefinition toDefinition() {
+			if (backgroundImageName == null || enemyType == null || winCondition == null) {
+				throw new IllegalArgumentException("Level " + name + " needs a background, an enemy and a win line");
+			}
+			return new LevelDefinition(name, title, backgroundImageName, playerInitialHealth, enemyType, maxEnemies,
+					enemySpawnRate, lanes, maxHazards, hazardSpeed, hazardSpawnWidth, winCondition, killsToWin,
+					nextLevel);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.example.demo.level;
+
+/**
+ * Everything that distinguishes one level from another, as read from the level catalog: its look, the enemies and
+ * hazards it spawns, how it is won and which level follows. A {@link GenericLevel} plays any definition.
+ *
+ * @param name the name identifying the level, also used to derive its random seed
+ * @param title the label shown at the top of the screen
+ * @param backgroundImageName the classpath location of the background image
+ * @param playerInitialHealth the player's health, and the number of hearts shown, at the start of the level
+ * @param enemyType the kind of enemy the level spawns
+ * @param maxEnemies the maximum number of enemies on screen at once
+ * @param enemySpawnRate how often each free enemy slot is filled, in spawns per second
+ * @param lanes the heights enemies spawn at, as fractions of the highest enemy position; enemies take free lanes
+ *              before spawning at random heights
+ * @param maxHazards the maximum number of meteors on screen at once, zero for none
+ * @param hazardSpeed the speed meteors fall at, in pixels per second
+ * @param hazardSpawnWidth the width of the strip along the top of the screen meteors spawn in
+ * @param winCondition what the player must do to win the level
+ * @param killsToWin the number of kills needed when the level is won by kills
+ * @param nextLevel the name of the level that follows a win, or null if winning it wins the game
+ */
+public record LevelDefinition(String name, String title, String backgroundImageName, int playerInitialHealth,
+		EnemyType enemyType, int maxEnemies, double enemySpawnRate, double[] lanes, int maxHazards,
+		double hazardSpeed, double hazardSpawnWidth, WinCondition winCondition, int killsToWin, String nextLevel) {
+
+	/**
+	 * The kinds of enemy a level can spawn.
+	 */
+	public enum EnemyType {
+		/** {@link com.example.demo.activeactor.EnemyJet}s entering from the right in lanes. */
+		JET,
+		/** {@link com.example.demo.activeactor.BossJet}s entering from the right in lanes. */
+		BOSS_JET,
+		/** A single {@link com.example.demo.activeactor.Boss}, with its shield shown on screen. */
+		BOSS
+	}
+
+	/**
+	 * The ways a level can be won.
+	 */
+	public enum WinCondition {
+		/** Reaching a number of kills. */
+		KILLS,
+		/** Destroying the boss. */
+		BOSS_DEFEATED
+	}
+
+	/**
+	 * Checks that the definition is playable.
+	 */
+	public LevelDefinition {
+		if (playerInitialHealth < 1) {
+			throw new IllegalArgumentException("Player health must be at least 1: " + playerInitialHealth);
+		}
+		if (maxEnemies < 1 || enemySpawnRate < 0) {
+			throw new IllegalArgumentException("Enemies need a positive count and a spawn rate of at least 0");
+		}
+		if (enemyType == EnemyType.BOSS && maxEnemies != 1) {
+			throw new IllegalArgumentException("A level has exactly one boss");
+		}
+		if (maxHazards < 0) {
+			throw new IllegalArgumentException("Hazard count cannot be negative: " + maxHazards);
+		}
+		if (winCondition == WinCondition.BOSS_DEFEATED && enemyType != EnemyType.BOSS) {
+			throw new IllegalArgumentException("Only a boss level can be won by defeating the boss");
+		}
+		if (winCondition == WinCondition.KILLS && killsToWin < 1) {
+			throw new IllegalArgumentException("Kills to win must be at least 1: " + killsToWin);
+		}
+		lanes = lanes.clone();
+	}
+
+	/**
+	 * @return a copy of the heights enemies spawn at, as fractions of the highest enemy position.
+	 */
+	@Override
+	public double[] lanes() {
+		return lanes.clone();
+	}
+}
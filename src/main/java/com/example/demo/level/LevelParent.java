@@ -1,79 +1,173 @@
 package com.example.demo.level;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 
 import com.example.demo.CollisionHandler;
+import com.example.demo.InputAction;
 import com.example.demo.InputManager;
+import com.example.demo.SoundManager;
 import com.example.demo.activeactor.ActiveActorDestructible;
-import com.example.demo.activeactor.FighterJet;
+import com.example.demo.activeactor.Boss;
+import com.example.demo.activeactor.BossMissiles;
+import com.example.demo.activeactor.EnemyMissiles;
+import com.example.demo.activeactor.Meteor;
 import com.example.demo.activeactor.PlayerJet;
-import javafx.animation.*;
+import com.example.demo.activeactor.PlayerMissiles;
+import com.example.demo.assets.ImageCache;
+import com.example.demo.engine.AllocationTracker;
+import com.example.demo.engine.FrameProfiler;
+import com.example.demo.engine.FrameProfiler.Phase;
+import com.example.demo.engine.FrameStats;
+import com.example.demo.engine.GameLoop;
+import com.example.demo.engine.GameRandom;
+import com.example.demo.engine.InputQueue;
+import com.example.demo.engine.ProjectileStore;
+import com.example.demo.engine.ViewportCuller;
+import com.example.demo.engine.jfr.TickEvent;
+import com.example.demo.simulation.InputRecording;
+import com.example.demo.userinterface.ActorRenderer;
+import com.example.demo.userinterface.DebugOverlay;
+import com.example.demo.userinterface.ProfilerOverlay;
+import com.example.demo.userinterface.ProjectileLayer;
+import javafx.event.EventHandler;
 import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.image.*;
-import javafx.util.Duration;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import jdk.jfr.EventType;
 
 public abstract class LevelParent extends Observable {
 
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
 	private static final int MILLISECOND_DELAY = 40;
+	private static final double TICKS_PER_SECOND = 1000.0 / MILLISECOND_DELAY;
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+	private static final int INPUT_QUEUE_CAPACITY = 256;
+	private static final InputAction[] INPUT_ACTIONS = InputAction.values();
+	private static final int PROFILER_WINDOW = 256;
+	private static final EventType TICK_EVENT = EventType.getEventType(TickEvent.class);
+	private static final String PROFILER_OVERLAY_PROPERTY = "profiler.overlay";
+	private static final double PROFILER_OVERLAY_X_POSITION = 5;
+	private static final double PROFILER_OVERLAY_Y_POSITION = 110;
+	private static final String DEBUG_OVERLAY_PROPERTY = "debug.overlay";
+	private static final KeyCode DEBUG_OVERLAY_KEY = KeyCode.F3;
+	private static final double DEBUG_OVERLAY_X_POSITION = 960;
+	private static final double DEBUG_OVERLAY_Y_POSITION = 60;
 	private final double screenHeight;
 	private final double screenWidth;
 	private final double enemyMaximumYPosition;
 
-	private final Group root;
-	private final Timeline timeline;
+	private final String levelName;
+	private final String title;
+	private final String backgroundImageName;
+	private final GameLoop gameLoop;
 	private final PlayerJet user;
-	private final Scene scene;
-	private final ImageView background;
+	private Group root;
+	private Scene scene;
+	private ImageView background;
+	private ActorRenderer renderer;
+	private ProjectileLayer projectileLayer;
+	private ProfilerOverlay profilerOverlay;
+	private DebugOverlay debugOverlay;
+	private EventHandler<KeyEvent> debugOverlayToggle;
 
 
 	protected final List<ActiveActorDestructible> friendlyUnits;
 	private final List<ActiveActorDestructible> enemyUnits;
 	private final List<ActiveActorDestructible> userProjectiles;
 	private final List<ActiveActorDestructible> enemyProjectiles;
+	private final List<ActiveActorDestructible> hazardUnits;
+	private final ProjectileStore projectileStore;
+	private final ViewportCuller viewportCuller;
+	private final InputQueue inputQueue;
+	private final InputQueue.Consumer inputConsumer;
+	private final FrameProfiler profiler;
+	private final AllocationTracker allocationTracker;
+	private final FrameStats frameStats;
+	private FrameStats.Report frameReport;
+	private Consumer<FrameStats.Report> onFrameReport;
+	private Runnable onGameOver;
+	private GameRandom random;
+	private long tick;
+	private InputRecording recording;
+	private Consumer<InputRecording> onRecordingFinished;
+	private InputRecording replay;
+	private int replayIndex;
+	private long lastInputLatencyNanos;
+	private long maxInputLatencyNanos;
 	
 	private int currentNumberOfEnemies;
 	private LevelView levelView;
+	private boolean isGameOver;
+	private LevelState state;
 
 
 	/**
-	 * Constructs a new {@link LevelParent} instance, initializing the game scene and its components
-	 * including the player and enemy units, projectiles, background, and other level-specific attributes.
+	 * Constructs a new {@link LevelParent} instance, initializing the world model including the player, enemy units
+	 * and projectiles. No JavaFX objects are created until {@link #prepareSceneGraph()} is called, so a level can also
+	 * be driven headless through {@link #step()}.
 	 *
+	 * @param levelName The name identifying the level in recordings and reports, also used to derive its random seed.
+	 * @param title The label shown at the top of the screen.
 	 * @param backgroundImageName The file name of the background image that will be used for the game level.
 	 * @param screenHeight The height of the game screen.
 	 * @param screenWidth The width of the game screen.
 	 * @param playerInitialHealth The initial health value for the player's character.
 	 */
-	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth) {
-		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
+	public LevelParent(String levelName, String title, String backgroundImageName, double screenHeight,
+			double screenWidth, int playerInitialHealth) {
+		this.levelName = levelName;
+		this.title = title;
+		this.backgroundImageName = backgroundImageName;
+		this.gameLoop = new GameLoop(TICKS_PER_SECOND, this::updateScene);
+		this.gameLoop.setOnFrame(this::render);
 		this.user = new PlayerJet(playerInitialHealth);
 		this.friendlyUnits = new ArrayList<>();
 		this.enemyUnits = new ArrayList<>();
 		this.userProjectiles = new ArrayList<>();
 		this.enemyProjectiles = new ArrayList<>();
-
-
-		this.background = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(backgroundImageName)).toExternalForm()));
+		this.hazardUnits = new ArrayList<>();
+		this.projectileStore = new ProjectileStore();
+		this.viewportCuller = createViewportCuller(screenWidth, screenHeight);
+		this.random = GameRandom.forLevel(levelName);
+		this.inputQueue = new InputQueue(INPUT_QUEUE_CAPACITY);
+		this.inputConsumer = this::applyQueuedInput;
+		this.profiler = new FrameProfiler(PROFILER_WINDOW);
+		this.allocationTracker = new AllocationTracker();
+		this.frameStats = new FrameStats();
+		this.gameLoop.setFrameStats(frameStats);
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
-		this.levelView = instantiateLevelView();
 		this.currentNumberOfEnemies = 0;
-		initializeTimeline();
+		this.state = LevelState.CREATED;
 		friendlyUnits.add(user);
 	}
 
 	/**
-	 * Initializes all friendly units for the game, including setting their initial state and properties.
+	 * Creates the {@link ViewportCuller} used by this level. Missiles and meteors are culled as soon as they are fully
+	 * off screen, while the player and the boss are never culled.
+	 *
+	 * @param screenWidth the width of the game screen
+	 * @param screenHeight the height of the game screen
+	 * @return the configured culler
 	 */
-	protected abstract void initializeFriendlyUnits();
+	private static ViewportCuller createViewportCuller(double screenWidth, double screenHeight) {
+		ViewportCuller culler = new ViewportCuller(screenWidth, screenHeight);
+		culler.exempt(PlayerJet.class);
+		culler.exempt(Boss.class);
+		culler.setMargin(PlayerMissiles.class, 0);
+		culler.setMargin(EnemyMissiles.class, 0);
+		culler.setMargin(BossMissiles.class, 0);
+		culler.setMargin(Meteor.class, 0);
+		return culler;
+	}
 
 	/**
 	 * Checks if the game is over based on the player's status and level conditions.
@@ -104,97 +198,425 @@ public abstract class LevelParent extends Observable {
 	/**
 	 * Sets up the game scene for the current level, including the background, friendly units,
 	 * and heart indicator. Prepares all components for gameplay and returns the initialized {@link Scene}.
+	 * Calling it again returns the same scene.
 	 *
 	 * @return The initialized {@link Scene} for the game level.
 	 */
 	public Scene initializeScene() {
+		if (scene == null) {
+			prepareSceneGraph();
+			scene = new Scene(root, screenWidth, screenHeight);
+		}
+		return scene;
+	}
+
+	/**
+	 * Builds the level's scene graph without attaching it to a {@link Scene}, decoding every image it shows.
+	 * Nodes that are not part of a showing window may be built on any thread, so this can run on a background
+	 * thread to prepare the next level while the current one is still playing. Does nothing if already built.
+	 */
+	public void prepareSceneGraph() {
+		if (root != null) {
+			return;
+		}
+		root = new Group();
+		renderer = new ActorRenderer(root);
+		levelView = instantiateLevelView();
 		initializeBackground();
-		initializeFriendlyUnits();
+		renderer.sync(friendlyUnits);
 		levelView.showHeartDisplay();
-		return scene;
+		if (Boolean.getBoolean(PROFILER_OVERLAY_PROPERTY)) {
+			setProfilerOverlayVisible(true);
+		}
+		if (Boolean.getBoolean(DEBUG_OVERLAY_PROPERTY)) {
+			setDebugOverlayVisible(true);
+		}
 	}
 
 	/**
-	 * Starts gameplay by focusing on the background and initiating the game loop timeline.
-	 * Ensures input handling and periodic updates are operational.
+	 * Starts gameplay by binding the player's controls, focusing on the background and starting the fixed-timestep
+	 * {@link GameLoop}. Ensures input handling and periodic updates are operational. A level without a scene graph has
+	 * no controls to bind; its loop must be set to {@linkplain GameLoop#setManualFrames manual frames} first.
 	 */
 	public void startGame() {
-		background.requestFocus();
-		timeline.play();
+		if (state != LevelState.CREATED) {
+			throw new IllegalStateException("Level cannot be started from state " + state);
+		}
+		if (background != null) {
+			InputManager.getInstance().initializeInputs(background, this::dispatchInput);
+			debugOverlayToggle = e -> {
+				if (e.getCode() == DEBUG_OVERLAY_KEY) {
+					setDebugOverlayVisible(!isDebugOverlayVisible());
+				}
+			};
+			background.addEventHandler(KeyEvent.KEY_PRESSED, debugOverlayToggle);
+			background.requestFocus();
+		}
+		gameLoop.start();
+		state = LevelState.STARTED;
 	}
 
 	/**
-	 * Transitions the game to the next level by notifying observers about the level change.
-	 * @param levelName The fully qualified name of the new level to transition to.
+	 * Transitions the game to the next level by stopping this level and notifying observers about the level change.
+	 * Observers are expected to {@link #dispose()} this level once the next one is running.
+	 * @param levelName The name of the next level in the {@link LevelCatalog}.
 	 */
 	public void goToNextLevel(String levelName) {
+		finishFrameReport("next level");
+		stopGame();
 		setChanged();
 		notifyObservers(levelName);
 
 	}
 
+	/**
+	 * Advances the simulation by a single tick without rendering. Used to run levels headless.
+	 */
+	public void step() {
+		if (state == LevelState.DISPOSED) {
+			throw new IllegalStateException("Level has been disposed");
+		}
+		updateScene();
+	}
+
 	/**
 	 invokes the necessary methods like updatingHandles and handlingCollisions
 	 */
 	protected void updateScene() {
+		TickEvent event = null;
+		if (TICK_EVENT.isEnabled()) {
+			event = new TickEvent();
+			event.begin();
+		}
+		long tickStart = System.nanoTime();
+		beginPhases();
+		applyReplayedInputs();
+		inputQueue.drain(inputConsumer);
+		markPhase(Phase.INPUT);
 		spawnEnemyUnits();
+		markPhase(Phase.SPAWN);
 		updateActors();
 		updateNumberOfEnemies();
+		markPhase(Phase.UPDATE);
 		CollisionHandler.handleEnemyPenetration(friendlyUnits.get(0), enemyUnits);
+		markPhase(Phase.PENETRATION);
 		handleUserProjectileCollisions();
+		markPhase(Phase.USER_PROJECTILE_COLLISIONS);
 		handleEnemyProjectileCollisions();
+		markPhase(Phase.ENEMY_PROJECTILE_COLLISIONS);
 		handlePlaneCollisions();
+		markPhase(Phase.PLANE_COLLISIONS);
+		handleHazardCollisions();
+		markPhase(Phase.HAZARD_COLLISIONS);
+		cullOffscreenActors();
 		removeAllDestroyedActors();
+		markPhase(Phase.REMOVAL);
 		updateKillCount();
-		updateLevelView();
+		markPhase(Phase.KILL_COUNT);
 		checkIfGameOver();
+		markPhase(Phase.GAME_OVER_CHECK);
 		misc();
+		markPhase(Phase.MISC);
+		SoundManager.endTick();
+		markPhase(Phase.SOUND);
+		if (event != null && event.shouldCommit()) {
+			event.level = levelName;
+			event.tick = tick;
+			event.liveActors = getLiveActorCount();
+			event.enemies = enemyUnits.size();
+			event.commit();
+		}
+		frameStats.recordTick(System.nanoTime() - tickStart);
+		allocationTracker.endTick(tick);
+		tick++;
+		if (recording != null) {
+			recording.setTickCount(tick);
+		}
+	}
+
+	/**
+	 * Starts timing and allocation tracking for the phases of a tick or frame.
+	 */
+	private void beginPhases() {
+		profiler.begin();
+		allocationTracker.begin();
 	}
 
 	/**
-	 * Sets up the {@link Timeline} with an indefinite cycle count and a {@link KeyFrame} to periodically invoke
-	 * {@code updateScene()}.
+	 * Records the time taken and the bytes allocated by a phase that just finished.
+	 *
+	 * @param phase the phase that finished
 	 */
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
+	private void markPhase(Phase phase) {
+		profiler.mark(phase);
+		allocationTracker.mark(phase);
+	}
+
+	/**
+	 * Mirrors the world model onto the scene graph once per rendered frame, syncing actor nodes and the HUD, and
+	 * removes the nodes of every actor destroyed since the last frame in a single scene-graph change.
+	 * Does nothing when the level is running headless. Tools that step a level themselves, such as the soak runner,
+	 * call it on their own schedule.
+	 */
+	public void render() {
+		if (!isRendered()) {
+			return;
+		}
+		beginPhases();
+		renderer.sync(friendlyUnits);
+		renderer.sync(enemyUnits);
+		renderer.sync(userProjectiles);
+		renderer.sync(enemyProjectiles);
+		renderer.sync(hazardUnits);
+		renderer.flushRetired();
+		drawProjectileLayer();
+		markPhase(Phase.RENDER);
+		updateLevelView();
+		if (profilerOverlay != null) {
+			profilerOverlay.refresh();
+		}
+		if (debugOverlay != null) {
+			debugOverlay.refresh(System.nanoTime());
+		}
+		markPhase(Phase.HUD);
 	}
 
 	/**
-	 * Pauses the game by stopping the {@code timeline}, halting gameplay and state updates until resumed.
+	 * Pauses the game by stopping the {@code gameLoop}, halting gameplay and state updates until resumed.
+	 * Does nothing unless the level is running, so pausing a finished level cannot bring it back.
 	 */
 	public void pauseGame() {
-		timeline.pause();
+		if (state != LevelState.STARTED) {
+			return;
+		}
+		gameLoop.stop();
+		state = LevelState.PAUSED;
 	}
 
 	/**
-	 * Resumes gameplay by restarting the {@code timeline}, allowing game updates and rendering to continue after a pause.
+	 * Resumes gameplay by restarting the {@code gameLoop}, allowing game updates and rendering to continue after a pause.
+	 * Time spent paused is not caught up on. Does nothing unless the level is paused.
 	 */
 	public void resumeGame() {
-		timeline.play();
+		if (state != LevelState.PAUSED) {
+			return;
+		}
+		gameLoop.start();
+		state = LevelState.STARTED;
 	}
 
 	/**
-	 * Configures the background's dimensions, focus, input handling, and adds it with a dynamic level title label to the scene.
+	 * Stops the level for good, halting its {@code gameLoop}. Stopping an already stopped or disposed level does
+	 * nothing.
 	 */
-	private void initializeBackground() {
-		background.setFocusTraversable(true);
-		background.setFitHeight(screenHeight);
-		background.setFitWidth(screenWidth);
+	public void stopGame() {
+		gameLoop.stop();
+		if (state != LevelState.DISPOSED) {
+			state = LevelState.STOPPED;
+		}
+		finishRecording();
+	}
 
+	/**
+	 * Releases everything the level holds so it can be garbage collected: stops the {@code gameLoop}, unregisters
+	 * observers and input handlers, returns live pooled actors to their pools, and clears the actor lists and the
+	 * scene graph. Disposing twice does nothing.
+	 */
+	public void dispose() {
+		if (state == LevelState.DISPOSED) {
+			return;
+		}
+		stopGame();
+		gameLoop.setOnFrame(null);
+		onGameOver = null;
+		deleteObservers();
+		if (background != null) {
+			InputManager.getInstance().releaseInputs(background);
+			if (debugOverlayToggle != null) {
+				background.removeEventHandler(KeyEvent.KEY_PRESSED, debugOverlayToggle);
+			}
+		}
+		clearActors(friendlyUnits);
+		clearActors(enemyUnits);
+		clearActors(userProjectiles);
+		clearActors(enemyProjectiles);
+		clearActors(hazardUnits);
+		projectileStore.clear();
+		inputQueue.clear();
+		if (root != null) {
+			root.getChildren().clear();
+		}
+		state = LevelState.DISPOSED;
+	}
 
-		InputManager inputManager = InputManager.getInstance();
+	/**
+	 * Starts recording every input the player gives from now on. The recording is handed to the callback once the
+	 * level stops.
+	 *
+	 * @param onFinished receives the recording when the level stops, or null
+	 * @return the recording, which keeps growing until the level stops
+	 */
+	public InputRecording recordInputs(Consumer<InputRecording> onFinished) {
+		recording = new InputRecording(levelName, random.getSeed());
+		recording.setTickCount(tick);
+		onRecordingFinished = onFinished;
+		return recording;
+	}
 
+	/**
+	 * Feeds a recorded session into the level instead of the keyboard: each input is applied at the start of the tick
+	 * it originally arrived before, and live key presses are ignored. For an exact reproduction the level must be
+	 * fresh and use the recorded seed.
+	 *
+	 * @param replay the recording to play back
+	 */
+	public void replayInputs(InputRecording replay) {
+		if (!levelName.equals(replay.getLevelName())) {
+			throw new IllegalArgumentException("Recording is of " + replay.getLevelName() + ", not " + levelName);
+		}
+		this.replay = replay;
+		this.replayIndex = 0;
+	}
+
+	/**
+	 * Queues an input as if it came from the keyboard. Queued inputs take effect at the start of the next tick, and are
+	 * recorded then if a recording is running. Ignored while replaying. Safe to call from one thread other than the
+	 * game loop, such as the FX thread or a scripted player driving a headless level between ticks.
+	 *
+	 * @param action the input
+	 */
+	public void dispatchInput(InputAction action) {
+		if (replay != null) {
+			return;
+		}
+		inputQueue.offer(action.ordinal());
+	}
 
-		inputManager.initializeInputs(background, user, this::fireProjectile);
+	/**
+	 * Applies an input drained from the input queue at the start of a tick, recording it and how long it waited.
+	 *
+	 * @param code the ordinal of the {@link InputAction}
+	 * @param timestampNanos when the input was queued
+	 */
+	private void applyQueuedInput(int code, long timestampNanos) {
+		InputAction action = INPUT_ACTIONS[code];
+		lastInputLatencyNanos = System.nanoTime() - timestampNanos;
+		maxInputLatencyNanos = Math.max(maxInputLatencyNanos, lastInputLatencyNanos);
+		if (recording != null) {
+			recording.record(tick, action);
+		}
+		action.apply(user, this::fireProjectile);
+	}
 
-		root.getChildren().add(background);
+	/**
+	 * Applies every replayed input that arrived before the current tick.
+	 */
+	private void applyReplayedInputs() {
+		if (replay == null) {
+			return;
+		}
+		while (replayIndex < replay.size() && replay.getTick(replayIndex) <= tick) {
+			replay.getAction(replayIndex++).apply(user, this::fireProjectile);
+		}
+	}
+
+	/**
+	 * Summarizes the level's frame and tick times and hands the summary to its callback, once.
+	 *
+	 * @param outcome how the level ended
+	 */
+	private void finishFrameReport(String outcome) {
+		if (frameReport != null) {
+			return;
+		}
+		frameReport = frameStats.summarize(levelName, outcome);
+		if (onFrameReport != null) {
+			onFrameReport.accept(frameReport);
+		}
+	}
+
+	/**
+	 * Hands a running recording to its callback, once.
+	 */
+	private void finishRecording() {
+		if (recording != null && onRecordingFinished != null) {
+			Consumer<InputRecording> callback = onRecordingFinished;
+			onRecordingFinished = null;
+			callback.accept(recording);
+		}
+	}
+
+	/**
+	 * Empties an actor list, returning pooled actors to their pools.
+	 *
+	 * @param actors the actors to release
+	 */
+	private void clearActors(List<ActiveActorDestructible> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			actors.get(i).recycle();
+		}
+		actors.clear();
+	}
+
+	/**
+	 * @return the name of the level that follows this one, or null if this is the last level.
+	 */
+	public String getNextLevelName() {
+		return null;
+	}
+
+	/**
+	 * @return the name identifying the level in recordings and reports.
+	 */
+	public String getLevelName() {
+		return levelName;
+	}
+
+	/**
+	 * @return the current {@link LevelState} of the level.
+	 */
+	public LevelState getState() {
+		return state;
+	}
+
+	/**
+	 * Changes the logical simulation rate. Actor speeds, fire rates and spawn rates are expressed per second and
+	 * scaled by the length of each tick, so a higher rate simulates the same gameplay in finer steps without making
+	 * it any faster.
+	 *
+	 * @param ticksPerSecond the number of simulation ticks per second
+	 */
+	public void setTickRate(double ticksPerSecond) {
+		gameLoop.setTickRate(ticksPerSecond);
+	}
+
+	/**
+	 * @return the length of one simulation tick in seconds, by which every per-second speed and rate is scaled.
+	 */
+	public double getTickSeconds() {
+		return gameLoop.getTickNanos() / NANOS_PER_SECOND;
+	}
 
-		String levelName = this.getClass().getSimpleName();
-		levelName = levelName.substring(0, 5) + " " + levelName.substring(5);
+	/**
+	 * @return the {@link GameLoop} driving this level.
+	 */
+	public GameLoop getGameLoop() {
+		return gameLoop;
+	}
 
-		Label label = new Label(levelName);
+	/**
+	 * Configures the background's dimensions and focus, and adds it with the level's title label to the scene.
+	 * Input handlers are bound when the level starts.
+	 */
+	private void initializeBackground() {
+		background = new ImageView(ImageCache.getInstance().get(backgroundImageName, screenWidth, screenHeight, false));
+		background.setFocusTraversable(true);
+		background.setFitHeight(screenHeight);
+		background.setFitWidth(screenWidth);
+
+		root.getChildren().add(background);
+
+		Label label = new Label(title);
 		label.setLayoutX(screenWidth / 2 - label.getLayoutBounds().getWidth() / 2);
 		label.setScaleX(2);
 		label.setScaleY(2);
@@ -203,52 +625,117 @@ public abstract class LevelParent extends Observable {
 
 
 	/**
-	 * Fires a {@link com.example.demo.activeactor.PlayerMissiles}, adding it to the scene graph and tracking it in the user projectiles list.
+	 * Fires a {@link com.example.demo.activeactor.PlayerMissiles}, tracking it in the user projectiles list.
 	 */
 	private void fireProjectile() {
 		ActiveActorDestructible projectile = user.fireProjectile();
-		root.getChildren().add(projectile);
 		userProjectiles.add(projectile);
 	}
 
 	/**
-	 * Spawns an {@link com.example.demo.activeactor.EnemyMissiles} by adding it to the scene graph and tracking it in the enemy projectiles list.
+	 * Spawns an {@link com.example.demo.activeactor.EnemyMissiles} by tracking it in the enemy projectiles list.
 	 */
 	public void spawnEnemyProjectile(ActiveActorDestructible projectile) {
 		if (projectile != null) {
-			root.getChildren().add(projectile);
 			enemyProjectiles.add(projectile);
 		}
 	}
 
 	/**
-	 * Updates all game actors, including units and missiles, by invoking their respective {@code updateActor} methods.
+	 * Draws the {@link ProjectileStore}. Its full-screen canvas is only added to the scene graph once the store first
+	 * holds projectiles, so levels that never use the store pay nothing for it.
+	 */
+	private void drawProjectileLayer() {
+		if (projectileLayer == null) {
+			if (projectileStore.size() == 0) {
+				return;
+			}
+			projectileLayer = new ProjectileLayer(projectileStore, screenWidth, screenHeight);
+			root.getChildren().add(root.getChildren().indexOf(background) + 1, projectileLayer);
+		}
+		projectileLayer.draw();
+	}
+
+	/**
+	 * Updates all game actors, including units and missiles, by invoking their respective {@code updateActor} methods
+	 * with the length of the tick.
 	 */
 	protected void updateActors() {
-		friendlyUnits.forEach(plane -> plane.updateActor());
-		enemyUnits.forEach(enemy -> enemy.updateActor());
-		userProjectiles.forEach(projectile -> projectile.updateActor());
-		enemyProjectiles.forEach(projectile -> projectile.updateActor());
+		double tickSeconds = getTickSeconds();
+		updateActors(friendlyUnits, tickSeconds);
+		updateActors(enemyUnits, tickSeconds);
+		updateActors(userProjectiles, tickSeconds);
+		updateActors(enemyProjectiles, tickSeconds);
+		updateActors(hazardUnits, tickSeconds);
+		projectileStore.integrate(tickSeconds);
+	}
+
+	/**
+	 * Updates every actor in a list for one tick.
+	 *
+	 * @param actors the actors to update
+	 * @param tickSeconds the length of the tick, in seconds
+	 */
+	private static void updateActors(List<ActiveActorDestructible> actors, double tickSeconds) {
+		for (int i = 0; i < actors.size(); i++) {
+			actors.get(i).updateActor(tickSeconds);
+		}
+	}
+
+	/**
+	 * Destroys every actor that has left the screen, across all actor lists and the {@link ProjectileStore}, using
+	 * the margins configured on the {@link ViewportCuller}. Culled actors are then removed together with the other
+	 * destroyed actors, so entity counts stay flat however long the level runs.
+	 */
+	protected void cullOffscreenActors() {
+		viewportCuller.cull(friendlyUnits);
+		viewportCuller.cull(enemyUnits);
+		viewportCuller.cull(userProjectiles);
+		viewportCuller.cull(enemyProjectiles);
+		viewportCuller.cull(hazardUnits);
+		viewportCuller.cull(projectileStore);
+		viewportCuller.endTick();
 	}
 
 	/**
-	 * Removes destroyed actors from game entity lists to maintain consistent game states.
+	 * Removes destroyed actors from game entity lists to maintain consistent game states, and compacts the
+	 * {@link ProjectileStore}.
 	 */
 	protected void removeAllDestroyedActors() {
 		removeDestroyedActors(friendlyUnits);
 		removeDestroyedActors(enemyUnits);
 		removeDestroyedActors(userProjectiles);
 		removeDestroyedActors(enemyProjectiles);
+		removeDestroyedActors(hazardUnits);
+		projectileStore.compact();
 	}
 
 	/**
-	 * Removes destroyed {@link ActiveActorDestructible} actors from the provided list and the scene graph.
+	 * Removes destroyed {@link ActiveActorDestructible} actors from the provided list in a single in-place pass that
+	 * keeps the survivors in order, retires their nodes from the scene graph, and returns pooled ones to their
+	 * {@link com.example.demo.activeactor.ActorPool}. Retired nodes are removed from the scene graph together on the
+	 * next rendered frame.
 	 */
 	protected void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-		List<ActiveActorDestructible> destroyedActors = actors.stream().filter(actor -> actor.isDestroyed())
-				.collect(Collectors.toList());
-		root.getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
+		int size = actors.size();
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (actor.isDestroyed()) {
+				if (isRendered()) {
+					renderer.retire(actor);
+				}
+				actor.recycle();
+			} else {
+				if (kept != i) {
+					actors.set(kept, actor);
+				}
+				kept++;
+			}
+		}
+		for (int i = size - 1; i >= kept; i--) {
+			actors.remove(i);
+		}
 	}
 
 	/**
@@ -258,11 +745,19 @@ public abstract class LevelParent extends Observable {
 		CollisionHandler.handleCollisions(friendlyUnits, enemyUnits);
 	}
 
+	/**
+	 * Handles collisions between friendly units and hazards such as {@link Meteor}, damaging both sides.
+	 */
+	private void handleHazardCollisions() {
+		CollisionHandler.handleCollisions(friendlyUnits, hazardUnits);
+	}
+
 	/**
 	 * Delegates collisions between user projectiles and enemy units to {@link CollisionHandler}, managing damage and entity removal.
 	 */
 	private void handleUserProjectileCollisions() {
 		CollisionHandler.handleCollisions(userProjectiles, enemyUnits);
+		projectileStore.collide(ProjectileStore.FACTION_PLAYER, enemyUnits);
 	}
 
 	/**
@@ -270,6 +765,7 @@ public abstract class LevelParent extends Observable {
 	 */
 	private void handleEnemyProjectileCollisions() {
 		CollisionHandler.handleCollisions(enemyProjectiles, friendlyUnits);
+		projectileStore.collide(ProjectileStore.FACTION_ENEMY, friendlyUnits);
 	}
 
 	/**
@@ -289,19 +785,54 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Stops the game timeline and displays a win image on the level view when the game is won.
+	 * Stops the game loop and displays a win image on the level view when the game is won.
 	 */
 	protected void winGame() {
-		timeline.stop();
-		levelView.showWinImage();
+		finishFrameReport("won");
+		stopGame();
+		isGameOver = true;
+		if (isRendered()) {
+			levelView.showWinImage();
+		}
+		if (onGameOver != null) {
+			onGameOver.run();
+		}
 	}
 
 	/**
-	 * Stops the game timeline and displays a "Game Over" image when the player loses.
+	 * Stops the game loop and displays a "Game Over" image when the player loses.
 	 */
 	protected void loseGame() {
-		timeline.stop();
-		levelView.showGameOverImage();
+		finishFrameReport("lost");
+		stopGame();
+		isGameOver = true;
+		if (isRendered()) {
+			levelView.showGameOverImage();
+		}
+		if (onGameOver != null) {
+			onGameOver.run();
+		}
+	}
+
+	/**
+	 * @return true once the level has been won or lost, false otherwise.
+	 */
+	public boolean isGameOver() {
+		return isGameOver;
+	}
+
+	/**
+	 * @return true if {@link #initializeScene()} has built a scene graph for this level, false when running headless.
+	 */
+	public boolean isRendered() {
+		return renderer != null;
+	}
+
+	/**
+	 * @return the {@link ActorRenderer} mirroring actors onto the scene graph, or null when running headless.
+	 */
+	protected ActorRenderer getRenderer() {
+		return renderer;
 	}
 
 	/**
@@ -312,7 +843,247 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * @return the root {@code Group} object.
+	 * @return the {@link ProjectileStore} holding array-backed projectiles, for bullet-heavy attack patterns that
+	 * would be too costly as individual actors.
+	 */
+	public ProjectileStore getProjectileStore() {
+		return projectileStore;
+	}
+
+	/**
+	 * @return the {@link ViewportCuller} despawning actors that leave the screen, for tuning margins and reading how
+	 * many actors were culled each tick.
+	 */
+	public ViewportCuller getViewportCuller() {
+		return viewportCuller;
+	}
+
+	/**
+	 * @return the number of actors culled for leaving the screen during the last tick.
+	 */
+	public int getLastCulledCount() {
+		return viewportCuller.getLastCulledCount();
+	}
+
+	/**
+	 * @return how long the most recently applied keyboard input waited in the input queue, in nanoseconds.
+	 */
+	public long getLastInputLatencyNanos() {
+		return lastInputLatencyNanos;
+	}
+
+	/**
+	 * @return the longest any keyboard input has waited in the input queue, in nanoseconds.
+	 */
+	public long getMaxInputLatencyNanos() {
+		return maxInputLatencyNanos;
+	}
+
+	/**
+	 * @return the number of keyboard inputs dropped because the input queue was full.
+	 */
+	public long getDroppedInputCount() {
+		return inputQueue.getDroppedCount();
+	}
+
+	/**
+	 * Sets a callback that receives the frame and tick time summary when the level is won, lost or left for the next
+	 * level.
+	 *
+	 * @param onFrameReport the callback, or null for none
+	 */
+	public void setOnFrameReport(Consumer<FrameStats.Report> onFrameReport) {
+		this.onFrameReport = onFrameReport;
+	}
+
+	/**
+	 * Sets a callback that runs when the level is won or lost, ending the game instead of advancing to the next level.
+	 *
+	 * @param onGameOver the callback, or null for none
+	 */
+	public void setOnGameOver(Runnable onGameOver) {
+		this.onGameOver = onGameOver;
+	}
+
+	/**
+	 * @return the frame and tick time summary of the level, or null if the level has not ended.
+	 */
+	public FrameStats.Report getFrameReport() {
+		return frameReport;
+	}
+
+	/**
+	 * @return the frame and tick time statistics recorded so far.
+	 */
+	public FrameStats getFrameStats() {
+		return frameStats;
+	}
+
+	/**
+	 * @return the profiler timing each phase of this level's ticks and frames.
+	 */
+	public FrameProfiler getProfiler() {
+		return profiler;
+	}
+
+	/**
+	 * Shows or hides an overlay with the frame and tick rates, the number of actors in each list, the scene graph
+	 * size, pooled actors and heap use, redrawn a few times per second. Toggled with F3 while playing, and shown from
+	 * the start when {@code -Ddebug.overlay=true} is set. Does nothing before the scene graph is built.
+	 *
+	 * @param visible true to show the overlay, false to hide it
+	 */
+	public void setDebugOverlayVisible(boolean visible) {
+		if (root == null) {
+			return;
+		}
+		if (visible && debugOverlay == null) {
+			debugOverlay = new DebugOverlay(this, DEBUG_OVERLAY_X_POSITION, DEBUG_OVERLAY_Y_POSITION);
+			root.getChildren().add(debugOverlay);
+		}
+		if (debugOverlay != null) {
+			debugOverlay.setVisible(visible);
+		}
+	}
+
+	/**
+	 * @return true if the debug overlay is showing, false otherwise.
+	 */
+	public boolean isDebugOverlayVisible() {
+		return debugOverlay != null && debugOverlay.isVisible();
+	}
+
+	/**
+	 * @return the tracker attributing allocated bytes to each phase of this level's ticks and frames.
+	 */
+	public AllocationTracker getAllocationTracker() {
+		return allocationTracker;
+	}
+
+	/**
+	 * Shows or hides an overlay with the rolling mean and 99th percentile time of each phase of the tick and frame.
+	 * Showing it enables the profiler; hiding it leaves the profiler as it is. The overlay is shown from the start when
+	 * {@code -Dprofiler.overlay=true} is set. Does nothing before the scene graph is built.
+	 *
+	 * @param visible true to show the overlay, false to hide it
+	 */
+	public void setProfilerOverlayVisible(boolean visible) {
+		if (root == null) {
+			return;
+		}
+		if (visible && profilerOverlay == null) {
+			profilerOverlay = new ProfilerOverlay(profiler, PROFILER_OVERLAY_X_POSITION, PROFILER_OVERLAY_Y_POSITION);
+			root.getChildren().add(profilerOverlay);
+		}
+		if (profilerOverlay != null) {
+			profilerOverlay.setVisible(visible);
+		}
+		if (visible) {
+			profiler.setEnabled(true);
+		}
+	}
+
+	/**
+	 * @return the number of actors in the level's actor lists plus the live projectiles in its
+	 * {@link ProjectileStore}, for spotting actors that are never removed.
+	 */
+	public int getLiveActorCount() {
+		return friendlyUnits.size() + enemyUnits.size() + userProjectiles.size() + enemyProjectiles.size()
+				+ hazardUnits.size() + projectileStore.size();
+	}
+
+	/**
+	 * @return the number of nodes in the level's scene graph, counting every descendant of the root group, or zero
+	 * while the level is headless.
+	 */
+	public int getSceneNodeCount() {
+		return root == null ? 0 : countDescendants(root);
+	}
+
+	/**
+	 * @param parent a node of the scene graph
+	 * @return the number of nodes below the parent, at any depth.
+	 */
+	private static int countDescendants(Parent parent) {
+		List<Node> children = parent.getChildrenUnmodifiable();
+		int count = children.size();
+		for (int i = 0; i < children.size(); i++) {
+			if (children.get(i) instanceof Parent child) {
+				count += countDescendants(child);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return the number of actors on the player's side, including the player.
+	 */
+	public int getFriendlyUnitCount() {
+		return friendlyUnits.size();
+	}
+
+	/**
+	 * @return the number of enemies in play.
+	 */
+	public int getEnemyUnitCount() {
+		return enemyUnits.size();
+	}
+
+	/**
+	 * @return the number of player projectiles held as actors.
+	 */
+	public int getUserProjectileCount() {
+		return userProjectiles.size();
+	}
+
+	/**
+	 * @return the number of enemy projectiles held as actors.
+	 */
+	public int getEnemyProjectileCount() {
+		return enemyProjectiles.size();
+	}
+
+	/**
+	 * @return the number of hazards such as meteors in play.
+	 */
+	public int getHazardUnitCount() {
+		return hazardUnits.size();
+	}
+
+	/**
+	 * @return the number of projectiles held in the level's {@link ProjectileStore}.
+	 */
+	public int getStoredProjectileCount() {
+		return projectileStore.size();
+	}
+
+	/**
+	 * @return the number of ticks the level has completed.
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * @return the {@link GameRandom} every random decision in the level is drawn from.
+	 */
+	public GameRandom getRandom() {
+		return random;
+	}
+
+	/**
+	 * Replaces the level's source of randomness, e.g. to replay a run with a known seed. Must be called before the
+	 * level starts; decisions made while constructing the level, such as the boss's first move pattern, keep using the
+	 * previous source.
+	 *
+	 * @param random the new source of randomness
+	 */
+	public void setRandom(GameRandom random) {
+		this.random = random;
+	}
+
+	/**
+	 * @return the root {@code Group} object, or null until {@link #initializeScene()} has been called.
 	 */
 	protected Group getRoot() {
 		return root;
@@ -326,11 +1097,25 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Adds an enemy unit to the enemy list and scene graph.
+	 * Adds an enemy unit to the enemy list; it is picked up by the scene graph on the next rendered frame.
 	 */
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
 		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
+	}
+
+	/**
+	 * @return the current count of hazards such as meteors.
+	 */
+	protected int getCurrentNumberOfHazards() {
+		return hazardUnits.size();
+	}
+
+	/**
+	 * Adds a hazard, such as a {@link Meteor}, that damages friendly units on contact but does not count towards
+	 * kills. It is picked up by the scene graph on the next rendered frame.
+	 */
+	protected void addHazard(ActiveActorDestructible hazard) {
+		hazardUnits.add(hazard);
 	}
 
 
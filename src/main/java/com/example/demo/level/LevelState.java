@@ -0,0 +1,33 @@
+package com.example.demo.level;
+
+/**
+ * The lifecycle stages of a {@link LevelParent}. A level moves forward through
+ * {@code CREATED -> STARTED <-> PAUSED -> STOPPED -> DISPOSED}, and may be stopped or disposed from any earlier stage.
+ */
+public enum LevelState {
+
+	/**
+	 * The level has been constructed but its game loop has not started.
+	 */
+	CREATED,
+
+	/**
+	 * The game loop is running.
+	 */
+	STARTED,
+
+	/**
+	 * The game loop is halted by the player and can be resumed.
+	 */
+	PAUSED,
+
+	/**
+	 * The level has been won, lost or left; its game loop will not run again.
+	 */
+	STOPPED,
+
+	/**
+	 * The level has released its actors, handlers and observers and must not be used again.
+	 */
+	DISPOSED
+}
@@ -0,0 +1,143 @@
+package com.example.demo.simulation;
+
+import com.example.demo.SoundManager;
+import com.example.demo.engine.GameRandom;
+import com.example.demo.level.LevelCatalog;
+import com.example.demo.level.LevelParent;
+
+import java.util.Observable;
+import java.util.Observer;
+
+/**
+ * Runs a level without the JavaFX toolkit by stepping its simulation directly, as fast as the CPU allows.
+ * Used for tests, soak runs and balancing, where rendering would only slow things down.
+ */
+public class HeadlessRunner implements Observer {
+
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double SCREEN_WIDTH = 1300;
+	private static final long DEFAULT_MAX_TICKS = 100_000;
+
+	private final LevelParent level;
+	private String nextLevel;
+	private long ticks;
+	private long elapsedNanos;
+
+	/**
+	 * Constructs a {@link HeadlessRunner} for the given level. Sound is disabled, since no media toolkit is running.
+	 *
+	 * @param level the level to simulate; it must not have had its scene initialized
+	 */
+	public HeadlessRunner(LevelParent level) {
+		this.level = level;
+		SoundManager.setEnabled(false);
+		level.addObserver(this);
+	}
+
+	/**
+	 * Creates a level from the {@link LevelCatalog}, the same way {@link com.example.demo.controller.Controller} does,
+	 * sized to the default game window.
+	 *
+	 * @param levelName the name of the level in the catalog
+	 * @return the new level instance
+	 * @throws IllegalArgumentException if the catalog has no level of that name
+	 */
+	public static LevelParent createLevel(String levelName) {
+		return LevelCatalog.getInstance().create(levelName, SCREEN_HEIGHT, SCREEN_WIDTH);
+	}
+
+	/**
+	 * Steps the level until it is won, lost or hands over to the next level, or until the tick budget runs out.
+	 *
+	 * @param maxTicks the maximum number of ticks to run
+	 * @return the number of ticks run by this call
+	 */
+	public long run(long maxTicks) {
+		long start = System.nanoTime();
+		long ticksRun = 0;
+		while (ticksRun < maxTicks && !isFinished()) {
+			level.step();
+			ticksRun++;
+		}
+		elapsedNanos += System.nanoTime() - start;
+		ticks += ticksRun;
+		return ticksRun;
+	}
+
+	/**
+	 * Records the level that the simulated level asked to transition to.
+	 *
+	 * @param observable the level being run
+	 * @param arg the catalog name of the next level
+	 */
+	@Override
+	public void update(Observable observable, Object arg) {
+		nextLevel = (String) arg;
+	}
+
+	/**
+	 * @return true if the level has ended or asked to move on to the next level, false otherwise.
+	 */
+	public boolean isFinished() {
+		return level.isGameOver() || nextLevel != null;
+	}
+
+	/**
+	 * @return the level requested by the simulated level when it finished, or null if it has not.
+	 */
+	public String getNextLevel() {
+		return nextLevel;
+	}
+
+	/**
+	 * @return the level being run.
+	 */
+	public LevelParent getLevel() {
+		return level;
+	}
+
+	/**
+	 * @return the total number of ticks run.
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * @return the simulation throughput so far, in ticks per second of wall-clock time.
+	 */
+	public double getTicksPerSecond() {
+		return elapsedNanos == 0 ? 0 : ticks * 1e9 / elapsedNanos;
+	}
+
+	/**
+	 * Runs a level headless and prints how far it got and how fast, along with the seed needed to reproduce the run.
+	 * Prints the level's tick time summary if it ended. With {@code -Dprofiler.enabled=true} it also prints the time
+	 * spent in each phase of the last ticks, and with {@code -Dallocation.tracker.enabled=true} the bytes each phase
+	 * allocated.
+	 *
+	 * @param args the level name, and optionally the maximum number of ticks to run and the run seed
+	 */
+	public static void main(String[] args) {
+		String levelName = args.length > 0 ? args[0] : LevelCatalog.getInstance().getFirstLevelName();
+		long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_MAX_TICKS;
+		if (args.length > 2) {
+			GameRandom.setRunSeed(Long.parseLong(args[2]));
+		}
+
+		HeadlessRunner runner = new HeadlessRunner(createLevel(levelName));
+		runner.run(maxTicks);
+		System.out.printf("%s: %d ticks, %.0f ticks/s, game over=%b, next level=%s, seed=%d%n", levelName,
+				runner.getTicks(), runner.getTicksPerSecond(), runner.level.isGameOver(), runner.getNextLevel(),
+				GameRandom.getRunSeed());
+		if (runner.level.getFrameReport() != null) {
+			System.out.print(runner.level.getFrameReport());
+		}
+		if (runner.level.getProfiler().isEnabled()) {
+			System.out.println(runner.level.getProfiler().report());
+		}
+		if (runner.level.getAllocationTracker().isEnabled()) {
+			System.out.println(runner.level.getAllocationTracker().report());
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package com.example.demo.simulation;
+
+import com.example.demo.InputAction;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every input a player gave during one level, each tagged with the simulation tick it arrived before, together with
+ * the level and the seed of its {@link com.example.demo.engine.GameRandom}. Replaying the inputs into a fresh level
+ * with the same seed reproduces the session tick for tick.
+ * Recordings are saved as plain text: a header naming the level, seed and length, followed by one
+ * {@code <tick> <action>} line per input.
+ */
+public class InputRecording {
+
+	private static final String HEADER = "# input recording v1";
+
+	private final String levelName;
+	private final long seed;
+	private final List<Event> events;
+	private long tickCount;
+
+	/**
+	 * Constructs an empty {@link InputRecording}.
+	 *
+	 * @param levelName the catalog name of the recorded level
+	 * @param seed the seed of the recorded level's random source
+	 */
+	public InputRecording(String levelName, long seed) {
+		this.levelName = levelName;
+		this.seed = seed;
+		this.events = new ArrayList<>();
+	}
+
+	/**
+	 * Appends an input. Inputs must be recorded in the order they were applied.
+	 *
+	 * @param tick the number of ticks the level had completed when the input arrived
+	 * @param action the input
+	 */
+	public void record(long tick, InputAction action) {
+		if (!events.isEmpty() && tick < events.get(events.size() - 1).tick()) {
+			throw new IllegalArgumentException("Inputs must be recorded in tick order: " + tick);
+		}
+		events.add(new Event(tick, action));
+		tickCount = Math.max(tickCount, tick);
+	}
+
+	/**
+	 * Records how many ticks the level has run, so a replay knows how long the session lasted.
+	 *
+	 * @param tickCount the number of ticks completed
+	 */
+	public void setTickCount(long tickCount) {
+		this.tickCount = tickCount;
+	}
+
+	/**
+	 * Writes the recording in its text format.
+	 *
+	 * @param writer the destination
+	 * @throws IOException if the recording cannot be written
+	 */
+	public void save(Writer writer) throws IOException {
+		BufferedWriter out = new BufferedWriter(writer);
+		out.write(HEADER);
+		out.newLine();
+		out.write("level " + levelName);
+		out.newLine();
+		out.write("seed " + seed);
+		out.newLine();
+		out.write("ticks " + tickCount);
+		out.newLine();
+		for (Event event : events) {
+			out.write(event.tick() + " " + event.action());
+			out.newLine();
+		}
+		out.flush();
+	}
+
+	/**
+	 * Writes the recording to a file, replacing any existing file.
+	 *
+	 * @param file the destination file
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(Path file) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			save(writer);
+		}
+	}
+
+	/**
+	 * Reads a recording written by {@link #save(Writer)}.
+	 *
+	 * @param reader the source
+	 * @return the recording
+	 * @throws IOException if the source cannot be read or is not a valid recording
+	 */
+	public static InputRecording load(Reader reader) throws IOException {
+		BufferedReader in = new BufferedReader(reader);
+		if (!HEADER.equals(in.readLine())) {
+			throw new IOException("Not an input recording");
+		}
+		String levelName = headerValue(in, "level");
+		long seed = parseLong(headerValue(in, "seed"), "seed");
+		long tickCount = parseLong(headerValue(in, "ticks"), "ticks");
+
+		InputRecording recording = new InputRecording(levelName, seed);
+		String line;
+		int lineNumber = 4;
+		while ((line = in.readLine()) != null) {
+			lineNumber++;
+			line = line.trim();
+			if (line.isEmpty()) {
+				continue;
+			}
+			int space = line.indexOf(' ');
+			if (space < 0) {
+				throw new IOException("Malformed input on line " + lineNumber + ": " + line);
+			}
+			try {
+				recording.record(Long.parseLong(line.substring(0, space)),
+						InputAction.valueOf(line.substring(space + 1).trim()));
+			} catch (IllegalArgumentException e) {
+				throw new IOException("Malformed input on line " + lineNumber + ": " + line, e);
+			}
+		}
+		recording.setTickCount(Math.max(tickCount, recording.tickCount));
+		return recording;
+	}
+
+	/**
+	 * Reads a recording from a file.
+	 *
+	 * @param file the source file
+	 * @return the recording
+	 * @throws IOException if the file cannot be read or is not a valid recording
+	 */
+	public static InputRecording load(Path file) throws IOException {
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return load(reader);
+		}
+	}
+
+	/**
+	 * Reads a {@code <key> <value>} header line.
+	 *
+	 * @param in the source
+	 * @param key the expected key
+	 * @return the value
+	 * @throws IOException if the line is missing or has a different key
+	 */
+	private static String headerValue(BufferedReader in, String key) throws IOException {
+		String line = in.readLine();
+		if (line == null || !line.startsWith(key + " ")) {
+			throw new IOException("Missing '" + key + "' header");
+		}
+		return line.substring(key.length() + 1).trim();
+	}
+
+	/**
+	 * @param value the text to parse
+	 * @param key the header the value belongs to, for the error message
+	 * @return the parsed number
+	 * @throws IOException if the value is not a number
+	 */
+	private static long parseLong(String value, String key) throws IOException {
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			throw new IOException("Malformed '" + key + "' header: " + value, e);
+		}
+	}
+
+	/**
+	 * @return the catalog name of the recorded level.
+	 */
+	public String getLevelName() {
+		return levelName;
+	}
+
+	/**
+	 * @return the seed of the recorded level's random source.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * @return the number of ticks the recorded session lasted.
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * @return the number of recorded inputs.
+	 */
+	public int size() {
+		return events.size();
+	}
+
+	/**
+	 * @param index the index of the input
+	 * @return the number of ticks the level had completed when the input arrived.
+	 */
+	public long getTick(int index) {
+		return events.get(index).tick();
+	}
+
+	/**
+	 * @param index the index of the input
+	 * @return the recorded input.
+	 */
+	public InputAction getAction(int index) {
+		return events.get(index).action();
+	}
+
+	/**
+	 * A single recorded input.
+	 *
+	 * @param tick the number of ticks the level had completed when the input arrived
+	 * @param action the input
+	 */
+	private record Event(long tick, InputAction action) {
+	}
+}
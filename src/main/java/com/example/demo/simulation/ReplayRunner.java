@@ -0,0 +1,64 @@
+package com.example.demo.simulation;
+
+import com.example.demo.engine.GameRandom;
+import com.example.demo.level.LevelParent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Replays a recorded session headless: recreates the recorded level with its recorded seed, feeds the recorded inputs
+ * back in and steps it for as many ticks as the session lasted. Recorded sessions become repeatable workloads for
+ * benchmarks and regression tests.
+ */
+public class ReplayRunner {
+
+	private ReplayRunner() {
+	}
+
+	/**
+	 * Creates a fresh instance of the recorded level with the random source it had when it was recorded, with the
+	 * recording attached as its input. The level can then be stepped headless or started on screen.
+	 *
+	 * @param recording the recorded session
+	 * @return the level, ready to replay the session
+	 * @throws IllegalArgumentException if the recorded level is not in the level catalog
+	 */
+	public static LevelParent createLevel(InputRecording recording) {
+		GameRandom.setRunSeed(GameRandom.runSeedFor(recording.getLevelName(), recording.getSeed()));
+		LevelParent level = HeadlessRunner.createLevel(recording.getLevelName());
+		level.replayInputs(recording);
+		return level;
+	}
+
+	/**
+	 * Replays a recorded session headless for its full length, or until the level ends.
+	 *
+	 * @param recording the recorded session
+	 * @return the runner that replayed the session, for reading the outcome
+	 * @throws IllegalArgumentException if the recorded level is not in the level catalog
+	 */
+	public static HeadlessRunner replay(InputRecording recording) {
+		HeadlessRunner runner = new HeadlessRunner(createLevel(recording));
+		runner.run(recording.getTickCount());
+		return runner;
+	}
+
+	/**
+	 * Replays a recording file headless and prints how far it got and how fast.
+	 *
+	 * @param args the path of the recording
+	 * @throws IOException if the recording cannot be read
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("Usage: ReplayRunner <recording>");
+			return;
+		}
+		InputRecording recording = InputRecording.load(Path.of(args[0]));
+		HeadlessRunner runner = replay(recording);
+		System.out.printf("%s: replayed %d inputs over %d of %d ticks, %.0f ticks/s, finished=%b, next level=%s%n",
+				recording.getLevelName(), recording.size(), runner.getTicks(), recording.getTickCount(),
+				runner.getTicksPerSecond(), runner.isFinished(), runner.getNextLevel());
+	}
+}
@@ -0,0 +1,458 @@
+package com.example.demo.simulation;
+
+import com.example.demo.InputAction;
+import com.example.demo.activeactor.ActorPool;
+import com.example.demo.engine.GameLoop;
+import com.example.demo.engine.GameRandom;
+import com.example.demo.level.LevelCatalog;
+import com.example.demo.level.LevelParent;
+import javafx.application.Platform;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Plays levels headless for a long time at full simulation speed, the way long sessions play them, and watches for
+ * leaks. A {@link Pilot} steers the player. Levels go through the same life cycle as in the game: each is started,
+ * its {@link GameLoop} is fed one tick's worth of time per frame by hand instead of by an {@code AnimationTimer}, and
+ * once it ends the next level is created, the finished one disposed and the next one started, as the
+ * {@link com.example.demo.controller.Controller} does. After a loss or the last win it starts over from the first
+ * level.
+ * At a fixed tick interval the runner samples heap usage, live actors, pooled actors that were never returned, scene
+ * graph nodes, running game loops, garbage collection time and tick duration, and writes each sample as a CSV row.
+ * When rendering is enabled each level builds its scene graph and renders it after every frame, so scene nodes that
+ * are never removed show up; otherwise the scene node count stays zero. When the run ends it fails if any measure
+ * keeps growing from the start of the run to the end instead of levelling off, or if a disposed level left a game
+ * loop running.
+ */
+public class SoakRunner {
+
+	/**
+	 * The CSV header, naming the columns of each sample row.
+	 */
+	public static final String CSV_HEADER = "elapsed_ms,ticks,levels,level,heap_used_bytes,live_actors,"
+			+ "pooled_live,scene_nodes,running_loops,gc_ms,gc_count,tick_mean_us,tick_max_us";
+
+	private static final System.Logger LOGGER = System.getLogger(SoakRunner.class.getName());
+	private static final long DEFAULT_SAMPLE_INTERVAL_TICKS = 10_000;
+	private static final int GROWTH_SEGMENTS = 4;
+	private static final double GROWTH_TOLERANCE = 0.25;
+	private static final String RENDER_PROPERTY = "soak.render";
+
+	/**
+	 * Steers the player of a level. Called before every tick.
+	 */
+	@FunctionalInterface
+	public interface Pilot {
+
+		/**
+		 * @param level the level being played
+		 * @param tick the number of ticks the level has completed
+		 */
+		void beforeTick(LevelParent level, long tick);
+	}
+
+	private final Pilot pilot;
+	private final long sampleIntervalTicks;
+	private final List<Sample> samples;
+	private final MemoryMXBean memory;
+	private final List<GarbageCollectorMXBean> collectors;
+	private PrintWriter csv;
+	private boolean rendered;
+	private int loopBaseline;
+	private int loopsLeftRunning;
+	private long ticks;
+	private int levelsPlayed;
+	private long levelSeedBase;
+
+	/**
+	 * Constructs a {@link SoakRunner}.
+	 *
+	 * @param pilot steers the player
+	 * @param sampleIntervalTicks the number of ticks between samples
+	 */
+	public SoakRunner(Pilot pilot, long sampleIntervalTicks) {
+		if (sampleIntervalTicks < 1) {
+			throw new IllegalArgumentException("Sample interval must be at least one tick: " + sampleIntervalTicks);
+		}
+		this.pilot = pilot;
+		this.sampleIntervalTicks = sampleIntervalTicks;
+		this.samples = new ArrayList<>();
+		this.memory = ManagementFactory.getMemoryMXBean();
+		this.collectors = ManagementFactory.getGarbageCollectorMXBeans();
+	}
+
+	/**
+	 * Creates a pilot that presses random keys: every few ticks it changes direction or fires.
+	 *
+	 * @param seed the seed of the pilot's decisions
+	 * @return the random pilot
+	 */
+	public static Pilot randomPilot(long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		InputAction[] actions = InputAction.values();
+		return (level, tick) -> {
+			if (random.nextInt(4) == 0) {
+				level.dispatchInput(actions[random.nextInt(actions.length)]);
+			}
+		};
+	}
+
+	/**
+	 * Writes every sample taken from now on to a CSV destination, starting with the header row.
+	 *
+	 * @param writer the destination; flushed after every row so a killed run keeps its data
+	 */
+	public void writeCsvTo(Writer writer) {
+		csv = new PrintWriter(writer);
+		csv.println(CSV_HEADER);
+		csv.flush();
+	}
+
+	/**
+	 * Sets whether each level builds its scene graph and renders it after every frame, as in the game. Rendering
+	 * decodes images, so the JavaFX toolkit must have been started.
+	 *
+	 * @param rendered true to build and render scene graphs, false to run fully headless
+	 */
+	public void setRendered(boolean rendered) {
+		this.rendered = rendered;
+	}
+
+	/**
+	 * Plays levels until the time budget or the tick budget runs out, whichever comes first, starting with the first
+	 * level of the {@link LevelCatalog} and starting over with it after a level is lost or the last level is won.
+	 *
+	 * @param maxNanos the wall-clock time to run for
+	 * @param maxTicks the maximum number of ticks to run
+	 */
+	public void run(long maxNanos, long maxTicks) {
+		long start = System.nanoTime();
+		long gcBaseline = gcMillis();
+		String firstLevel = LevelCatalog.getInstance().getFirstLevelName();
+		String levelName = firstLevel;
+		levelSeedBase = GameRandom.getRunSeed();
+		loopBaseline = GameLoop.getRunningCount();
+		LevelParent finished = null;
+		while (ticks < maxTicks && System.nanoTime() - start < maxNanos) {
+			GameRandom.setRunSeed(levelSeedBase + levelsPlayed);
+			LevelParent level = HeadlessRunner.createLevel(levelName);
+			if (rendered) {
+				level.prepareSceneGraph();
+			}
+			HeadlessRunner runner = new HeadlessRunner(level);
+			if (finished != null) {
+				disposeLevel(finished);
+			}
+			GameLoop loop = level.getGameLoop();
+			loop.setManualFrames(true);
+			level.startGame();
+			levelsPlayed++;
+			long frameTime = 0;
+			// The first frame only primes the loop's clock, as the first AnimationTimer pulse does
+			loop.frame(frameTime);
+			long windowTicks = 0;
+			long windowNanos = 0;
+			long windowMaxNanos = 0;
+			while (!runner.isFinished() && ticks < maxTicks && System.nanoTime() - start < maxNanos) {
+				pilot.beforeTick(level, level.getTick());
+				frameTime += loop.getTickNanos();
+				long tickStart = System.nanoTime();
+				loop.frame(frameTime);
+				long tickNanos = System.nanoTime() - tickStart;
+				ticks++;
+				windowTicks++;
+				windowNanos += tickNanos;
+				windowMaxNanos = Math.max(windowMaxNanos, tickNanos);
+				if (ticks % sampleIntervalTicks == 0) {
+					sample(level, System.nanoTime() - start, gcMillis() - gcBaseline, windowNanos / windowTicks,
+							windowMaxNanos);
+					windowTicks = 0;
+					windowNanos = 0;
+					windowMaxNanos = 0;
+				}
+			}
+			finished = level;
+			levelName = runner.getNextLevel() != null ? runner.getNextLevel() : firstLevel;
+		}
+		if (finished != null) {
+			disposeLevel(finished);
+		}
+		if (csv != null) {
+			csv.flush();
+		}
+	}
+
+	/**
+	 * Disposes a level that has finished, or that was still playing when the run ended, and checks that its game loop
+	 * stopped.
+	 *
+	 * @param level the level to dispose
+	 */
+	private void disposeLevel(LevelParent level) {
+		level.dispose();
+		checkLoopsStopped(level);
+	}
+
+	/**
+	 * Records a problem if game loops started during the run are still running after a level was disposed.
+	 *
+	 * @param level the level just disposed
+	 */
+	private void checkLoopsStopped(LevelParent level) {
+		int running = GameLoop.getRunningCount() - loopBaseline;
+		if (running > loopsLeftRunning) {
+			LOGGER.log(System.Logger.Level.WARNING, String.format("%d game loops still running after %s was disposed",
+					running, level.getLevelName()));
+			loopsLeftRunning = running;
+		}
+	}
+
+	/**
+	 * Records one sample and writes it to the CSV destination, if there is one.
+	 *
+	 * @param level the level being played
+	 * @param elapsedNanos the wall-clock time since the run started
+	 * @param gcMillis the garbage collection time since the run started
+	 * @param tickMeanNanos the mean tick duration since the previous sample
+	 * @param tickMaxNanos the longest tick since the previous sample
+	 */
+	private void sample(LevelParent level, long elapsedNanos, long gcMillis, long tickMeanNanos, long tickMaxNanos) {
+		long pooledLive = 0;
+		for (ActorPool<?> pool : ActorPool.getPools()) {
+			pooledLive += pool.getLiveCount();
+		}
+		Sample sample = new Sample(elapsedNanos / 1_000_000, ticks, levelsPlayed, level.getLevelName(),
+				memory.getHeapMemoryUsage().getUsed(), level.getLiveActorCount(), pooledLive,
+				level.getSceneNodeCount(), GameLoop.getRunningCount() - loopBaseline, gcMillis, gcCount(),
+				tickMeanNanos / 1_000.0, tickMaxNanos / 1_000.0);
+		samples.add(sample);
+		if (csv != null) {
+			csv.println(sample.toCsv());
+			csv.flush();
+		}
+	}
+
+	/**
+	 * Checks every sampled measure for growth that does not level off. Heap usage is judged by its lowest value in
+	 * each part of the run, since it rises and falls with every collection, garbage collection by its time per
+	 * sample, and everything else by its highest value. Game loops are checked outright: a disposed level must leave
+	 * none running, and no more than one may run at a time.
+	 *
+	 * @return a description of each measure that kept growing; empty if none did
+	 */
+	public List<String> findUnboundedGrowth() {
+		List<String> problems = new ArrayList<>();
+		if (loopsLeftRunning > 0) {
+			problems.add(String.format("%d game loops were still running after their level was disposed",
+					loopsLeftRunning));
+		}
+		int maxRunningLoops = 0;
+		for (Sample sample : samples) {
+			maxRunningLoops = Math.max(maxRunningLoops, sample.runningLoops());
+		}
+		if (maxRunningLoops > 1) {
+			problems.add(String.format("%d game loops were running at once", maxRunningLoops));
+		}
+		int count = samples.size();
+		double[] heap = new double[count];
+		double[] actors = new double[count];
+		double[] pooled = new double[count];
+		double[] nodes = new double[count];
+		double[] gcPerSample = new double[count];
+		double[] tickMean = new double[count];
+		for (int i = 0; i < count; i++) {
+			Sample sample = samples.get(i);
+			heap[i] = sample.heapUsedBytes();
+			actors[i] = sample.liveActors();
+			pooled[i] = sample.pooledLive();
+			nodes[i] = sample.sceneNodes();
+			gcPerSample[i] = sample.gcMillis() - (i == 0 ? 0 : samples.get(i - 1).gcMillis());
+			tickMean[i] = sample.tickMeanMicros();
+		}
+		checkGrowth(problems, "heap used", heap, false, 16L * 1024 * 1024);
+		checkGrowth(problems, "live actors", actors, true, 50);
+		checkGrowth(problems, "pooled actors never returned", pooled, true, 50);
+		checkGrowth(problems, "scene nodes", nodes, true, 50);
+		checkGrowth(problems, "GC time per sample", gcPerSample, true, 50);
+		checkGrowth(problems, "mean tick time", tickMean, true, 50);
+		return problems;
+	}
+
+	/**
+	 * Adds a problem if a measure keeps growing.
+	 *
+	 * @param problems the list to add to
+	 * @param name the name of the measure
+	 * @param values the measure at each sample
+	 * @param useMaximum true to judge each part of the run by its highest value, false by its lowest
+	 * @param slack growth up to this amount is never reported, to ignore noise in small values
+	 */
+	private static void checkGrowth(List<String> problems, String name, double[] values, boolean useMaximum,
+			double slack) {
+		if (keepsGrowing(values, useMaximum, slack)) {
+			problems.add(String.format("%s kept growing: %.0f at the start, %.0f at the end", name, values[0],
+					values[values.length - 1]));
+		}
+	}
+
+	/**
+	 * Decides whether a measure grows without levelling off. The samples are split into equal parts; the measure keeps
+	 * growing if each part's representative value is higher than the one before, and the last part's is well above
+	 * the first's. A measure that rises while the game warms up and then stays flat is not reported.
+	 *
+	 * @param values the measure at each sample
+	 * @param useMaximum true to represent each part by its highest value, false by its lowest
+	 * @param slack growth up to this amount is never reported
+	 * @return true if the measure keeps growing, false otherwise, or if there are too few samples to tell
+	 */
+	static boolean keepsGrowing(double[] values, boolean useMaximum, double slack) {
+		if (values.length < GROWTH_SEGMENTS * 2) {
+			return false;
+		}
+		double[] parts = new double[GROWTH_SEGMENTS];
+		for (int part = 0; part < GROWTH_SEGMENTS; part++) {
+			int from = values.length * part / GROWTH_SEGMENTS;
+			int to = values.length * (part + 1) / GROWTH_SEGMENTS;
+			double representative = values[from];
+			for (int i = from + 1; i < to; i++) {
+				representative = useMaximum ? Math.max(representative, values[i]) : Math.min(representative, values[i]);
+			}
+			parts[part] = representative;
+		}
+		for (int part = 1; part < GROWTH_SEGMENTS; part++) {
+			if (parts[part] <= parts[part - 1]) {
+				return false;
+			}
+		}
+		double first = parts[0];
+		double last = parts[GROWTH_SEGMENTS - 1];
+		return last - first > slack && last > first * (1 + GROWTH_TOLERANCE);
+	}
+
+	/**
+	 * @return the total time spent in garbage collection by this JVM, in milliseconds.
+	 */
+	private long gcMillis() {
+		long total = 0;
+		for (GarbageCollectorMXBean collector : collectors) {
+			total += Math.max(0, collector.getCollectionTime());
+		}
+		return total;
+	}
+
+	/**
+	 * @return the total number of garbage collections run by this JVM.
+	 */
+	private long gcCount() {
+		long total = 0;
+		for (GarbageCollectorMXBean collector : collectors) {
+			total += Math.max(0, collector.getCollectionCount());
+		}
+		return total;
+	}
+
+	/**
+	 * @return every sample taken so far.
+	 */
+	public List<Sample> getSamples() {
+		return samples;
+	}
+
+	/**
+	 * @return the total number of ticks run.
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * @return the number of levels started.
+	 */
+	public int getLevelsPlayed() {
+		return levelsPlayed;
+	}
+
+	/**
+	 * Runs a soak test with a random pilot and exits with status 1 if any measure kept growing. The JavaFX toolkit is
+	 * started so levels build and render their scene graphs, unless launched with {@code -Dsoak.render=false}.
+	 *
+	 * @param args the number of minutes to run, and optionally the CSV file to write, the number of ticks between
+	 *             samples and the seed
+	 * @throws IOException if the CSV file cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		double minutes = args.length > 0 ? Double.parseDouble(args[0]) : 60;
+		Path csvFile = Path.of(args.length > 1 ? args[1] : "soak.csv");
+		long sampleInterval = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SAMPLE_INTERVAL_TICKS;
+		if (args.length > 3) {
+			GameRandom.setRunSeed(Long.parseLong(args[3]));
+		}
+
+		SoakRunner runner = new SoakRunner(randomPilot(GameRandom.getRunSeed()), sampleInterval);
+		boolean rendered = Boolean.parseBoolean(System.getProperty(RENDER_PROPERTY, "true"));
+		if (rendered) {
+			Platform.startup(() -> { });
+			runner.setRendered(true);
+		}
+		try (Writer writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+			runner.writeCsvTo(writer);
+			runner.run((long) (minutes * 60e9), Long.MAX_VALUE);
+		}
+
+		List<String> problems = runner.findUnboundedGrowth();
+		System.out.printf("Soaked %d ticks over %d levels, %d samples written to %s%n", runner.getTicks(),
+				runner.getLevelsPlayed(), runner.getSamples().size(), csvFile);
+		if (rendered) {
+			Platform.exit();
+		}
+		if (!problems.isEmpty()) {
+			for (String problem : problems) {
+				LOGGER.log(System.Logger.Level.ERROR, problem);
+			}
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * The measures taken at one sample point.
+	 *
+	 * @param elapsedMillis the wall-clock time since the run started
+	 * @param ticks the number of ticks run
+	 * @param levels the number of levels started
+	 * @param level the catalog name of the level being played
+	 * @param heapUsedBytes the heap in use
+	 * @param liveActors the actors in the current level
+	 * @param pooledLive the pooled actors handed out and not yet returned, across all pools
+	 * @param sceneNodes the nodes under the current level's root group, or zero when not rendering
+	 * @param runningLoops the game loops started during the run and still running
+	 * @param gcMillis the garbage collection time since the run started
+	 * @param gcCount the number of garbage collections run by the JVM
+	 * @param tickMeanMicros the mean tick duration since the previous sample
+	 * @param tickMaxMicros the longest tick since the previous sample
+	 */
+	public record Sample(long elapsedMillis, long ticks, int levels, String level, long heapUsedBytes, int liveActors,
+			long pooledLive, int sceneNodes, int runningLoops, long gcMillis, long gcCount, double tickMeanMicros,
+			double tickMaxMicros) {
+
+		/**
+		 * @return the sample as a CSV row matching {@link #CSV_HEADER}.
+		 */
+		public String toCsv() {
+			return String.format(Locale.ROOT, "%d,%d,%d,%s,%d,%d,%d,%d,%d,%d,%d,%.2f,%.2f", elapsedMillis, ticks,
+					levels, level, heapUsedBytes, liveActors, pooledLive, sceneNodes, runningLoops, gcMillis, gcCount,
+					tickMeanMicros, tickMaxMicros);
+		}
+	}
+}
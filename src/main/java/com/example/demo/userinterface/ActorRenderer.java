@@ -0,0 +1,129 @@
+package com.example.demo.userinterface;
+
+import com.example.demo.activeactor.ActiveActor;
+import com.example.demo.assets.ImageCache;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Thin view layer that mirrors the plain-Java {@link ActiveActor} world model onto {@link ImageView} nodes.
+ * Each actor gets a node the first time it is synced, and its position is copied across once per rendered frame.
+ * Nodes of removed actors are kept per sprite and handed to the next actor using the same sprite. Removals are
+ * batched: retired nodes leave the scene graph together in a single change when {@link #flushRetired()} is called.
+ */
+public class ActorRenderer {
+
+	private static final int MAX_SPARE_VIEWS_PER_SPRITE = 128;
+
+	private final Group root;
+	private final Map<ActiveActor, ImageView> views;
+	private final Map<String, Deque<ImageView>> spareViews;
+	private final Set<Node> retiredViews;
+
+	/**
+	 * Constructs an {@link ActorRenderer} that adds actor nodes to the given root group.
+	 *
+	 * @param root the root group of the level's scene graph
+	 */
+	public ActorRenderer(Group root) {
+		this.root = root;
+		this.views = new IdentityHashMap<>();
+		this.spareViews = new HashMap<>();
+		this.retiredViews = new HashSet<>();
+	}
+
+	/**
+	 * Creates nodes for any actors seen for the first time and copies every actor's position onto its node.
+	 *
+	 * @param actors the actors to synchronise with the scene graph
+	 */
+	public void sync(List<? extends ActiveActor> actors) {
+		for (ActiveActor actor : actors) {
+			ImageView view = views.get(actor);
+			if (view == null) {
+				view = createView(actor);
+				views.put(actor, view);
+				if (!retiredViews.remove(view)) {
+					root.getChildren().add(view);
+				}
+			}
+			view.setTranslateX(actor.getTranslateX());
+			view.setTranslateY(actor.getTranslateY());
+		}
+	}
+
+	/**
+	 * Forgets an actor's node and marks it for removal from the scene graph on the next {@link #flushRetired()}.
+	 * The node stays visible until then, and may be handed straight to a new actor using the same sprite.
+	 *
+	 * @param actor the actor that has left the game
+	 */
+	public void retire(ActiveActor actor) {
+		ImageView view = views.remove(actor);
+		if (view == null) {
+			return;
+		}
+		retiredViews.add(view);
+		Deque<ImageView> spares = spareViews.computeIfAbsent(actor.getImageName(), key -> new ArrayDeque<>());
+		if (spares.size() < MAX_SPARE_VIEWS_PER_SPRITE) {
+			spares.push(view);
+		}
+	}
+
+	/**
+	 * Removes every retired node from the scene graph in one batched change.
+	 */
+	public void flushRetired() {
+		if (retiredViews.isEmpty()) {
+			return;
+		}
+		root.getChildren().removeAll(retiredViews);
+		retiredViews.clear();
+	}
+
+	/**
+	 * @return the number of nodes waiting to be removed from the scene graph.
+	 */
+	public int getRetiredCount() {
+		return retiredViews.size();
+	}
+
+	/**
+	 * @param actor the actor to look up
+	 * @return the node currently showing the actor, or null if it has not been rendered.
+	 */
+	public ImageView getView(ActiveActor actor) {
+		return views.get(actor);
+	}
+
+	/**
+	 * Provides the {@link ImageView} for an actor, reusing a spare node with the same sprite image when possible, sized
+	 * and positioned the same way as its bounding box.
+	 *
+	 * @param actor the actor to create a node for
+	 * @return the node for the actor
+	 */
+	private ImageView createView(ActiveActor actor) {
+		Deque<ImageView> spares = spareViews.get(actor.getImageName());
+		ImageView view = spares == null ? null : spares.poll();
+		if (view == null) {
+			String imagePath = ActiveActor.IMAGE_LOCATION + actor.getImageName();
+			view = new ImageView(ImageCache.getInstance().get(imagePath, 0, actor.getImageHeight()));
+			view.setPreserveRatio(true);
+		}
+		view.setFitHeight(actor.getImageHeight());
+		view.setLayoutX(actor.getLayoutX());
+		view.setLayoutY(actor.getLayoutY());
+		return view;
+	}
+}
@@ -0,0 +1,125 @@
+package com.example.demo.userinterface;
+
+import com.example.demo.activeactor.ActorPool;
+import com.example.demo.level.LevelParent;
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Shows the engine counters of a level, drawn above the game and separate from its
+ * {@link com.example.demo.level.LevelView}: frame and tick rates, entity counts, scene nodes, pools and heap usage.
+ * The text nodes are created once and only their text changes.
+ */
+public class DebugOverlay extends Group {
+
+	private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+	private static final double FONT_SIZE = 12;
+	private static final double LINE_HEIGHT = 15;
+	private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	private final LevelParent level;
+	private final Text rates;
+	private final Text units;
+	private final Text projectiles;
+	private final Text sceneNodes;
+	private final Text pools;
+	private final Text heap;
+	private long lastRefreshNanos;
+	private long lastFrameCount;
+	private long lastTick;
+
+	/**
+	 * Creates a {@link DebugOverlay} for a level.
+	 *
+	 * @param level the level to report on
+	 * @param xPosition the x-coordinate position
+	 * @param yPosition the y-coordinate position
+	 */
+	public DebugOverlay(LevelParent level, double xPosition, double yPosition) {
+		this.level = level;
+		this.rates = createLine(0);
+		this.units = createLine(1);
+		this.projectiles = createLine(2);
+		this.sceneNodes = createLine(3);
+		this.pools = createLine(4);
+		this.heap = createLine(5);
+		this.lastRefreshNanos = -1;
+		this.setMouseTransparent(true);
+		this.setViewOrder(-1);
+		this.setLayoutX(xPosition);
+		this.setLayoutY(yPosition);
+	}
+
+	/**
+	 * Creates one line of the overlay and adds it to the group.
+	 *
+	 * @param index the line's position from the top, starting at zero
+	 * @return the line
+	 */
+	private Text createLine(int index) {
+		Text line = new Text(0, index * LINE_HEIGHT, "");
+		line.setFont(Font.font("Monospaced", FONT_SIZE));
+		line.setFill(Color.YELLOW);
+		getChildren().add(line);
+		return line;
+	}
+
+	/**
+	 * Redraws the counters a few times per second, averaging the frame and tick rates over the time since the last
+	 * redraw. Called every rendered frame; does nothing in between redraws or while hidden.
+	 *
+	 * @param now the current {@link System#nanoTime()}
+	 */
+	public void refresh(long now) {
+		if (!isVisible()) {
+			return;
+		}
+		long frameCount = level.getFrameStats().getFrameIntervals().getCount();
+		long tick = level.getTick();
+		if (lastRefreshNanos < 0) {
+			lastRefreshNanos = now;
+			lastFrameCount = frameCount;
+			lastTick = tick;
+			return;
+		}
+		long elapsed = now - lastRefreshNanos;
+		if (elapsed < REFRESH_INTERVAL_NANOS) {
+			return;
+		}
+		double seconds = elapsed / 1e9;
+		rates.setText(String.format(Locale.ROOT, "fps %5.1f  ticks/s %5.1f", (frameCount - lastFrameCount) / seconds,
+				(tick - lastTick) / seconds));
+		units.setText(String.format(Locale.ROOT, "friendly %d  enemy %d  meteors %d", level.getFriendlyUnitCount(),
+				level.getEnemyUnitCount(), level.getHazardUnitCount()));
+		projectiles.setText(String.format(Locale.ROOT, "shots: user %d  enemy %d  store %d",
+				level.getUserProjectileCount(), level.getEnemyProjectileCount(), level.getStoredProjectileCount()));
+		sceneNodes.setText("scene nodes " + level.getSceneNodeCount());
+		pools.setText(formatPools());
+		Runtime runtime = Runtime.getRuntime();
+		heap.setText(String.format(Locale.ROOT, "heap %d / %d MB",
+				(runtime.totalMemory() - runtime.freeMemory()) / BYTES_PER_MEGABYTE,
+				runtime.maxMemory() / BYTES_PER_MEGABYTE));
+		lastRefreshNanos = now;
+		lastFrameCount = frameCount;
+		lastTick = tick;
+	}
+
+	/**
+	 * @return the number of pooled actors in play and waiting for reuse, across every pool.
+	 */
+	private static String formatPools() {
+		long live = 0;
+		long free = 0;
+		List<ActorPool<?>> allPools = ActorPool.getPools();
+		for (int i = 0; i < allPools.size(); i++) {
+			live += allPools.get(i).getLiveCount();
+			free += allPools.get(i).getFreeCount();
+		}
+		return String.format(Locale.ROOT, "pooled: live %d  free %d", live, free);
+	}
+}
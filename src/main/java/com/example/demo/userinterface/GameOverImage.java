@@ -1,10 +1,8 @@
 package com.example.demo.userinterface;
 
-import javafx.scene.image.Image;
+import com.example.demo.assets.ImageCache;
 import javafx.scene.image.ImageView;
 
-import java.util.Objects;
-
 public class GameOverImage extends ImageView {
 	
 	private static final String IMAGE_NAME = "/com/example/demo/images/gameover.png";
@@ -16,7 +14,7 @@ public class GameOverImage extends ImageView {
 	 * @param yPosition the y-coordinate position
 	 */
 	public GameOverImage(double xPosition, double yPosition) {
-		setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_NAME)).toExternalForm()));
+		setImage(ImageCache.getInstance().get(IMAGE_NAME));
 
 		setLayoutX(xPosition);
 		setLayoutY(yPosition);
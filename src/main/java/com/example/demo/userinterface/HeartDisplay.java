@@ -1,11 +1,9 @@
 package com.example.demo.userinterface;
 
-import javafx.scene.image.Image;
+import com.example.demo.assets.ImageCache;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
-import java.util.Objects;
-
 public class HeartDisplay {
 
 	private static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png";
@@ -46,7 +44,7 @@ public class HeartDisplay {
 	 */
 	private void initializeHearts() {
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(HEART_IMAGE_NAME).toExternalForm())));
+			ImageView heart = new ImageView(ImageCache.getInstance().get(HEART_IMAGE_NAME, 0, HEART_HEIGHT));
 			heart.setFitHeight(HEART_HEIGHT);
 			heart.setPreserveRatio(true);
 			container.getChildren().add(heart);
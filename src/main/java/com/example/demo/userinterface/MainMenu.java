@@ -1,24 +1,30 @@
 package com.example.demo.userinterface;
 
+import com.example.demo.assets.AssetLoader;
+import com.example.demo.assets.AssetManifest;
+import com.example.demo.assets.ImageCache;
 import com.example.demo.controller.Controller;
+import javafx.application.Platform;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
-import javafx.scene.image.Image;
-
-import java.util.Objects;
 
 
 public class MainMenu {
     private static final String backgroundImageName = "/com/example/demo/images/Skies of Mishal.png";
     private static final int SCREEN_WIDTH = 1300;
     private static final int SCREEN_HEIGHT = 750;
+    private Controller controller;
 
     /**
      * Displays the {@link MainMenu} on the given stage with options to start the game or exit the application.
+     * While the menu is visible, every asset in the {@link AssetManifest} is loaded in the background with a progress
+     * bar; the start button is enabled once loading has finished.
      *
      * @param stage the stage on which the main menu will be displayed
      */
@@ -39,13 +45,18 @@ public class MainMenu {
         startGameButton.setStyle("-fx-font-size: 20; -fx-background-color: #00A; -fx-text-fill: #FFF;");
         exitButton.setStyle("-fx-font-size: 20; -fx-background-color: #A00; -fx-text-fill: #FFF;");
 
-        buttonLayout.getChildren().addAll(startGameButton, exitButton);
+        ProgressBar loadingBar = new ProgressBar(0);
+        Label loadingLabel = new Label("Loading assets...");
+        loadingLabel.setStyle("-fx-text-fill: #FFF;");
+        startGameButton.setDisable(true);
+
+        buttonLayout.getChildren().addAll(startGameButton, exitButton, loadingBar, loadingLabel);
         menuLayout.getChildren().addAll(buttonLayout);
 
 
         Scene mainMenuScene = new Scene(menuLayout, SCREEN_WIDTH, SCREEN_HEIGHT);
 
-        ImageView background = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(backgroundImageName)).toExternalForm()));
+        ImageView background = new ImageView(ImageCache.getInstance().get(backgroundImageName, SCREEN_WIDTH, 0));
         background.setViewOrder(1);
         background.setPreserveRatio(true);
         background.setFitWidth(SCREEN_WIDTH);
@@ -54,7 +65,7 @@ public class MainMenu {
 
         startGameButton.setOnAction(e -> {
             try {
-                Controller controller = new Controller(stage);
+                controller = new Controller(stage);
                 controller.launchGame();
             } catch (Exception ex) {
                 ex.printStackTrace();
@@ -68,5 +79,34 @@ public class MainMenu {
 
         stage.setScene(mainMenuScene);
         stage.show();
+
+        loadAssets(startGameButton, loadingBar, loadingLabel);
+    }
+
+    /**
+     * Shuts down the {@link Controller} of the game started from this menu, if any. Called when the application exits.
+     */
+    public void shutdown() {
+        if (controller != null) {
+            controller.shutdown();
+        }
+    }
+
+    /**
+     * Loads the {@link AssetManifest} in parallel, reporting progress on the FX thread and enabling the start button
+     * when done. Assets that fail to load are loaded again on first use instead.
+     *
+     * @param startGameButton the button to enable once loading has finished
+     * @param loadingBar the progress bar to update
+     * @param loadingLabel the label showing the loading status
+     */
+    private void loadAssets(Button startGameButton, ProgressBar loadingBar, Label loadingLabel) {
+        AssetLoader loader = new AssetLoader(AssetManifest.load(AssetManifest.DEFAULT_LOCATION));
+        loader.loadAll(progress -> Platform.runLater(() -> loadingBar.setProgress(Math.max(loadingBar.getProgress(), progress))))
+                .whenComplete((timings, error) -> Platform.runLater(() -> {
+                    loadingBar.setVisible(false);
+                    loadingLabel.setVisible(false);
+                    startGameButton.setDisable(false);
+                }));
     }
 }
\ No newline at end of file
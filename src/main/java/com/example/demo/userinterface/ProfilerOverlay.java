@@ -0,0 +1,48 @@
+package com.example.demo.userinterface;
+
+import com.example.demo.engine.FrameProfiler;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * Shows the rolling per-phase statistics of a {@link FrameProfiler} as text drawn above the game, redrawn every few
+ * frames.
+ */
+public class ProfilerOverlay extends Text {
+
+	private static final int REFRESH_INTERVAL_FRAMES = 30;
+	private static final double FONT_SIZE = 12;
+
+	private final FrameProfiler profiler;
+	private int framesUntilRefresh;
+
+	/**
+	 * Creates a {@link ProfilerOverlay} showing the rolling statistics of a profiler, drawn above the game.
+	 *
+	 * @param profiler the profiler to report on
+	 * @param xPosition the x-coordinate position
+	 * @param yPosition the y-coordinate position
+	 */
+	public ProfilerOverlay(FrameProfiler profiler, double xPosition, double yPosition) {
+		this.profiler = profiler;
+		this.setFont(Font.font("Monospaced", FONT_SIZE));
+		this.setFill(Color.LIME);
+		this.setMouseTransparent(true);
+		this.setViewOrder(-1);
+		this.setLayoutX(xPosition);
+		this.setLayoutY(yPosition);
+	}
+
+	/**
+	 * Redraws the statistics every few frames, so reading the statistics and laying out the text stay a small part of
+	 * the frames they describe. Does nothing while hidden.
+	 */
+	public void refresh() {
+		if (!isVisible() || --framesUntilRefresh > 0) {
+			return;
+		}
+		framesUntilRefresh = REFRESH_INTERVAL_FRAMES;
+		setText(profiler.report());
+	}
+}
@@ -0,0 +1,71 @@
+package com.example.demo.userinterface;
+
+import com.example.demo.activeactor.ActiveActor;
+import com.example.demo.assets.ImageCache;
+import com.example.demo.engine.ProjectileStore;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Draws every projectile in a {@link ProjectileStore} onto a single {@link Canvas}, so bullet-heavy scenes cost
+ * one node instead of one {@link javafx.scene.image.ImageView} per bullet.
+ */
+public class ProjectileLayer extends Canvas {
+
+	private final ProjectileStore store;
+	private final List<Image> kindImages;
+	private boolean hasDrawn;
+
+	/**
+	 * Constructs a {@link ProjectileLayer} covering the game screen.
+	 *
+	 * @param store the projectile store to draw
+	 * @param width the width of the game screen
+	 * @param height the height of the game screen
+	 */
+	public ProjectileLayer(ProjectileStore store, double width, double height) {
+		super(width, height);
+		this.store = store;
+		this.kindImages = new ArrayList<>();
+		setMouseTransparent(true);
+	}
+
+	/**
+	 * Redraws all live projectiles. Skips the clear entirely while the store stays empty.
+	 */
+	public void draw() {
+		int size = store.size();
+		if (size == 0 && !hasDrawn) {
+			return;
+		}
+		GraphicsContext graphics = getGraphicsContext2D();
+		graphics.clearRect(0, 0, getWidth(), getHeight());
+		for (int i = 0; i < size; i++) {
+			if (store.isAlive(i)) {
+				int kind = store.getKind(i);
+				graphics.drawImage(getKindImage(kind), store.getX(i), store.getY(i),
+						store.getKindWidth(kind), store.getKindHeight(kind));
+			}
+		}
+		hasDrawn = size > 0;
+	}
+
+	/**
+	 * Returns the sprite for a projectile kind, looking it up in the {@link ImageCache} the first time the kind is drawn.
+	 *
+	 * @param kind the kind id
+	 * @return the sprite image
+	 */
+	private Image getKindImage(int kind) {
+		while (kindImages.size() <= kind) {
+			int next = kindImages.size();
+			String imagePath = ActiveActor.IMAGE_LOCATION + store.getKindImageName(next);
+			kindImages.add(ImageCache.getInstance().get(imagePath, 0, store.getKindHeight(next)));
+		}
+		return kindImages.get(kind);
+	}
+}
@@ -1,10 +1,8 @@
 package com.example.demo.userinterface;
 
-import javafx.scene.image.Image;
+import com.example.demo.assets.ImageCache;
 import javafx.scene.image.ImageView;
 
-import java.util.Objects;
-
 public class ShieldImage extends ImageView {
 
 	private static final String IMAGE_NAME = "/com/example/demo/images/shield.png";
@@ -17,7 +15,7 @@ public class ShieldImage extends ImageView {
 	 * @param yPosition the y-coordinate position of the shield image
 	 */
 	public ShieldImage(double xPosition, double yPosition) {
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_NAME)).toExternalForm()));
+		this.setImage(ImageCache.getInstance().get(IMAGE_NAME, SHIELD_SIZE, SHIELD_SIZE, false));
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
 		this.setVisible(false);
@@ -1,10 +1,8 @@
 package com.example.demo.userinterface;
 
-import javafx.scene.image.Image;
+import com.example.demo.assets.ImageCache;
 import javafx.scene.image.ImageView;
 
-import java.util.Objects;
-
 public class WinImage extends ImageView {
 	
 	private static final String IMAGE_NAME = "/com/example/demo/images/youwin.png";
@@ -18,7 +16,7 @@ public class WinImage extends ImageView {
 	 * @param yPosition the y-coordinate position
 	 */
 	public WinImage(double xPosition, double yPosition) {
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_NAME)).toExternalForm()));
+		this.setImage(ImageCache.getInstance().get(IMAGE_NAME, WIDTH, HEIGHT, false));
 		this.setVisible(false);
 		this.setFitHeight(HEIGHT);
 		this.setFitWidth(WIDTH);
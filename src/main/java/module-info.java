@@ -2,10 +2,17 @@ module com.example.demo {
     requires javafx.controls;
     requires javafx.fxml;
     requires javafx.media;
+    requires java.management;
+    requires jdk.management;
+    requires jdk.jfr;
 
 
     opens com.example.demo to javafx.fxml;
     exports com.example.demo.controller;
+    exports com.example.demo.assets;
+    exports com.example.demo.engine;
+    exports com.example.demo.engine.jfr;
+    exports com.example.demo.simulation;
     opens com.example.demo.level to javafx.fxml;
     opens com.example.demo.activeactor to javafx.fxml;
     opens com.example.demo.userinterface to javafx.fxml;
@@ -0,0 +1,87 @@
+package com.example.demo;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+import com.example.demo.activeactor.PlayerJet;
+import com.example.demo.engine.AllocationTracker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollisionHandlerTest {
+
+    private static final int HEALTH = 1_000_000;
+
+    @Test
+    public void testBroadphaseMatchesPairwiseResult() {
+        List<ActiveActorDestructible> pairwise1 = scatter(300, 1);
+        List<ActiveActorDestructible> pairwise2 = scatter(300, 2);
+        List<ActiveActorDestructible> broadphase1 = scatter(300, 1);
+        List<ActiveActorDestructible> broadphase2 = scatter(300, 2);
+
+        int pairwiseHits = CollisionHandler.handleCollisionsPairwise(pairwise1, pairwise2);
+        int broadphaseHits = CollisionHandler.handleCollisionsWithBroadphase(broadphase1, broadphase2);
+
+        assertTrue(totalDamage(pairwise1) > 0, "The scattered actors should overlap somewhere.");
+        assertEquals(totalDamage(pairwise1), pairwiseHits, "Each hit should damage one actor of each list once.");
+        assertEquals(pairwiseHits, broadphaseHits);
+        assertEquals(totalDamage(pairwise1), totalDamage(broadphase1));
+        assertEquals(totalDamage(pairwise2), totalDamage(broadphase2));
+    }
+
+    @Test
+    public void testMovingUpdatesTheBoundingBox() {
+        PlayerJet jet = new PlayerJet(HEALTH);
+        double width = jet.getMaxX() - jet.getMinX();
+        jet.setTranslateX(100);
+        jet.setTranslateY(-50);
+
+        assertEquals(jet.getLayoutX() + 100, jet.getMinX(), 1e-9);
+        assertEquals(jet.getMinX() + width, jet.getMaxX(), 1e-9);
+        assertEquals(jet.getLayoutY() - 50, jet.getMinY(), 1e-9);
+        assertEquals(jet.getMinY() + jet.getImageHeight(), jet.getMaxY(), 1e-9);
+    }
+
+    @Test
+    public void testCollisionPassDoesNotAllocate() {
+        AllocationTracker tracker = new AllocationTracker();
+        tracker.setEnabled(true);
+        assertTrue(tracker.isEnabled(), "The JVM should count the bytes each thread allocates.");
+        List<ActiveActorDestructible> actors1 = scatter(500, 3);
+        List<ActiveActorDestructible> actors2 = scatter(500, 4);
+        for (int i = 0; i < 200; i++) {
+            CollisionHandler.handleCollisions(actors1, actors2);
+        }
+
+        tracker.begin();
+        for (int i = 0; i < 20; i++) {
+            CollisionHandler.handleCollisions(actors1, actors2);
+        }
+        tracker.endTick(0);
+        long allocated = tracker.getLastTickBytes();
+        assertTrue(allocated < 1_024, "Collision passes allocated " + allocated + " bytes.");
+    }
+
+    private static List<ActiveActorDestructible> scatter(int count, long seed) {
+        Random random = new Random(seed);
+        List<ActiveActorDestructible> actors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            PlayerJet jet = new PlayerJet(HEALTH);
+            jet.setTranslateX(random.nextDouble() * 3_000);
+            jet.setTranslateY(random.nextDouble() * 2_000);
+            actors.add(jet);
+        }
+        return actors;
+    }
+
+    private static long totalDamage(List<ActiveActorDestructible> actors) {
+        long damage = 0;
+        for (ActiveActorDestructible actor : actors) {
+            damage += HEALTH - ((PlayerJet) actor).getHealth();
+        }
+        return damage;
+    }
+}
@@ -1,25 +1,38 @@
 package com.example.demo;
 
 import com.example.demo.activeactor.PlayerJet;
+import javafx.event.Event;
+import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class InputManagerTest {
 
+    private static final double TICK_SECONDS = 0.04;
+
     private InputManager inputManager;
-    private PlayerJet mockPlayerJet;
-    private Runnable mockFireProjectile;
+    private Node node;
+    private List<InputAction> dispatched;
 
     @BeforeEach
     public void setUp() {
         inputManager = InputManager.getInstance(); // Get the singleton instance
-        mockPlayerJet = mock(PlayerJet.class);  // Mock the PlayerJet
-        mockFireProjectile = mock(Runnable.class);  // Mock the fire action
+        node = new Group();
+        dispatched = new ArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        inputManager.releaseInputs(node);
     }
 
     @Test
@@ -31,80 +44,85 @@ public class InputManagerTest {
 
     @Test
     public void testInitializeInputs() {
-        // Setup: Create a mock node
-        Node mockNode = mock(Node.class);
-
         // Call the method to initialize inputs
-        inputManager.initializeInputs(mockNode, mockPlayerJet, mockFireProjectile);
+        inputManager.initializeInputs(node, dispatched::add);
 
-        // Verify that the appropriate key events are registered
-        verify(mockNode).setOnKeyPressed(any());
-        verify(mockNode).setOnKeyReleased(any());
+        // Verify that key presses are dispatched without taking over the node's own key handler properties
+        press(KeyCode.UP);
+        assertEquals(List.of(InputAction.MOVE_UP), dispatched);
+        assertNull(node.getOnKeyPressed());
+        assertNull(node.getOnKeyReleased());
     }
 
     @Test
     public void testKeyPressedAndReleased() {
-        // Setup
-        KeyEvent upKeyPressed = new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.UP, false, false, false, false);
-        KeyEvent upKeyReleased = new KeyEvent(KeyEvent.KEY_RELEASED, "", "", KeyCode.UP, false, false, false, false);
+        inputManager.initializeInputs(node, dispatched::add);
 
         // Simulate pressing UP key
-        inputManager.handleKeyPressed(upKeyPressed);
+        press(KeyCode.UP);
         assertTrue(inputManager.isKeyPressed(KeyCode.UP), "UP key should be registered as pressed.");
 
         // Simulate releasing UP key
-        inputManager.handleKeyReleased(upKeyReleased);
+        release(KeyCode.UP);
         assertFalse(inputManager.isKeyPressed(KeyCode.UP), "UP key should be removed from pressed keys.");
+        assertEquals(List.of(InputAction.MOVE_UP, InputAction.STOP_VERTICAL), dispatched);
+    }
+
+    @Test
+    public void testRepeatedPressesOnlyDispatchOnce() {
+        inputManager.initializeInputs(node, dispatched::add);
+
+        press(KeyCode.LEFT);
+        press(KeyCode.LEFT);
+        press(KeyCode.SPACE);
+        press(KeyCode.SPACE);
+
+        assertEquals(List.of(InputAction.MOVE_LEFT, InputAction.FIRE, InputAction.FIRE), dispatched,
+                "Auto-repeat should be filtered out except for firing.");
     }
 
     @Test
     public void testPlayerJetMovementOnKeyPress() {
-        // Setup
-        KeyEvent upKeyPressed = new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.UP, false, false, false, false);
-        KeyEvent downKeyPressed = new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.DOWN, false, false, false, false);
-
-        // Call the handler for key presses
-        inputManager.initializeInputs(mock(PlayerJet.class), mockPlayerJet, mockFireProjectile);
-        inputManager.handleKeyPressed(upKeyPressed);
-        inputManager.handleKeyPressed(downKeyPressed);
-
-        // Verify that the player's move methods were triggered for up and down keys
-        verify(mockPlayerJet).moveUp();
-        verify(mockPlayerJet).moveDown();
+        PlayerJet user = new PlayerJet(5);
+        inputManager.initializeInputs(node, action -> action.apply(user, () -> { }));
+
+        press(KeyCode.UP);
+        user.updateActor(TICK_SECONDS);
+        assertTrue(user.getTranslateY() < 0, "UP should move the player up.");
+
+        press(KeyCode.DOWN);
+        double afterUp = user.getTranslateY();
+        user.updateActor(TICK_SECONDS);
+        assertTrue(user.getTranslateY() > afterUp, "DOWN should move the player down.");
     }
 
     @Test
     public void testPlayerJetStopOnKeyRelease() {
-        // Setup
-        KeyEvent upKeyReleased = new KeyEvent(KeyEvent.KEY_RELEASED, "", "", KeyCode.UP, false, false, false, false);
-        KeyEvent downKeyReleased = new KeyEvent(KeyEvent.KEY_RELEASED, "", "", KeyCode.DOWN, false, false, false, false);
+        PlayerJet user = new PlayerJet(5);
+        inputManager.initializeInputs(node, action -> action.apply(user, () -> { }));
 
-        // Simulate releasing UP and DOWN keys
-        inputManager.handleKeyReleased(upKeyReleased);
-        inputManager.handleKeyReleased(downKeyReleased);
+        press(KeyCode.UP);
+        release(KeyCode.UP);
+        user.updateActor(TICK_SECONDS);
 
-        // Verify that the stop methods were called on the player
-        verify(mockPlayerJet).stopVertical();
+        assertEquals(0, user.getTranslateY(), "Releasing UP should stop vertical movement.");
     }
 
     @Test
     public void testFireProjectileOnSpacePress() {
-        // Setup
-        KeyEvent spaceKeyPressed = new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.SPACE, false, false, false, false);
+        int[] shots = new int[1];
+        PlayerJet user = new PlayerJet(5);
+        inputManager.initializeInputs(node, action -> action.apply(user, () -> shots[0]++));
 
-        // Simulate pressing the SPACE key
-        inputManager.initializeInputs(mock(Node.class), mockPlayerJet, mockFireProjectile);
-        inputManager.handleKeyPressed(spaceKeyPressed);
+        press(KeyCode.SPACE);
 
-        // Verify that the fireProjectile action was triggered
-        verify(mockFireProjectile).run();
+        assertEquals(1, shots[0], "SPACE should trigger the fire action.");
     }
 
     @Test
     public void testClearAllKeys() {
-        // Setup
-        KeyEvent leftKeyPressed = new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.LEFT, false, false, false, false);
-        inputManager.handleKeyPressed(leftKeyPressed);
+        inputManager.initializeInputs(node, dispatched::add);
+        press(KeyCode.LEFT);
 
         // Assert that LEFT key is pressed
         assertTrue(inputManager.isKeyPressed(KeyCode.LEFT), "LEFT key should be registered as pressed.");
@@ -115,4 +133,25 @@ public class InputManagerTest {
         // Assert that all keys are cleared
         assertFalse(inputManager.isKeyPressed(KeyCode.LEFT), "LEFT key should not be pressed after clear.");
     }
+
+    @Test
+    public void testReleaseInputsRemovesHandlers() {
+        inputManager.initializeInputs(node, dispatched::add);
+        press(KeyCode.LEFT);
+
+        inputManager.releaseInputs(node);
+        press(KeyCode.UP);
+
+        assertEquals(List.of(InputAction.MOVE_LEFT), dispatched, "Released nodes should no longer dispatch actions.");
+        assertFalse(inputManager.isKeyPressed(KeyCode.LEFT), "Releasing should clear the pressed keys.");
+        assertFalse(inputManager.isKeyPressed(KeyCode.UP));
+    }
+
+    private void press(KeyCode key) {
+        Event.fireEvent(node, new KeyEvent(KeyEvent.KEY_PRESSED, "", "", key, false, false, false, false));
+    }
+
+    private void release(KeyCode key) {
+        Event.fireEvent(node, new KeyEvent(KeyEvent.KEY_RELEASED, "", "", key, false, false, false, false));
+    }
 }
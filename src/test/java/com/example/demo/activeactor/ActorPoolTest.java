@@ -0,0 +1,64 @@
+package com.example.demo.activeactor;
+
+import com.example.demo.engine.jfr.SpawnEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ActorPoolTest {
+
+    @Test
+    public void testAcquireRecyclesReleasedActors() {
+        ActorPool<PlayerMissiles> pool = new ActorPool<>("test", 1, PlayerMissiles::new);
+
+        PlayerMissiles first = pool.acquire();
+        PlayerMissiles second = pool.acquire();
+        first.recycle();
+        second.recycle();
+
+        assertSame(first, pool.acquire(), "The released actor should be reused.");
+        assertEquals(1, pool.getHits());
+        assertEquals(2, pool.getMisses());
+        assertEquals(1, pool.getDiscarded(), "Actors beyond the capacity should be dropped.");
+        assertEquals(1, pool.getLiveCount());
+    }
+
+    @Test
+    public void testEachSpawnIsReportedOnce() throws IOException {
+        ActorPool<PlayerMissiles> pool = new ActorPool<>("test", 4, PlayerMissiles::new);
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(SpawnEvent.class);
+            recording.start();
+
+            pool.prewarm(1);
+            pool.acquire().reset(10, 0);
+            pool.acquire().reset(20, 0);
+            new PlayerMissiles(30, 0);
+
+            recording.stop();
+            Path file = Files.createTempFile("spawns", ".jfr");
+            try {
+                recording.dump(file);
+                events = new ArrayList<>(RecordingFile.readAllEvents(file));
+            } finally {
+                Files.delete(file);
+            }
+        }
+        events.sort((a, b) -> Double.compare(a.getDouble("x"), b.getDouble("x")));
+
+        assertEquals(3, events.size(), "Prewarming should report nothing and each spawn should report once.");
+        assertTrue(events.get(0).getBoolean("recycled"), "The prewarmed actor should be reported as reused.");
+        assertFalse(events.get(1).getBoolean("recycled"), "A pool miss should be reported as a new actor.");
+        assertFalse(events.get(2).getBoolean("recycled"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.activeactor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollisionMaskTest {
+
+    private static final String USER_FIRE = ActiveActor.IMAGE_LOCATION + "userfire.png";
+    private static final String FIREBALL = ActiveActor.IMAGE_LOCATION + "fireball.png";
+
+    @Test
+    public void testMaskIsBuiltAtDrawnSizeAndExcludesTransparentPixels() {
+        double width = SpriteMetrics.getScaledWidth(USER_FIRE, 125);
+        CollisionMask mask = CollisionMask.forSprite(USER_FIRE, width, 125);
+
+        assertEquals((int) Math.ceil(width), mask.getWidth());
+        assertEquals(125, mask.getHeight());
+        assertTrue(mask.getSolidCount() > 0);
+        assertTrue(mask.getSolidCount() < mask.getWidth() * mask.getHeight(), "The sprite has transparent areas.");
+        assertSame(mask, CollisionMask.forSprite(USER_FIRE, width, 125), "Masks are shared per sprite and size.");
+    }
+
+    @Test
+    public void testWordwiseOverlapMatchesPixelByPixelCheck() {
+        CollisionMask a = CollisionMask.forSprite(USER_FIRE, SpriteMetrics.getScaledWidth(USER_FIRE, 125), 125);
+        CollisionMask b = CollisionMask.forSprite(FIREBALL, SpriteMetrics.getScaledWidth(FIREBALL, 75), 75);
+        Random random = new Random(11);
+        for (int i = 0; i < 2_000; i++) {
+            int bx = random.nextInt(400) - 200;
+            int by = random.nextInt(300) - 150;
+            boolean expected = pixelOverlap(a, 0, 0, b, bx, by);
+            assertEquals(expected, CollisionMask.overlaps(a, 0, 0, a.getWidth(), a.getHeight(),
+                    b, bx, by, b.getWidth(), b.getHeight()), "Offset " + bx + "," + by);
+        }
+    }
+
+    @Test
+    public void testMaskAgainstBoxOnlyHitsSolidPixels() {
+        CollisionMask mask = CollisionMask.forSprite(FIREBALL, SpriteMetrics.getScaledWidth(FIREBALL, 75), 75);
+        for (int y = 0; y < mask.getHeight(); y++) {
+            for (int x = 0; x < mask.getWidth(); x++) {
+                assertEquals(mask.isSolid(x, y), CollisionMask.overlaps(mask, 0, 0, mask.getWidth(), mask.getHeight(),
+                        null, x, y, 1, 1));
+            }
+        }
+    }
+
+    private static boolean pixelOverlap(CollisionMask a, int ax, int ay, CollisionMask b, int bx, int by) {
+        for (int y = 0; y < a.getHeight(); y++) {
+            for (int x = 0; x < a.getWidth(); x++) {
+                int otherX = ax + x - bx;
+                int otherY = ay + y - by;
+                if (a.isSolid(x, y) && otherX >= 0 && otherY >= 0 && otherX < b.getWidth() && otherY < b.getHeight()
+                        && b.isSolid(otherX, otherY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.assets;
+
+import com.example.demo.activeactor.ActiveActor;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssetManifestTest {
+
+    @Test
+    public void testParsesEveryEntryType() throws IOException {
+        String text = """
+                # comment
+
+                image  /images/Skies of Mishal.png 1300 0
+                image  /images/space.jpg 1300 750 stretch
+                sprite userfire.png 125
+                sound  impactsound.wav
+                """;
+        List<AssetManifest.Asset> assets = AssetManifest.parse(new BufferedReader(new StringReader(text))).getAssets();
+
+        assertEquals(4, assets.size());
+        assertEquals(new AssetManifest.Asset(AssetManifest.AssetType.IMAGE, "/images/Skies of Mishal.png", 1300, 0, true),
+                assets.get(0));
+        assertFalse(assets.get(1).preserveRatio());
+        assertEquals(125, assets.get(2).height());
+        assertEquals(AssetManifest.AssetType.SOUND, assets.get(3).type());
+    }
+
+    @Test
+    public void testRejectsMalformedLines() {
+        assertThrows(IllegalArgumentException.class,
+                () -> AssetManifest.parse(new BufferedReader(new StringReader("sprite userfire.png tall"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> AssetManifest.parse(new BufferedReader(new StringReader("video intro.mp4"))));
+    }
+
+    @Test
+    public void testGameManifestOnlyListsExistingResources() {
+        AssetManifest manifest = AssetManifest.load(AssetManifest.DEFAULT_LOCATION);
+
+        assertFalse(manifest.getAssets().isEmpty());
+        for (AssetManifest.Asset asset : manifest.getAssets()) {
+            String path = switch (asset.type()) {
+                case IMAGE -> asset.path();
+                case SPRITE -> ActiveActor.IMAGE_LOCATION + asset.path();
+                case SOUND -> "/com/example/demo/sounds/" + asset.path();
+            };
+            assertNotNull(AssetManifest.class.getResource(path), "Missing asset " + path);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.assets;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageCacheTest {
+
+    private static final String USER_FIRE = "/com/example/demo/images/userfire.png";
+    private static final String HEART = "/com/example/demo/images/heart.png";
+    private static final String SHIELD = "/com/example/demo/images/shield.png";
+
+    private ImageCache cache;
+    private long originalBudget;
+
+    @BeforeAll
+    public static void startToolkit() {
+        // Decoding an Image needs the FX toolkit, though not its application thread
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException alreadyStarted) {
+            // Started by an earlier test class
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        cache = ImageCache.getInstance();
+        originalBudget = cache.getBudgetBytes();
+        cache.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cache.clear();
+        cache.setBudgetBytes(originalBudget);
+    }
+
+    @Test
+    public void testImagesAreDecodedOnceAndCountedAtTheirDecodedSize() {
+        Image first = cache.get(USER_FIRE, 0, 50);
+        Image second = cache.get(USER_FIRE, 0, 50);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(50, first.getHeight(), "The image should be fully decoded when get returns.");
+        assertTrue(first.getWidth() > 0);
+        assertEquals((long) first.getWidth() * 50 * 4, cache.getBytes());
+
+        cache.get(USER_FIRE, 0, 25);
+        assertEquals(2, cache.getMisses(), "Each requested size is a separate entry.");
+        assertEquals(2, cache.getEntryCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvictedToStayWithinBudget() {
+        long heartBytes = bytesOf(cache.get(HEART, 0, 40));
+        long shieldBytes = bytesOf(cache.get(SHIELD, 0, 40));
+        cache.get(HEART, 0, 40);
+        cache.setBudgetBytes(heartBytes + shieldBytes);
+
+        cache.get(USER_FIRE, 0, 40);
+
+        assertEquals(1, cache.getEvictions());
+        assertTrue(cache.getBytes() <= cache.getBudgetBytes());
+        long misses = cache.getMisses();
+        cache.get(HEART, 0, 40);
+        assertEquals(misses, cache.getMisses(), "The recently used heart should have been kept.");
+        cache.get(SHIELD, 0, 40);
+        assertEquals(misses + 1, cache.getMisses(), "The least recently used shield should have been evicted.");
+    }
+
+    @Test
+    public void testPinnedImagesAreNeverEvicted() {
+        Image pinned = cache.preload(SHIELD, 0, 40, true);
+        cache.setBudgetBytes(1);
+
+        cache.get(HEART, 0, 40);
+        cache.get(USER_FIRE, 0, 40);
+
+        assertSame(pinned, cache.get(SHIELD, 0, 40));
+        assertEquals(2, cache.getEntryCount(), "Only the pinned image and the newest image should remain.");
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void testMissingImagesFailWithoutBlockingLaterRequests() {
+        assertThrows(IllegalArgumentException.class, () -> cache.get("/com/example/demo/images/missing.png"));
+        assertThrows(IllegalArgumentException.class, () -> cache.get("/com/example/demo/images/missing.png"));
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    private static long bytesOf(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * 4;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.engine;
+
+import com.example.demo.engine.FrameProfiler.Phase;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AllocationTrackerTest {
+
+    private static Object sink;
+
+    @Test
+    public void testAllocationsAreChargedToTheirPhase() {
+        AllocationTracker tracker = new AllocationTracker();
+        tracker.setEnabled(true);
+        requireTracking(tracker);
+
+        tracker.begin();
+        tracker.mark(Phase.INPUT);
+        sink = new byte[100_000];
+        tracker.mark(Phase.SPAWN);
+        tracker.endTick(7);
+
+        assertTrue(tracker.getLastPhaseBytes(Phase.SPAWN) >= 100_000);
+        assertTrue(tracker.getLastPhaseBytes(Phase.INPUT) < 1_000);
+        assertTrue(tracker.getLastTickBytes() >= 100_000);
+        assertEquals(1, tracker.getTickCount());
+        assertFalse(tracker.wasLastTickDuringGc());
+    }
+
+    @Test
+    public void testTicksDuringGcAreFlagged() {
+        AllocationTracker tracker = new AllocationTracker();
+        tracker.setEnabled(true);
+        requireTracking(tracker);
+
+        tracker.begin();
+        tracker.endTick(1);
+        tracker.begin();
+        System.gc();
+        tracker.endTick(2);
+
+        assertTrue(tracker.wasLastTickDuringGc());
+        assertEquals(1, tracker.getGcTickCount());
+        assertArrayEquals(new long[] {2}, tracker.getRecentGcTicks());
+    }
+
+    @Test
+    public void testDisabledTrackerRecordsNothing() {
+        AllocationTracker tracker = new AllocationTracker();
+        tracker.setEnabled(false);
+
+        tracker.begin();
+        sink = new byte[100_000];
+        tracker.mark(Phase.SPAWN);
+        tracker.endTick(1);
+
+        assertEquals(0, tracker.getTickCount());
+        assertEquals(0, tracker.getLastPhaseBytes(Phase.SPAWN));
+    }
+
+    private static void requireTracking(AllocationTracker tracker) {
+        assertTrue(tracker.isEnabled(), "This JVM should count the bytes each thread allocates.");
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.demo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AudioEngineTest {
+
+    @Test
+    public void testDuplicateRequestsInOneTickPlayOnce() {
+        List<FakeVoice> voices = new ArrayList<>();
+        AudioEngine engine = new AudioEngine(sound -> track(voices, sound), Runnable::run);
+
+        engine.request("boom");
+        engine.request("boom");
+        engine.request("zap");
+        engine.flush();
+
+        assertEquals(2, engine.getPlayedCount());
+        assertEquals(1, engine.getDroppedCount());
+        assertEquals(2, engine.getActiveVoiceCount());
+
+        engine.request("boom");
+        engine.flush();
+        assertEquals(3, engine.getPlayedCount(), "Coalescing must only apply within a single tick.");
+    }
+
+    @Test
+    public void testFinishedVoicesAreReused() {
+        List<FakeVoice> voices = new ArrayList<>();
+        AudioEngine engine = new AudioEngine(sound -> track(voices, sound), Runnable::run);
+
+        engine.start("boom");
+        voices.get(0).finish();
+        engine.start("boom");
+
+        assertEquals(1, voices.size());
+        assertEquals(2, voices.get(0).plays);
+        assertEquals(1, engine.getActiveVoiceCount());
+    }
+
+    @Test
+    public void testOldestVoiceIsStolenAtThePolyphonyLimit() {
+        List<FakeVoice> voices = new ArrayList<>();
+        AudioEngine engine = new AudioEngine(sound -> track(voices, sound), Runnable::run);
+        engine.setPolyphony(2);
+
+        engine.start("a");
+        engine.start("b");
+        engine.start("c");
+
+        assertEquals(2, engine.getActiveVoiceCount());
+        assertEquals(1, engine.getStolenCount());
+        assertTrue(voices.get(0).stopped, "The oldest voice must be stopped.");
+        assertFalse(voices.get(1).stopped);
+
+        // A late finish notice from the stolen playback must not free a voice that is playing
+        voices.get(0).finish();
+        assertEquals(2, engine.getActiveVoiceCount());
+    }
+
+    @Test
+    public void testStolenVoiceIsReusedForTheSameSound() {
+        List<FakeVoice> voices = new ArrayList<>();
+        AudioEngine engine = new AudioEngine(sound -> track(voices, sound), Runnable::run);
+        engine.setPolyphony(1);
+
+        for (int i = 0; i < 10; i++) {
+            engine.start("boom");
+        }
+
+        assertEquals(1, voices.size());
+        assertEquals(9, engine.getStolenCount());
+        assertEquals(1, engine.getActiveVoiceCount());
+    }
+
+    @Test
+    public void testSoundsThatFailToLoadAreDropped() {
+        AudioEngine engine = new AudioEngine(sound -> {
+            throw new IllegalArgumentException("Sound not found: " + sound);
+        }, Runnable::run);
+
+        engine.request("missing");
+        engine.flush();
+
+        assertEquals(0, engine.getPlayedCount());
+        assertEquals(1, engine.getDroppedCount());
+        assertEquals(0, engine.getActiveVoiceCount());
+    }
+
+    @Test
+    public void testShutdownDisposesVoices() {
+        List<FakeVoice> voices = new ArrayList<>();
+        AudioEngine engine = new AudioEngine(sound -> track(voices, sound), Runnable::run);
+        engine.preload("boom");
+        engine.start("zap");
+
+        engine.shutdown();
+        engine.start("boom");
+
+        assertTrue(voices.get(0).disposed);
+        assertTrue(voices.get(1).disposed);
+        assertEquals(0, engine.getVoiceCount());
+        assertEquals(1, engine.getDroppedCount());
+    }
+
+    private static FakeVoice track(List<FakeVoice> voices, String sound) {
+        FakeVoice voice = new FakeVoice();
+        voices.add(voice);
+        return voice;
+    }
+
+    private static class FakeVoice implements AudioEngine.Voice {
+
+        private Runnable onFinished;
+        private int plays;
+        private boolean stopped;
+        private boolean disposed;
+
+        @Override
+        public void play(Runnable onFinished) {
+            this.onFinished = onFinished;
+            plays++;
+            stopped = false;
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        private void finish() {
+            onFinished.run();
+        }
+    }
+}
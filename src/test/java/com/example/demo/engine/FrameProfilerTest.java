@@ -0,0 +1,60 @@
+package com.example.demo.engine;
+
+import com.example.demo.engine.FrameProfiler.Phase;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameProfilerTest {
+
+    @Test
+    public void testMeanAndPercentileCoverOnlyTheWindow() {
+        FrameProfiler profiler = new FrameProfiler(100);
+        for (int i = 1; i <= 100; i++) {
+            profiler.record(Phase.UPDATE, i);
+        }
+
+        assertEquals(100, profiler.getSampleCount(Phase.UPDATE));
+        assertEquals(50.5, profiler.getMeanNanos(Phase.UPDATE), 1e-9);
+        assertEquals(99, profiler.getPercentileNanos(Phase.UPDATE, 99));
+        assertEquals(50, profiler.getPercentileNanos(Phase.UPDATE, 50));
+
+        for (int i = 0; i < 250; i++) {
+            profiler.record(Phase.UPDATE, 1_000);
+        }
+        assertEquals(100, profiler.getSampleCount(Phase.UPDATE), "Old durations should be overwritten.");
+        assertEquals(1_000, profiler.getMeanNanos(Phase.UPDATE), 1e-9);
+        assertEquals(0, profiler.getSampleCount(Phase.SPAWN), "Phases should be recorded independently.");
+    }
+
+    @Test
+    public void testDisabledProfilerRecordsNothing() {
+        FrameProfiler profiler = new FrameProfiler(16);
+        profiler.setEnabled(false);
+
+        profiler.begin();
+        profiler.mark(Phase.SPAWN);
+
+        assertEquals(0, profiler.getSampleCount(Phase.SPAWN));
+        assertEquals(0, profiler.getPercentileNanos(Phase.SPAWN, 99));
+    }
+
+    @Test
+    public void testMarksTimeEachPhaseFromThePreviousMark() {
+        FrameProfiler profiler = new FrameProfiler(16);
+        profiler.setEnabled(true);
+
+        for (int i = 0; i < 3; i++) {
+            profiler.begin();
+            profiler.mark(Phase.INPUT);
+            profiler.mark(Phase.SPAWN);
+        }
+        profiler.reset();
+        profiler.begin();
+        profiler.mark(Phase.INPUT);
+
+        assertEquals(1, profiler.getSampleCount(Phase.INPUT));
+        assertEquals(0, profiler.getSampleCount(Phase.SPAWN), "Reset should discard earlier durations.");
+        assertTrue(profiler.report().contains("tick total"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameStatsTest {
+
+    private static final long BUDGET = FrameStats.DEFAULT_FRAME_BUDGET_NANOS;
+
+    @Test
+    public void testLongFramesCountSkippedRefreshes() {
+        FrameStats stats = new FrameStats();
+        for (int i = 0; i < 100; i++) {
+            stats.recordFrame(BUDGET + (i % 2 == 0 ? 100_000 : -100_000));
+        }
+        stats.recordFrame(BUDGET * 3);
+
+        assertEquals(2, stats.getMissedFrames(), "A frame spanning three refreshes misses two.");
+        assertEquals(BUDGET * 3, stats.getFrameIntervals().getMax());
+        assertTrue(stats.getFrameIntervals().getValueAtPercentile(50) < BUDGET * 1.05);
+        assertTrue(stats.getJitterNanos() > 200_000, "Alternating and long frames should show as jitter.");
+    }
+
+    @Test
+    public void testReportSummarizesFramesAndTicks() throws Exception {
+        FrameStats stats = new FrameStats();
+        stats.recordFrame(BUDGET);
+        stats.recordFrame(BUDGET);
+        for (int i = 1; i <= 1_000; i++) {
+            stats.recordTick(i * 1_000L);
+        }
+
+        FrameStats.Report report = stats.summarize("LevelOne", "won");
+        StringWriter text = new StringWriter();
+        report.save(text);
+
+        assertEquals(2, report.frames().count());
+        assertEquals(0, report.missedFrames());
+        assertEquals(0, report.jitterNanos(), 1e-9);
+        assertEquals(1_000, report.ticks().count());
+        assertEquals(1_000_000, report.ticks().max());
+        assertTrue(report.ticks().p999() >= report.ticks().p99());
+        assertTrue(report.ticks().p99() >= report.ticks().p90());
+        assertTrue(report.ticks().p90() >= report.ticks().p50());
+        assertTrue(text.toString().startsWith("level LevelOne"));
+        assertTrue(text.toString().contains("outcome won"));
+    }
+}
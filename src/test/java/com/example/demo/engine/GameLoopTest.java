@@ -0,0 +1,90 @@
+package com.example.demo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameLoopTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    public void testFirstFrameOnlyPrimesTheClock() {
+        int[] ticks = {0};
+        GameLoop loop = new GameLoop(25, () -> ticks[0]++);
+        loop.frame(0);
+        assertEquals(0, ticks[0], "The first frame has no elapsed time to simulate.");
+    }
+
+    @Test
+    public void testTicksRunAtFixedRateRegardlessOfFrameRate() {
+        int[] ticks = {0};
+        GameLoop loop = new GameLoop(25, () -> ticks[0]++);
+        startWithoutTimer(loop);
+
+        // One second rendered at ~144 FPS should still produce 25 ticks
+        long now = 0;
+        loop.frame(now);
+        for (int i = 0; i < 144; i++) {
+            now += 1_000 * MILLIS / 144;
+            loop.frame(now);
+        }
+        assertEquals(24, ticks[0], 1, "Tick count should follow the logical rate, not the frame rate.");
+    }
+
+    @Test
+    public void testCatchUpIsCappedPerFrame() {
+        int[] ticks = {0};
+        GameLoop loop = new GameLoop(100, 3, () -> ticks[0]++);
+        startWithoutTimer(loop);
+
+        loop.frame(0);
+        int steps = loop.frame(200 * MILLIS);
+
+        assertEquals(3, steps, "A single frame should never run more than the catch-up cap.");
+        assertTrue(loop.getDroppedTicks() > 0, "The backlog beyond the cap should be dropped.");
+    }
+
+    @Test
+    public void testStopInsideTickHaltsRemainingSteps() {
+        int[] ticks = {0};
+        GameLoop[] holder = new GameLoop[1];
+        holder[0] = new GameLoop(100, 10, () -> {
+            ticks[0]++;
+            holder[0].stop();
+        });
+        startWithoutTimer(holder[0]);
+
+        holder[0].frame(0);
+        holder[0].frame(80 * MILLIS);
+
+        assertEquals(1, ticks[0], "No further ticks should run once the loop is stopped.");
+    }
+
+    @Test
+    public void testRunningLoopsAreCountedUntilStopped() {
+        GameLoop loop = new GameLoop(25, () -> { });
+        int before = GameLoop.getRunningCount();
+
+        startWithoutTimer(loop);
+        startWithoutTimer(loop);
+        assertEquals(before + 1, GameLoop.getRunningCount(), "Restarting a running loop should not count it twice.");
+
+        loop.stop();
+        loop.stop();
+        assertEquals(before, GameLoop.getRunningCount());
+    }
+
+    @Test
+    public void testInvalidTickRateIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new GameLoop(0, () -> { }));
+    }
+
+    /**
+     * Starts the loop with frames fed by hand instead of by the FX animation timer.
+     */
+    private static void startWithoutTimer(GameLoop loop) {
+        loop.setManualFrames(true);
+        loop.start();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameRandomTest {
+
+    @Test
+    public void testSameSeedGivesSameSequence() {
+        GameRandom first = new GameRandom(7);
+        GameRandom second = new GameRandom(7);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextDouble(GameRandom.Stream.SPAWN), second.nextDouble(GameRandom.Stream.SPAWN));
+        }
+    }
+
+    @Test
+    public void testStreamsAreIndependent() {
+        GameRandom quiet = new GameRandom(7);
+        GameRandom busy = new GameRandom(7);
+
+        for (int i = 0; i < 1000; i++) {
+            busy.nextDouble(GameRandom.Stream.FIRE);
+        }
+
+        assertEquals(quiet.nextDouble(GameRandom.Stream.SPAWN), busy.nextDouble(GameRandom.Stream.SPAWN),
+                "Drawing from one subsystem must not shift another subsystem's numbers.");
+    }
+
+    @Test
+    public void testShuffleIsAReproduciblePermutation() {
+        List<Integer> first = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            first.add(i);
+        }
+        List<Integer> second = new ArrayList<>(first);
+
+        new GameRandom(3).shuffle(first, GameRandom.Stream.MOVEMENT);
+        new GameRandom(3).shuffle(second, GameRandom.Stream.MOVEMENT);
+
+        assertEquals(first, second);
+        List<Integer> sorted = new ArrayList<>(first);
+        sorted.sort(null);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, (int) sorted.get(i));
+        }
+    }
+
+    @Test
+    public void testLevelsOfARunGetDifferentSeeds() {
+        GameRandom.setRunSeed(11);
+
+        assertEquals(GameRandom.forLevel("LevelOne").getSeed(), GameRandom.forLevel("LevelOne").getSeed());
+        assertNotEquals(GameRandom.forLevel("LevelOne").getSeed(), GameRandom.forLevel("LevelTwo").getSeed());
+    }
+}
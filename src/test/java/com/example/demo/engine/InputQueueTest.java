@@ -0,0 +1,83 @@
+package com.example.demo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InputQueueTest {
+
+    @Test
+    public void testDrainsInOfferOrderAcrossWrapAround() {
+        InputQueue queue = new InputQueue(4);
+        List<Integer> drained = new ArrayList<>();
+
+        for (int round = 0; round < 5; round++) {
+            assertTrue(queue.offer(round * 10));
+            assertTrue(queue.offer(round * 10 + 1));
+            assertTrue(queue.offer(round * 10 + 2));
+            assertEquals(3, queue.drain((code, timestamp) -> drained.add(code)));
+        }
+
+        assertEquals(15, drained.size());
+        assertEquals(42, (int) drained.get(14));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testFullQueueDropsAndCounts() {
+        InputQueue queue = new InputQueue(3);
+
+        assertEquals(4, queue.getCapacity(), "Capacity should round up to a power of two.");
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertEquals(1, queue.getDroppedCount());
+
+        queue.clear();
+        assertTrue(queue.offer(5));
+    }
+
+    @Test
+    public void testTimestampsAreRecorded() {
+        InputQueue queue = new InputQueue(8);
+        long before = System.nanoTime();
+        queue.offer(1);
+        long[] timestamp = new long[1];
+
+        queue.drain((code, nanos) -> timestamp[0] = nanos);
+
+        assertTrue(timestamp[0] >= before && timestamp[0] <= System.nanoTime());
+    }
+
+    @Test
+    public void testProducerAndConsumerOnSeparateThreads() throws InterruptedException {
+        InputQueue queue = new InputQueue(64);
+        int total = 200_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                while (!queue.offer(i)) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        int[] expected = {0};
+        boolean[] ordered = {true};
+        producer.start();
+        while (expected[0] < total) {
+            queue.drain((code, timestamp) -> {
+                if (code != expected[0]) {
+                    ordered[0] = false;
+                }
+                expected[0]++;
+            });
+        }
+        producer.join();
+
+        assertTrue(ordered[0], "Events must arrive exactly once and in order.");
+        assertEquals(total, expected[0]);
+    }
+}
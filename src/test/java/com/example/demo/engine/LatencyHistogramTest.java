@@ -0,0 +1,60 @@
+package com.example.demo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsCoverEveryValueWithinThreePercent() {
+        long[] values = {0, 1, 31, 32, 63, 64, 65, 1_000, 16_666_667, 123_456_789_012L, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            long highest = LatencyHistogram.highestValueIn(bucket);
+            assertTrue(highest >= value, value + " should not exceed its bucket's upper edge " + highest);
+            assertTrue(highest - value <= value / 32, value + " should be within 1/32 of " + highest);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.highestValueIn(bucket - 1) < value, value + " is in the wrong bucket");
+            }
+        }
+    }
+
+    @Test
+    public void testPercentilesOfUniformDurations() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1_000);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(5_000_500, histogram.getMean(), 1e-6);
+        assertEquals(1_000, histogram.getMin());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_000, histogram.getValueAtPercentile(50), 5_000_000 / 32.0);
+        assertEquals(9_900_000, histogram.getValueAtPercentile(99), 9_900_000 / 32.0);
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testRecordingDoesNotAllocate() {
+        AllocationTracker tracker = new AllocationTracker();
+        tracker.setEnabled(true);
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 10_000; i++) {
+            histogram.record(i * 997L);
+        }
+
+        tracker.begin();
+        for (int i = 0; i < 10_000; i++) {
+            histogram.record(i * 997L);
+        }
+        tracker.endTick(0);
+        long allocated = tracker.getLastTickBytes();
+        assertTrue(allocated < 1_024, "Recording allocated " + allocated + " bytes.");
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.demo.engine;
+
+import com.example.demo.SoundManager;
+import com.example.demo.activeactor.ActiveActor;
+import com.example.demo.activeactor.ActiveActorDestructible;
+import com.example.demo.activeactor.CollisionMask;
+import com.example.demo.activeactor.CollisionPrecision;
+import com.example.demo.activeactor.PlayerJet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectileStoreTest {
+
+    private ProjectileStore store;
+    private int boxKind;
+
+    @BeforeEach
+    public void setUp() {
+        SoundManager.setEnabled(false);
+        store = new ProjectileStore(2);
+        boxKind = store.registerKind("enemyFire.png", 27);
+    }
+
+    @Test
+    public void testSpawnGrowsAndIntegrateMovesEveryRow() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, store.spawn(i * 10, 100, 10, -2, ProjectileStore.FACTION_ENEMY, boxKind));
+        }
+
+        store.integrate(0.5);
+
+        assertEquals(10, store.size());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(store.isAlive(i));
+            assertEquals(i * 10 + 5, store.getX(i));
+            assertEquals(99, store.getY(i));
+        }
+    }
+
+    @Test
+    public void testCompactSwapsTheLastRowIntoEachHole() {
+        for (int i = 0; i < 5; i++) {
+            store.spawn(i, 0, 0, 0, ProjectileStore.FACTION_PLAYER, boxKind);
+        }
+        store.kill(1);
+        store.kill(4);
+        store.kill(0);
+
+        assertEquals(3, store.compact());
+
+        assertEquals(2, store.size());
+        assertEquals(3, store.getX(0), "Row 0 should be filled from the last live row.");
+        assertEquals(2, store.getX(1));
+        assertTrue(store.isAlive(0) && store.isAlive(1));
+        assertEquals(0, store.compact(), "A compact store has nothing to remove.");
+    }
+
+    @Test
+    public void testCullKillsOnlyProjectilesFullyOutside() {
+        double width = store.getKindWidth(boxKind);
+        store.spawn(-width - 1, 10, 0, 0, ProjectileStore.FACTION_ENEMY, boxKind);
+        store.spawn(-width + 1, 10, 0, 0, ProjectileStore.FACTION_ENEMY, boxKind);
+        store.spawn(50, 201, 0, 0, ProjectileStore.FACTION_ENEMY, boxKind);
+        store.spawn(50, 50, 0, 0, ProjectileStore.FACTION_ENEMY, boxKind);
+
+        assertEquals(2, store.cull(0, 0, 200, 200));
+
+        assertFalse(store.isAlive(0));
+        assertTrue(store.isAlive(1), "A projectile partly on screen should be kept.");
+        assertFalse(store.isAlive(2));
+        assertTrue(store.isAlive(3));
+    }
+
+    @Test
+    public void testCollideDamagesTargetsOfTheOtherFaction() {
+        PlayerJet target = new PlayerJet(5);
+        List<ActiveActorDestructible> targets = List.of(target);
+        store.spawn(target.getMinX() + 1, target.getMinY() + 1, 0, 0, ProjectileStore.FACTION_ENEMY, boxKind);
+        store.spawn(target.getMinX() + 1, target.getMinY() + 1, 0, 0, ProjectileStore.FACTION_PLAYER, boxKind);
+        store.spawn(target.getMaxX() + 50, target.getMinY(), 0, 0, ProjectileStore.FACTION_ENEMY, boxKind);
+
+        assertEquals(1, store.collide(ProjectileStore.FACTION_ENEMY, targets));
+
+        assertEquals(4, target.getHealth());
+        assertFalse(store.isAlive(0));
+        assertTrue(store.isAlive(1), "Projectiles never hit their own faction.");
+        assertTrue(store.isAlive(2));
+    }
+
+    @Test
+    public void testDestroyedTargetsAbsorbNoFurtherProjectiles() {
+        PlayerJet target = new PlayerJet(2);
+        List<ActiveActorDestructible> targets = new ArrayList<>(List.of(target));
+        for (int i = 0; i < 4; i++) {
+            store.spawn(target.getMinX() + 1, target.getMinY() + 1, 0, 0, ProjectileStore.FACTION_ENEMY, boxKind);
+        }
+
+        assertEquals(2, store.collide(ProjectileStore.FACTION_ENEMY, targets));
+        assertTrue(target.isDestroyed());
+        assertEquals(0, store.collide(ProjectileStore.FACTION_ENEMY, targets));
+
+        store.compact();
+        assertEquals(2, store.size(), "The projectiles fired after the kill should fly on.");
+    }
+
+    @Test
+    public void testMaskKindsIgnoreTransparentOverlap() {
+        int maskKind = store.registerKind("userfire.png", 125, CollisionPrecision.MASK);
+        CollisionMask mask = CollisionMask.forSprite(ActiveActor.IMAGE_LOCATION + "userfire.png",
+                store.getKindWidth(maskKind), 125);
+        PlayerJet target = new PlayerJet(5);
+        double targetWidth = target.getMaxX() - target.getMinX();
+        double targetHeight = target.getMaxY() - target.getMinY();
+        double[] miss = null;
+        for (int dx = 0; dx < store.getKindWidth(maskKind) && miss == null; dx++) {
+            for (int dy = 0; dy < 125 && miss == null; dy++) {
+                double x = target.getMinX() - dx;
+                double y = target.getMinY() - dy;
+                if (!CollisionMask.overlaps(mask, x, y, store.getKindWidth(maskKind), 125,
+                        null, target.getMinX(), target.getMinY(), targetWidth, targetHeight)) {
+                    miss = new double[] {x, y};
+                }
+            }
+        }
+        assertNotNull(miss, "The sprite should have a transparent area over the target's corner.");
+
+        store.spawn(miss[0], miss[1], 0, 0, ProjectileStore.FACTION_ENEMY, maskKind);
+        assertEquals(0, store.collide(ProjectileStore.FACTION_ENEMY, List.of(target)));
+
+        int wideBoxKind = store.registerKind("userfire.png", 125);
+        store.spawn(miss[0], miss[1], 0, 0, ProjectileStore.FACTION_ENEMY, wideBoxKind);
+        assertEquals(1, store.collide(ProjectileStore.FACTION_ENEMY, List.of(target)),
+                "The same overlap should hit as a box.");
+    }
+
+    @Test
+    public void testClearEmptiesTheStore() {
+        store.spawn(0, 0, 0, 0, ProjectileStore.FACTION_PLAYER, boxKind);
+
+        store.clear();
+
+        assertEquals(0, store.size());
+        assertEquals(0, store.collide(ProjectileStore.FACTION_PLAYER, List.of(new PlayerJet(1))));
+    }
+}
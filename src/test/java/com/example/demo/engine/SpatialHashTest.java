@@ -0,0 +1,70 @@
+package com.example.demo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpatialHashTest {
+
+    @Test
+    public void testQueryFindsEveryOverlappingItemInAscendingOrder() {
+        Random random = new Random(7);
+        int count = 2_000;
+        double[][] boxes = new double[count][];
+        SpatialHash hash = new SpatialHash(64);
+        hash.clear(count);
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * 4_000 - 500;
+            double y = random.nextDouble() * 2_000 - 500;
+            boxes[i] = new double[] {x, y, x + random.nextDouble() * 150, y + random.nextDouble() * 60};
+            hash.insert(i, boxes[i][0], boxes[i][1], boxes[i][2], boxes[i][3]);
+        }
+
+        for (int q = 0; q < 500; q++) {
+            double x = random.nextDouble() * 4_000 - 500;
+            double y = random.nextDouble() * 2_000 - 500;
+            double[] query = {x, y, x + random.nextDouble() * 300, y + random.nextDouble() * 300};
+            int results = hash.query(query[0], query[1], query[2], query[3]);
+
+            TreeSet<Integer> found = new TreeSet<>();
+            for (int r = 0; r < results; r++) {
+                if (r > 0) {
+                    assertTrue(hash.getResult(r - 1) < hash.getResult(r), "Results must be distinct and sorted.");
+                }
+                found.add(hash.getResult(r));
+            }
+            for (int i = 0; i < count; i++) {
+                if (overlaps(boxes[i], query)) {
+                    assertTrue(found.contains(i), "Overlapping item " + i + " was not returned.");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testOversizedItemsAndQueriesAreHandled() {
+        SpatialHash hash = new SpatialHash(10);
+        hash.clear(2);
+        hash.insert(0, -1e9, -1e9, 1e9, 1e9);
+        hash.insert(1, 50, 50, 60, 60);
+
+        assertEquals(1, hash.query(0, 0, 1, 1), "Only the oversized item shares the query's cell.");
+        assertEquals(2, hash.query(-1e6, -1e6, 1e6, 1e6));
+    }
+
+    @Test
+    public void testClearRemovesEveryItem() {
+        SpatialHash hash = new SpatialHash(32);
+        hash.clear(1);
+        hash.insert(0, 0, 0, 10, 10);
+        hash.clear(1);
+        assertEquals(0, hash.query(0, 0, 10, 10));
+    }
+
+    private static boolean overlaps(double[] a, double[] b) {
+        return a[0] <= b[2] && b[0] <= a[2] && a[1] <= b[3] && b[1] <= a[3];
+    }
+}
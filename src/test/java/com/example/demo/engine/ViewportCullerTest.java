@@ -0,0 +1,61 @@
+package com.example.demo.engine;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+import com.example.demo.activeactor.PlayerJet;
+import com.example.demo.activeactor.PlayerMissiles;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ViewportCullerTest {
+
+    @Test
+    public void testCullsActorsFullyOutsideTheMargin() {
+        ViewportCuller culler = new ViewportCuller(1300, 750);
+        culler.setMargin(PlayerMissiles.class, 0);
+        ActiveActorDestructible inside = PlayerMissiles.create(600, 300);
+        ActiveActorDestructible offRight = PlayerMissiles.create(1301, 300);
+        ActiveActorDestructible partlyVisible = PlayerMissiles.create(-inside.getImageWidth() + 1, 300);
+
+        assertEquals(1, culler.cull(List.of(inside, offRight, partlyVisible)));
+        assertFalse(inside.isDestroyed());
+        assertTrue(offRight.isDestroyed());
+        assertFalse(partlyVisible.isDestroyed(), "Actors still overlapping the screen must not be culled.");
+    }
+
+    @Test
+    public void testMarginIsConfiguredPerType() {
+        ViewportCuller culler = new ViewportCuller(1300, 750);
+        culler.setMargin(PlayerMissiles.class, 200);
+        ActiveActorDestructible missile = PlayerMissiles.create(1400, 300);
+
+        assertEquals(0, culler.cull(List.of(missile)));
+        missile.setTranslateX(150);
+        assertEquals(1, culler.cull(List.of(missile)));
+    }
+
+    @Test
+    public void testExemptTypesAreNeverCulled() {
+        ViewportCuller culler = new ViewportCuller(1300, 750);
+        culler.exempt(PlayerJet.class);
+        PlayerJet user = new PlayerJet(5);
+        user.setTranslateX(-10_000);
+
+        assertEquals(0, culler.cull(List.of(user)));
+        assertFalse(user.isDestroyed());
+    }
+
+    @Test
+    public void testEndTickReportsCulledCountPerTick() {
+        ViewportCuller culler = new ViewportCuller(1300, 750);
+        culler.cull(List.of(PlayerMissiles.create(5000, 300), PlayerMissiles.create(5000, 400)));
+        assertEquals(2, culler.endTick());
+        assertEquals(2, culler.getLastCulledCount());
+
+        culler.endTick();
+        assertEquals(0, culler.getLastCulledCount());
+        assertEquals(2, culler.getTotalCulledCount());
+    }
+}
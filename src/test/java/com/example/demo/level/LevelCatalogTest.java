@@ -0,0 +1,92 @@
+package com.example.demo.level;
+
+import com.example.demo.simulation.HeadlessRunner;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelCatalogTest {
+
+    @Test
+    public void testParsesLevelBlocks() throws IOException {
+        String text = """
+                # comment
+
+                level      Skirmish
+                title      Opening Skirmish
+                background /com/example/demo/images/background1.jpg
+                health     3
+                enemy      boss_jet 4 0.5
+                lanes      0.1 0.9
+                hazard     meteor 1 300 600
+                win        kills 7
+                next       Duel
+
+                level      Duel
+                background /com/example/demo/images/background2.jpg
+                enemy      boss 1 1
+                win        boss_defeated
+                """;
+        LevelCatalog catalog = LevelCatalog.parse(new StringReader(text));
+
+        assertEquals("Skirmish", catalog.getFirstLevelName());
+        LevelDefinition skirmish = catalog.get("Skirmish");
+        assertEquals("Opening Skirmish", skirmish.title());
+        assertEquals(3, skirmish.playerInitialHealth());
+        assertEquals(LevelDefinition.EnemyType.BOSS_JET, skirmish.enemyType());
+        assertEquals(4, skirmish.maxEnemies());
+        assertArrayEquals(new double[] {0.1, 0.9}, skirmish.lanes());
+        assertEquals(1, skirmish.maxHazards());
+        assertEquals(0.5, skirmish.enemySpawnRate());
+        assertEquals(300, skirmish.hazardSpeed());
+        assertEquals(7, skirmish.killsToWin());
+        assertEquals("Duel", skirmish.nextLevel());
+        LevelDefinition duel = catalog.get("Duel");
+        assertEquals("Duel", duel.title(), "The title should default to the level name.");
+        assertEquals(5, duel.playerInitialHealth());
+        assertEquals(LevelDefinition.WinCondition.BOSS_DEFEATED, duel.winCondition());
+        assertNull(duel.nextLevel());
+    }
+
+    @Test
+    public void testRejectsInvalidCatalogs() {
+        String level = "level A\nbackground /a.png\n";
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelCatalog.parse(new StringReader("title Orphan\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelCatalog.parse(new StringReader(level + "enemy tank 5 0.1\nwin kills 1\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelCatalog.parse(new StringReader(level + "enemy jet 5 0.1\nwin kills\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelCatalog.parse(new StringReader(level + "enemy jet 5 0.1\nwin boss_defeated\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelCatalog.parse(new StringReader(level + "enemy jet 5 0.1\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelCatalog.parse(new StringReader(level + "enemy jet 5 0.1\nwin kills 1\nnext Nowhere\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelCatalog.parse(new StringReader("")));
+    }
+
+    @Test
+    public void testGameCatalogChainsEveryLevelToAWin() {
+        LevelCatalog catalog = LevelCatalog.load(LevelCatalog.DEFAULT_LOCATION);
+
+        String levelName = catalog.getFirstLevelName();
+        int levels = 0;
+        while (levelName != null) {
+            LevelDefinition definition = catalog.get(levelName);
+            assertNotNull(LevelCatalog.class.getResource(definition.backgroundImageName()),
+                    "Missing background " + definition.backgroundImageName());
+            LevelParent level = HeadlessRunner.createLevel(levelName);
+            assertEquals(levelName, level.getLevelName());
+            assertEquals(definition.nextLevel(), level.getNextLevelName());
+            levelName = definition.nextLevel();
+            levels++;
+            assertTrue(levels <= catalog.getLevelNames().size(), "The levels should not loop.");
+        }
+        assertEquals(catalog.getLevelNames().size(), levels, "Every level should be reachable from the first.");
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.level;
+
+import com.example.demo.simulation.HeadlessRunner;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelLifecycleTest {
+
+    private static final String[] LEVELS = {
+            "LevelOne",
+            "LevelTwo",
+            "LevelThree",
+            "LevelFour"
+    };
+
+    @Test
+    public void testDisposeReleasesActorsAndObservers() {
+        LevelParent level = HeadlessRunner.createLevel(LEVELS[2]);
+        new HeadlessRunner(level).run(500);
+
+        level.dispose();
+
+        assertEquals(LevelState.DISPOSED, level.getState());
+        assertEquals(0, level.countObservers());
+        assertEquals(0, level.getCurrentNumberOfEnemies());
+        assertEquals(0, level.getCurrentNumberOfHazards());
+        assertTrue(level.friendlyUnits.isEmpty());
+        assertThrows(IllegalStateException.class, level::step);
+    }
+
+    @Test
+    public void testPauseAndResumeOnlyApplyToARunningLevel() {
+        LevelParent level = HeadlessRunner.createLevel(LEVELS[0]);
+
+        level.pauseGame();
+        assertEquals(LevelState.CREATED, level.getState());
+        level.stopGame();
+        level.resumeGame();
+        assertEquals(LevelState.STOPPED, level.getState(), "A stopped level must not be resumed.");
+        assertFalse(level.getGameLoop().isRunning());
+    }
+
+    @Test
+    public void testGoingToNextLevelStopsTheLevel() {
+        LevelParent level = HeadlessRunner.createLevel(LEVELS[0]);
+
+        level.goToNextLevel(LEVELS[1]);
+
+        assertEquals(LevelState.STOPPED, level.getState());
+    }
+}
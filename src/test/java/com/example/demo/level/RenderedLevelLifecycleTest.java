@@ -0,0 +1,105 @@
+package com.example.demo.level;
+
+import com.example.demo.SoundManager;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RenderedLevelLifecycleTest {
+
+    private static final String[] LEVELS = {
+            "LevelOne",
+            "LevelTwo",
+            "LevelThree",
+            "LevelFour"
+    };
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double SCREEN_WIDTH = 1300;
+
+    @BeforeAll
+    public static void startToolkit() {
+        // Scenes, images and the game loop's AnimationTimer all need the FX toolkit
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException alreadyStarted) {
+            // Started by an earlier test class
+        }
+        Platform.setImplicitExit(false);
+        SoundManager.setEnabled(false);
+    }
+
+    @Test
+    public void testFinishedLevelsAreGarbageCollected() throws Exception {
+        Stage stage = onFxThread(Stage::new);
+        List<WeakReference<LevelParent>> finished = new ArrayList<>();
+        for (String levelName : LEVELS) {
+            finished.add(playAndDispose(stage, levelName));
+        }
+        onFxThread(() -> {
+            // As when the next level's scene replaces the last one
+            stage.hide();
+            stage.setScene(null);
+            return null;
+        });
+
+        for (int attempt = 0; attempt < 50 && !allCleared(finished); attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        for (int i = 0; i < finished.size(); i++) {
+            assertNull(finished.get(i).get(), LEVELS[i] + " is still reachable after being disposed.");
+        }
+    }
+
+    /**
+     * Plays a level the way the game does: its scene is put on the stage with the debug overlay showing, it is
+     * started so its AnimationTimer drives ticks and its input handlers are bound, and it is disposed once a few
+     * frames have run. The next level's scene replaces it on the stage.
+     */
+    private static WeakReference<LevelParent> playAndDispose(Stage stage, String levelName) throws Exception {
+        LevelParent level = onFxThread(() -> {
+            LevelParent created = LevelCatalog.getInstance().create(levelName, SCREEN_HEIGHT, SCREEN_WIDTH);
+            stage.setScene(created.initializeScene());
+            created.setDebugOverlayVisible(true);
+            created.startGame();
+            stage.show();
+            return created;
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (onFxThread(() -> level.getGameLoop().getTickCount()) < 10) {
+            assertTrue(System.nanoTime() < deadline, levelName + " should tick from its AnimationTimer.");
+            Thread.sleep(10);
+        }
+        onFxThread(() -> {
+            level.dispose();
+            return null;
+        });
+        assertFalse(level.getGameLoop().isRunning());
+        return new WeakReference<>(level);
+    }
+
+    private static <T> T onFxThread(Callable<T> task) throws Exception {
+        FutureTask<T> future = new FutureTask<>(task);
+        Platform.runLater(future);
+        return future.get(5, TimeUnit.SECONDS);
+    }
+
+    private static boolean allCleared(List<WeakReference<LevelParent>> references) {
+        for (WeakReference<LevelParent> reference : references) {
+            if (reference.get() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
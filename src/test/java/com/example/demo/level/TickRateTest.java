@@ -0,0 +1,101 @@
+package com.example.demo.level;
+
+import com.example.demo.SoundManager;
+import com.example.demo.activeactor.ActiveActorDestructible;
+import com.example.demo.activeactor.BossMissiles;
+import com.example.demo.activeactor.EnemyJet;
+import com.example.demo.activeactor.EnemyMissiles;
+import com.example.demo.activeactor.Meteor;
+import com.example.demo.activeactor.PlayerJet;
+import com.example.demo.activeactor.PlayerMissiles;
+import com.example.demo.engine.GameRandom;
+import com.example.demo.simulation.HeadlessRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TickRateTest {
+
+    private static final double SLOW_TICK_RATE = 25;
+    private static final double FAST_TICK_RATE = 100;
+    private static final int SIMULATED_SECONDS = 10;
+    private static final int ENEMY_SLOTS = 4_000;
+    private static final double SPAWN_RATE = 0.05;
+
+    @BeforeEach
+    public void setUp() {
+        SoundManager.setEnabled(false);
+        GameRandom.setRunSeed(7);
+    }
+
+    @Test
+    public void testActorsCoverTheSameDistancePerSecondAtAnyTickRate() {
+        double[] slow = distancesAfterOneSecond(SLOW_TICK_RATE);
+        double[] fast = distancesAfterOneSecond(FAST_TICK_RATE);
+
+        assertArrayEquals(slow, fast, 1e-6, "A simulated second should move every actor equally far.");
+        assertEquals(-150, slow[0], 1e-6, "Enemy jets should fly at their per-second speed.");
+    }
+
+    @Test
+    public void testEnemiesSpawnEquallyOftenAtAnyTickRate() {
+        int slow = enemiesSpawned(SLOW_TICK_RATE);
+        int fast = enemiesSpawned(FAST_TICK_RATE);
+
+        // Each free slot fills at the spawn rate, so the slots left empty decay exponentially
+        double expected = ENEMY_SLOTS * (1 - Math.exp(-SPAWN_RATE * SIMULATED_SECONDS));
+        assertEquals(expected, slow, expected * 0.1);
+        assertEquals(expected, fast, expected * 0.1);
+    }
+
+    /**
+     * Updates one actor of every moving kind for one simulated second at the given tick rate.
+     *
+     * @return how far each actor moved
+     */
+    private static double[] distancesAfterOneSecond(double tickRate) {
+        LevelParent level = HeadlessRunner.createLevel("LevelOne");
+        level.setTickRate(tickRate);
+        PlayerJet user = new PlayerJet(5);
+        user.moveRight();
+        user.moveDown();
+        EnemyJet enemy = new EnemyJet(level, 1000, 100);
+        PlayerMissiles playerMissile = new PlayerMissiles(0, 0);
+        EnemyMissiles enemyMissile = new EnemyMissiles(1000, 0);
+        BossMissiles bossMissile = new BossMissiles(0);
+        Meteor meteor = new Meteor(0, 0, 250);
+        List<ActiveActorDestructible> actors = List.of(enemy, user, playerMissile, enemyMissile, bossMissile, meteor);
+
+        for (int tick = 0; tick < Math.round(tickRate); tick++) {
+            for (ActiveActorDestructible actor : actors) {
+                actor.updateActor(level.getTickSeconds());
+            }
+        }
+        return new double[] {enemy.getTranslateX(), user.getTranslateX(), user.getTranslateY(),
+                playerMissile.getTranslateX(), enemyMissile.getTranslateX(), bossMissile.getTranslateX(),
+                meteor.getTranslateY()};
+    }
+
+    /**
+     * Runs the enemy spawn step of a level with many free slots for the simulated time at the given tick rate.
+     *
+     * @return the number of enemies spawned
+     */
+    private static int enemiesSpawned(double tickRate) {
+        LevelDefinition levelOne = LevelCatalog.getInstance().get("LevelOne");
+        LevelDefinition definition = new LevelDefinition(levelOne.name(), levelOne.title(),
+                levelOne.backgroundImageName(), levelOne.playerInitialHealth(), levelOne.enemyType(), ENEMY_SLOTS,
+                SPAWN_RATE, levelOne.lanes(), 0, 0, 0, levelOne.winCondition(), levelOne.killsToWin(),
+                levelOne.nextLevel());
+        GenericLevel level = new GenericLevel(definition, 750, 1300);
+        level.setTickRate(tickRate);
+
+        for (int tick = 0; tick < SIMULATED_SECONDS * Math.round(tickRate); tick++) {
+            level.spawnEnemyUnits();
+        }
+        return level.getEnemyUnitCount();
+    }
+}
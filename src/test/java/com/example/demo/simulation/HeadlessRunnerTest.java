@@ -0,0 +1,55 @@
+package com.example.demo.simulation;
+
+import com.example.demo.engine.GameRandom;
+import com.example.demo.level.LevelParent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeadlessRunnerTest {
+
+    @Test
+    public void testLevelRunsWithoutFxToolkit() {
+        LevelParent level = HeadlessRunner.createLevel("LevelOne");
+        HeadlessRunner runner = new HeadlessRunner(level);
+
+        runner.run(100);
+
+        assertEquals(100, runner.getTicks(), "The level should step without a scene or FX thread.");
+        assertFalse(level.isRendered(), "A headless level should never build a scene graph.");
+    }
+
+    @Test
+    public void testIdlePlayerEventuallyLoses() {
+        LevelParent level = HeadlessRunner.createLevel("LevelOne");
+        int[] gameOvers = new int[1];
+        level.setOnGameOver(() -> gameOvers[0]++);
+        HeadlessRunner runner = new HeadlessRunner(level);
+
+        runner.run(100_000);
+
+        assertTrue(runner.isFinished(), "Enemies reaching the left edge should eventually end the level.");
+        assertTrue(level.isGameOver(), "A player who never fires should lose.");
+        assertEquals(1, gameOvers[0], "Losing should run the game over callback once.");
+        assertEquals("lost", level.getFrameReport().outcome());
+        assertTrue(level.getFrameReport().ticks().count() > 0, "Tick times should be summarized when the level ends.");
+    }
+
+    @Test
+    public void testSameSeedReplaysTheSameRun() {
+        for (String levelName : new String[] {"LevelOne", "LevelFour"}) {
+            LevelParent first = HeadlessRunner.createLevel(levelName);
+            first.setRandom(new GameRandom(42));
+            HeadlessRunner firstRunner = new HeadlessRunner(first);
+            firstRunner.run(100_000);
+
+            LevelParent second = HeadlessRunner.createLevel(levelName);
+            second.setRandom(new GameRandom(42));
+            HeadlessRunner secondRunner = new HeadlessRunner(second);
+            secondRunner.run(100_000);
+
+            assertEquals(firstRunner.getTicks(), secondRunner.getTicks(), levelName + " should replay identically.");
+            assertEquals(first.getViewportCuller().getTotalCulledCount(), second.getViewportCuller().getTotalCulledCount());
+        }
+    }
+}
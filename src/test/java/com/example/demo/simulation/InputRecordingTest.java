@@ -0,0 +1,67 @@
+package com.example.demo.simulation;
+
+import com.example.demo.InputAction;
+import com.example.demo.level.LevelParent;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InputRecordingTest {
+
+    @Test
+    public void testSaveAndLoadRoundTrip() throws IOException {
+        InputRecording recording = new InputRecording("LevelOne", -42);
+        recording.record(0, InputAction.MOVE_UP);
+        recording.record(3, InputAction.FIRE);
+        recording.record(3, InputAction.STOP_VERTICAL);
+        recording.setTickCount(10);
+
+        StringWriter out = new StringWriter();
+        recording.save(out);
+        InputRecording loaded = InputRecording.load(new StringReader(out.toString()));
+
+        assertEquals("LevelOne", loaded.getLevelName());
+        assertEquals(-42, loaded.getSeed());
+        assertEquals(10, loaded.getTickCount());
+        assertEquals(3, loaded.size());
+        assertEquals(3, loaded.getTick(2));
+        assertEquals(InputAction.STOP_VERTICAL, loaded.getAction(2));
+    }
+
+    @Test
+    public void testMalformedRecordingsAreRejected() {
+        assertThrows(IOException.class, () -> InputRecording.load(new StringReader("level x\n")));
+        assertThrows(IOException.class, () -> InputRecording.load(new StringReader(
+                "# input recording v1\nlevel x\nseed 1\nticks 5\n2 JUMP\n")));
+    }
+
+    @Test
+    public void testReplayReproducesARecordedSession() throws Exception {
+        LevelParent recorded = HeadlessRunner.createLevel("LevelOne");
+        HeadlessRunner recordedRunner = new HeadlessRunner(recorded);
+        InputRecording recording = recorded.recordInputs(null);
+        SplittableRandom player = new SplittableRandom(5);
+        InputAction[] actions = InputAction.values();
+        while (recordedRunner.run(1) == 1 && recordedRunner.getTicks() < 5_000) {
+            if (player.nextInt(4) == 0) {
+                recorded.dispatchInput(actions[player.nextInt(actions.length)]);
+            }
+        }
+
+        StringWriter out = new StringWriter();
+        recording.save(out);
+        HeadlessRunner replayed = ReplayRunner.replay(InputRecording.load(new StringReader(out.toString())));
+
+        assertTrue(recording.size() > 20, "The scripted player should have produced plenty of inputs.");
+        assertEquals(recordedRunner.getTicks(), replayed.getTicks());
+        assertEquals(recordedRunner.getNextLevel(), replayed.getNextLevel());
+        assertEquals(recordedRunner.isFinished(), replayed.isFinished());
+        assertEquals(recorded.getViewportCuller().getTotalCulledCount(),
+                replayed.getLevel().getViewportCuller().getTotalCulledCount());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.demo.simulation;
+
+import com.example.demo.engine.GameLoop;
+import com.example.demo.engine.GameRandom;
+import javafx.application.Platform;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SoakRunnerTest {
+
+    @Test
+    public void testShortSoakWritesSamplesAcrossLevels() {
+        GameRandom.setRunSeed(7);
+        int loopsBefore = GameLoop.getRunningCount();
+        SoakRunner runner = new SoakRunner(SoakRunner.randomPilot(7), 1_000);
+        StringWriter csv = new StringWriter();
+        runner.writeCsvTo(csv);
+
+        runner.run(Long.MAX_VALUE, 40_000);
+
+        assertEquals(40_000, runner.getTicks());
+        assertEquals(40, runner.getSamples().size());
+        assertTrue(runner.getLevelsPlayed() > 1, "Finished levels should be followed by new ones.");
+        String[] rows = csv.toString().split("\\R");
+        assertEquals(SoakRunner.CSV_HEADER, rows[0]);
+        assertEquals(41, rows.length);
+        assertEquals(SoakRunner.CSV_HEADER.split(",").length, rows[1].split(",").length);
+        for (SoakRunner.Sample sample : runner.getSamples()) {
+            assertEquals(0, sample.sceneNodes(), "Headless levels should never build a scene graph.");
+            assertEquals(1, sample.runningLoops(), "Only the level being played should have its loop running.");
+        }
+        assertTrue(runner.findUnboundedGrowth().isEmpty(), String.join("; ", runner.findUnboundedGrowth()));
+        assertEquals(loopsBefore, GameLoop.getRunningCount(), "Every level's loop should be stopped once the run ends.");
+    }
+
+    @Test
+    public void testLoopLeftRunningIsReported() {
+        GameRandom.setRunSeed(7);
+        List<GameLoop> leaked = new ArrayList<>();
+        SoakRunner.Pilot leakingPilot = (level, tick) -> {
+            if (tick == 0) {
+                // Stands in for a level part that starts its own loop and is never stopped
+                GameLoop loop = new GameLoop(60, () -> { });
+                loop.setManualFrames(true);
+                loop.start();
+                leaked.add(loop);
+            }
+        };
+        SoakRunner runner = new SoakRunner(leakingPilot, 1_000);
+        try {
+            runner.run(Long.MAX_VALUE, 20_000);
+        } finally {
+            leaked.forEach(GameLoop::stop);
+        }
+
+        List<String> problems = runner.findUnboundedGrowth();
+        assertTrue(runner.getLevelsPlayed() > 1);
+        assertTrue(problems.stream().anyMatch(problem -> problem.contains("still running after")),
+                String.join("; ", problems));
+        assertTrue(problems.stream().anyMatch(problem -> problem.contains("running at once")),
+                String.join("; ", problems));
+    }
+
+    @Test
+    public void testRenderedSoakSamplesTheSceneGraph() {
+        // Decoding the level's images needs the FX toolkit, though not its application thread
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException alreadyStarted) {
+            // Started by an earlier test class
+        }
+        GameRandom.setRunSeed(7);
+        SoakRunner runner = new SoakRunner(SoakRunner.randomPilot(7), 500);
+        runner.setRendered(true);
+
+        runner.run(Long.MAX_VALUE, 5_000);
+
+        assertEquals(10, runner.getSamples().size());
+        for (SoakRunner.Sample sample : runner.getSamples()) {
+            assertTrue(sample.sceneNodes() > 0, "Rendered levels should sample their scene graph.");
+        }
+        assertTrue(runner.findUnboundedGrowth().isEmpty(), String.join("; ", runner.findUnboundedGrowth()));
+    }
+
+    @Test
+    public void testSteadyOrLevellingSeriesAreNotGrowth() {
+        double[] flat = new double[40];
+        double[] warmUp = new double[40];
+        double[] sawtooth = new double[40];
+        for (int i = 0; i < 40; i++) {
+            flat[i] = 100;
+            warmUp[i] = Math.min(1_000, 100 + i * 50);
+            sawtooth[i] = 1_000 + (i % 5) * 400;
+        }
+
+        assertFalse(SoakRunner.keepsGrowing(flat, true, 10));
+        assertFalse(SoakRunner.keepsGrowing(warmUp, true, 10));
+        assertFalse(SoakRunner.keepsGrowing(sawtooth, false, 10));
+    }
+
+    @Test
+    public void testSteadyClimbIsGrowth() {
+        double[] leak = new double[40];
+        double[] leakUnderNoise = new double[40];
+        for (int i = 0; i < 40; i++) {
+            leak[i] = 100 + i * 10;
+            leakUnderNoise[i] = 1_000 + i * 100 + (i % 5) * 400;
+        }
+
+        assertTrue(SoakRunner.keepsGrowing(leak, true, 10));
+        assertTrue(SoakRunner.keepsGrowing(leakUnderNoise, false, 10));
+        assertFalse(SoakRunner.keepsGrowing(leak, true, 1_000), "Growth within the slack should be ignored.");
+        assertFalse(SoakRunner.keepsGrowing(new double[] {1, 2, 3}, true, 0), "Too few samples to judge.");
+    }
+}